@@ -0,0 +1,66 @@
+package library.bench;
+
+import library.*;
+
+import java.util.Random;
+
+/**
+ * BENCHMARK ARSIP KOLOM
+ * Mengukur kecepatan query laporan (denda per bulan, tingkat keterlambatan per kategori)
+ * di atas TransactionArchive berisi jutaan baris transaksi selesai.
+ *
+ * Pemakaian: java -Xmx2g -cp benchmarks/target/benchmarks.jar library.bench.ArchiveScanBenchmark [jumlahBaris] [putaran]
+ */
+public class ArchiveScanBenchmark {
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        TransactionArchive archive = createArchive(rows);
+        double megabytes = archive.getColumnBytes() / (1024.0 * 1024.0);
+        System.out.printf("Baris: %d | kolom: %.0f MB (%.0f byte/baris)%n", rows, megabytes,
+                archive.getColumnBytes() / (double) rows);
+
+        for (int round = 1; round <= rounds; round++) {
+            long start = System.nanoTime();
+            int months = archive.feesPerMonth().size();
+            long feesNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            int categories = archive.lateReturnRateByCategory().size();
+            long lateNanos = System.nanoTime() - start;
+
+            System.out.printf("putaran %d | denda/bulan (%d bulan): %6.1f ms, %5.0f jt baris/s"
+                            + " | terlambat/kategori (%d): %6.1f ms, %5.0f jt baris/s%n",
+                    round, months, feesNanos / 1e6, rows * 1e3 / feesNanos,
+                    categories, lateNanos / 1e6, rows * 1e3 / lateNanos);
+        }
+    }
+
+    // Riwayat sintetis lima tahun, berurutan menurut tanggal kembali seperti hasil pengarsipan
+    private static TransactionArchive createArchive(int rows) {
+        String[] types = {"Silver", "Gold", "Platinum"};
+        String[] categories = {"Fiction", "Non-Fiction", "Science", "Technology", "History"};
+        Member[] members = new Member[10_000];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = new Member("Member " + i, "m" + i + "@email.com", "081234567890", 2020, types[i % 3]);
+        }
+        Book[] books = new Book[20_000];
+        for (int i = 0; i < books.length; i++) {
+            books[i] = new Book("Judul " + i, "Penulis " + i, categories[i % categories.length], 2000, 5);
+        }
+
+        TransactionArchive archive = new TransactionArchive();
+        Random random = new Random(3);
+        int firstDay = EpochDay.parse("01-01-2021", 1900, 2025);
+        for (int i = 0; i < rows; i++) {
+            int returnDay = firstDay + (int) ((long) i * 1825 / rows);
+            int borrowDay = returnDay - 1 - random.nextInt(20);
+            int dueDay = borrowDay + 14;
+            int late = Math.max(0, returnDay - dueDay);
+            archive.append(i + 1, members[random.nextInt(members.length)], books[random.nextInt(books.length)],
+                    borrowDay, dueDay, returnDay, late, late * 200_000L);
+        }
+        return archive;
+    }
+}
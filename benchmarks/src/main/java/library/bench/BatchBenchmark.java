@@ -0,0 +1,115 @@
+package library.bench;
+
+import library.Book;
+import library.EpochDay;
+import library.LibraryService;
+import library.Member;
+import library.Transaction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH PINJAM/KEMBALI MASSAL
+ * Membandingkan jalur per item (borrow/processReturn satu per satu) dengan
+ * borrowAll/returnAll untuk sejumlah buku, dengan dan tanpa journal.
+ * Skor = waktu untuk meminjam lalu mengembalikan seluruh item.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchBenchmark {
+
+    // Isi keranjang per member (Platinum: batas 10)
+    private static final int BASKET = 10;
+
+    // Jumlah buku per operasi
+    @Param({"10", "1000"})
+    public int items;
+
+    // Dengan journal write-ahead (fsync per group commit) atau murni di memori
+    @Param({"false", "true"})
+    public boolean journaled;
+
+    private Path directory;
+    private LibraryService library;
+    private Member[] members;
+    private Book[] books;
+    private int borrowDay;
+
+    // Layanan baru setiap iterasi agar riwayat transaksi (dan GC-nya) tidak menumpuk
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        if (journaled) {
+            directory = Files.createTempDirectory("batch-bench");
+            library = LibraryService.open(directory.resolve("library.journal"));
+        } else {
+            library = new LibraryService();
+        }
+        members = new Member[(items + BASKET - 1) / BASKET];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = new Member("Member " + i, "m" + i + "@mail.com", "081234567890", 2020, "Platinum");
+            library.registerMember(members[i]);
+        }
+        books = new Book[items];
+        for (int i = 0; i < items; i++) {
+            books[i] = new Book("Judul " + i, "Penulis " + i, "Science", 2010, 1000);
+            library.registerBook(books[i]);
+        }
+        borrowDay = EpochDay.of(2025, 1, 1);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        library.close();
+        if (directory != null) {
+            Files.deleteIfExists(directory.resolve("library.journal"));
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Benchmark
+    public int perItem() {
+        List<Transaction> loans = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            loans.add(library.borrow(members[i / BASKET], books[i], borrowDay, 14));
+        }
+        int returned = 0;
+        for (Transaction t : loans) {
+            if (library.processReturn(t, borrowDay + 7).isSuccess()) returned++;
+        }
+        return returned;
+    }
+
+    @Benchmark
+    public int batch() {
+        List<Transaction> loans = new ArrayList<>(items);
+        for (int start = 0; start < items; start += BASKET) {
+            List<Book> basket = Arrays.asList(books).subList(start, Math.min(items, start + BASKET));
+            loans.addAll(library.borrowAll(members[start / BASKET], basket, borrowDay, 14).getTransactions());
+        }
+        return library.returnAll(loans, borrowDay + 7).getSuccessCount();
+    }
+}
@@ -0,0 +1,88 @@
+package library.bench;
+
+import library.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH BOOK
+ * Throughput borrowBook()/returnBook() saat banyak thread berebut copy:
+ * satu judul populer (kontensi maksimum) dan tersebar di banyak judul.
+ *
+ * Jumlah thread diatur lewat opsi JMH -t, contoh: -t 1,4,16
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookBenchmark {
+
+    // Jumlah judul pada dataset (1 = satu judul populer)
+    @Param({"1", "1024"})
+    public int titles;
+
+    // Copy per judul
+    @Param({"4"})
+    public int copies;
+
+    private Book[] books;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        books = new Book[titles];
+        for (int i = 0; i < titles; i++) {
+            books[i] = new Book("Judul " + i, "Penulis " + i, "Fiction", 2000, copies);
+        }
+    }
+
+    // Pinjam lalu kembalikan copy dari judul acak
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean borrowAndReturn() {
+        Book book = books[titles == 1 ? 0 : ThreadLocalRandom.current().nextInt(titles)];
+        boolean borrowed = book.borrowBook();
+        if (borrowed) {
+            book.returnBook();
+        }
+        return borrowed;
+    }
+
+    // Peminjam dan pengembali terpisah agar CAS saling bertabrakan di dua arah
+    @Benchmark
+    @Group("split")
+    @GroupThreads(2)
+    public void borrower(Blackhole bh) {
+        bh.consume(books[pick()].borrowBook());
+    }
+
+    @Benchmark
+    @Group("split")
+    @GroupThreads(2)
+    public void returner() {
+        books[pick()].returnBook();
+    }
+
+    private int pick() {
+        return titles == 1 ? 0 : ThreadLocalRandom.current().nextInt(titles);
+    }
+}
@@ -0,0 +1,96 @@
+package library.bench;
+
+import library.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BENCHMARK BORROW/RETURN
+ * Mengukur throughput borrowBook()/returnBook() saat banyak thread berebut copy,
+ * sekaligus memastikan tidak ada copy yang terjual ganda atau update yang hilang.
+ *
+ * Pemakaian: java -cp benchmarks/target/benchmarks.jar library.bench.BookContentionBenchmark [durasiMs] [jumlahJudul]
+ */
+public class BookContentionBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        long durationMs = args.length > 0 ? Long.parseLong(args[0]) : 1000;
+        int titles = args.length > 1 ? Integer.parseInt(args[1]) : 1024;
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+
+        System.out.println("Durasi per skenario: " + durationMs + " ms, core: " + maxThreads);
+        System.out.println("thread | satu judul (ops/s) | " + titles + " judul (ops/s)");
+
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            double hot = run(threads, 1, durationMs);
+            double spread = run(threads, titles, durationMs);
+            System.out.printf("%6d | %18.0f | %18.0f%n", threads, hot, spread);
+        }
+    }
+
+    // Menjalankan satu skenario dan mengembalikan throughput borrow+return per detik
+    private static double run(int threads, int titles, long durationMs) throws InterruptedException {
+        int copiesPerTitle = 4;
+        Book[] books = new Book[titles];
+        AtomicInteger[] holders = new AtomicInteger[titles];
+        for (int i = 0; i < titles; i++) {
+            books[i] = new Book("Judul " + i, "Penulis " + i, "Fiction", 2000, copiesPerTitle);
+            holders[i] = new AtomicInteger();
+        }
+
+        AtomicLong operations = new AtomicLong();
+        AtomicInteger oversold = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        long deadline = System.nanoTime() + durationMs * 1_000_000L + 50_000_000L;
+
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long ops = 0;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while ((ops & 1023) != 0 || System.nanoTime() < deadline) {
+                    int i = titles == 1 ? 0 : random.nextInt(titles);
+                    if (books[i].borrowBook()) {
+                        // Jumlah peminjam bersamaan tidak boleh melebihi total copy
+                        if (holders[i].incrementAndGet() > copiesPerTitle) {
+                            oversold.incrementAndGet();
+                        }
+                        holders[i].decrementAndGet();
+                        books[i].returnBook();
+                        ops += 2;
+                    } else {
+                        ops++;
+                    }
+                }
+                operations.addAndGet(ops);
+            });
+            workers[t].start();
+        }
+
+        long began = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - began;
+
+        // Setelah semua pinjaman dikembalikan, stok harus kembali penuh dan konsisten
+        for (Book book : books) {
+            if (book.getAvailableCopies() != copiesPerTitle || !book.getIsAvailable()) {
+                throw new IllegalStateException("Update hilang pada " + book.getBookId());
+            }
+        }
+        if (oversold.get() > 0) {
+            throw new IllegalStateException("Copy terjual ganda: " + oversold.get() + " kali");
+        }
+        return operations.get() * 1_000_000_000.0 / elapsed;
+    }
+}
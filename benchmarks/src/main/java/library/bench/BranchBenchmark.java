@@ -0,0 +1,100 @@
+package library.bench;
+
+import library.Book;
+import library.BranchNetwork;
+import library.EpochDay;
+import library.LibraryBranch;
+import library.Member;
+import library.Transaction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH MULTI-CABANG
+ * Throughput pinjam + kembali untuk jumlah kerja tetap yang dibagi rata ke sejumlah shard
+ * cabang, masing-masing dengan thread penulis sendiri. Di mesin multi-core throughput harus
+ * naik seiring jumlah shard (sampai jumlah core); di satu core hasilnya datar.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g"})
+public class BranchBenchmark {
+    private static final int CYCLES = 4096;
+
+    @Param({"1", "2", "4", "8"})
+    public int shards;
+
+    private BranchNetwork network;
+    private final List<LibraryBranch> branches = new ArrayList<>();
+    private final List<Member> members = new ArrayList<>();
+    private final List<Book> books = new ArrayList<>();
+    private int borrowDay;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        network = new BranchNetwork();
+        for (int s = 0; s < shards; s++) {
+            LibraryBranch branch = network.addBranch("C" + s, "Cabang " + s);
+            Member member = new Member("Member " + s, "m" + s + "@mail.com", "081234567890", 2020, "Platinum");
+            Book book = new Book("Judul " + s, "Penulis " + s, "Science", 2010, 10);
+            branch.registerMember(member);
+            branch.registerBook(book).join();
+            branches.add(branch);
+            members.add(member);
+            books.add(book);
+        }
+        borrowDay = EpochDay.of(2025, 1, 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        network.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CYCLES)
+    public int borrowAndReturn() {
+        int perShard = CYCLES / shards;
+        List<CompletableFuture<Integer>> work = new ArrayList<>(shards);
+        for (int s = 0; s < shards; s++) {
+            Member member = members.get(s);
+            Book book = books.get(s);
+            work.add(branches.get(s).submit(service -> {
+                int done = 0;
+                for (int i = 0; i < perShard; i++) {
+                    Transaction t = service.borrow(member, book, borrowDay, 14);
+                    service.processReturn(t, borrowDay + 7);
+                    done++;
+                }
+                return done;
+            }));
+        }
+        int total = 0;
+        for (CompletableFuture<Integer> w : work) {
+            total += w.join();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,75 @@
+package library.bench;
+
+import library.Book;
+import library.EpochDay;
+import library.LibraryService;
+import library.Member;
+import library.Outcome;
+import library.Transaction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH CHECKOUT
+ * Latensi pinjam + kembali lewat LibraryService (dengan pengecekan batas pinjam)
+ * untuk riwayat transaksi yang makin panjang. Latensi harus tetap datar.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class CheckoutBenchmark {
+
+    // Jumlah transaksi yang sudah selesai di repository sebelum diukur
+    @Param({"0", "100000", "1000000"})
+    public int historySize;
+
+    private LibraryService library;
+    private Member[] members;
+    private Book[] books;
+    private int borrowDay;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        library = new LibraryService();
+        members = new Member[1000];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = new Member("Member " + i, "m" + i + "@mail.com", "081234567890", 2020, "Silver");
+            library.registerMember(members[i]);
+        }
+        books = new Book[1000];
+        for (int i = 0; i < books.length; i++) {
+            books[i] = new Book("Judul " + i, "Penulis " + i, "Science", 2010, 10);
+            library.registerBook(books[i]);
+        }
+
+        borrowDay = EpochDay.of(2025, 1, 1);
+        for (int i = 0; i < historySize; i++) {
+            Transaction t = library.borrow(members[i % members.length], books[i % books.length], borrowDay, 14);
+            library.processReturn(t, borrowDay + 7);
+        }
+    }
+
+    @Benchmark
+    public Outcome borrowAndReturn() {
+        int i = cursor++ & 0x3FF;
+        Transaction t = library.borrow(members[i % members.length], books[i % books.length], borrowDay, 14);
+        return library.processReturn(t, borrowDay + 7);
+    }
+}
@@ -0,0 +1,115 @@
+package library.bench;
+
+import library.ImportReport;
+import library.LibraryCsv;
+import library.LibraryService;
+import library.Member;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH IMPOR CSV
+ * Impor berkas member berukuran besar: jalur per baris (BufferedReader, split, constructor
+ * Member dengan exception, registerMember satu per satu) dibandingkan LibraryCsv (chunk
+ * paralel, validasi bitmask, nomor ID dari satu blok, registrasi per chunk).
+ * Skor = waktu impor seluruh berkas ke layanan baru.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms3g", "-Xmx3g"})
+public class CsvImportBenchmark {
+
+    private static final String[] TYPES = {"Silver", "Gold", "Platinum"};
+
+    @Param({"1000000"})
+    public int rows;
+
+    // Persentase baris yang ditolak validasi
+    @Param({"1"})
+    public int invalidPercent;
+
+    private Path file;
+    private LibraryService library;
+
+    @Setup(Level.Trial)
+    public void writeFile() throws IOException {
+        file = Files.createTempFile("members", ".csv");
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("name,email,phone,registrationYear,membershipType\n");
+            for (int i = 0; i < rows; i++) {
+                boolean invalid = i % 100 < invalidPercent;
+                out.write("\"Anggota " + i + ", Cabang " + (i % 50) + "\",anggota" + i
+                        + (invalid ? "-perpustakaan" : "@perpustakaan.go.id") + ",0812" + (10_000_000 + i % 89_999_999)
+                        + "," + (2015 + i % 11) + "," + TYPES[i % TYPES.length] + "\n");
+            }
+        }
+    }
+
+    // Layanan baru setiap iterasi agar member hasil impor sebelumnya tidak menumpuk
+    @Setup(Level.Iteration)
+    public void setUp() {
+        library = new LibraryService();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        library.close();
+        library = null;
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public int perRow() throws IOException {
+        int imported = 0;
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            in.readLine();
+            String line;
+            while ((line = in.readLine()) != null) {
+                // Nama berkutip berisi koma: kolom lain dipisah dari kutip penutup
+                int close = line.indexOf('"', 1);
+                String name = line.substring(1, close);
+                String[] rest = line.substring(close + 2).split(",");
+                try {
+                    library.registerMember(new Member(name, rest[0], rest[1], Integer.parseInt(rest[2]), rest[3]));
+                    imported++;
+                } catch (IllegalArgumentException e) {
+                    // baris ditolak
+                }
+            }
+        }
+        return imported;
+    }
+
+    @Benchmark
+    public long parallelChunks() throws IOException {
+        ImportReport report = new LibraryCsv(library).importMembers(file);
+        return report.getImported();
+    }
+}
@@ -0,0 +1,106 @@
+package library.bench;
+
+import library.AvailabilityProjection;
+import library.Book;
+import library.DomainEvent;
+import library.EpochDay;
+import library.LibraryService;
+import library.Member;
+import library.MemberLedgerProjection;
+import library.Outcome;
+import library.Projection;
+import library.SearchProjection;
+import library.StatisticsProjection;
+import library.Transaction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH EVENT STREAM
+ * Pinjam + kembali lewat LibraryService tanpa stream event, dengan empat proyeksi bawaan
+ * (ketersediaan, saldo member, statistik, pencarian), dan dengan satu proyeksi yang macet
+ * total. Latensi penulis dengan proyeksi macet harus setara dengan empat proyeksi biasa.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g"})
+public class EventStreamBenchmark {
+
+    @Param({"none", "projections", "stalled"})
+    public String mode;
+
+    private LibraryService library;
+    private Member[] members;
+    private Book[] books;
+    private int borrowDay;
+    private int cursor;
+    private final CountDownLatch gate = new CountDownLatch(1);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        library = new LibraryService();
+        members = new Member[1000];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = new Member("Member " + i, "m" + i + "@mail.com", "081234567890", 2020, "Silver");
+            library.registerMember(members[i]);
+        }
+        books = new Book[1000];
+        for (int i = 0; i < books.length; i++) {
+            books[i] = new Book("Judul " + i, "Penulis " + i, "Science", 2010, 10);
+            library.registerBook(books[i]);
+        }
+        borrowDay = EpochDay.of(2025, 1, 1);
+
+        if (!mode.equals("none")) {
+            library.project(new AvailabilityProjection());
+            library.project(new MemberLedgerProjection());
+            library.project(new StatisticsProjection());
+            library.project(new SearchProjection(library.getRepository()));
+        }
+        if (mode.equals("stalled")) {
+            library.project(new Projection() {
+                public String getName() { return "stalled"; }
+                public void apply(DomainEvent event) {
+                    try {
+                        gate.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                public void reset() { }
+            });
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        gate.countDown();
+        library.close();
+    }
+
+    @Benchmark
+    public Outcome borrowAndReturn() {
+        int i = cursor++ & 0x3FF;
+        Transaction t = library.borrow(members[i % members.length], books[i % books.length], borrowDay, 14);
+        return library.processReturn(t, borrowDay + 7);
+    }
+}
@@ -0,0 +1,105 @@
+package library.bench;
+
+import library.Book;
+import library.EpochDay;
+import library.FeeSchedule;
+import library.LibraryService;
+import library.Member;
+import library.Transaction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH DENDA
+ * Menghitung denda: switch string + double (cara lama) dibandingkan tabel sen per level,
+ * serta total denda seorang member: pindai seluruh transaksi dibandingkan FeeLedger.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeeBenchmark {
+
+    private static final int MEMBERS = 1000;
+    private static final int LOANS_PER_MEMBER = 20;
+    private static final String[] TYPES = {"Silver", "Gold", "Platinum"};
+
+    private LibraryService library;
+    private Member[] members;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        library = new LibraryService();
+        members = new Member[MEMBERS];
+        Book book = new Book("Judul", "Penulis", "Science", 2010, MEMBERS * LOANS_PER_MEMBER);
+        library.registerBook(book);
+        int borrowDay = EpochDay.of(2025, 1, 1);
+        for (int i = 0; i < MEMBERS; i++) {
+            members[i] = new Member("Member " + i, "m" + i + "@mail.com", "081234567890", 2020, TYPES[i % 3]);
+            library.registerMember(members[i]);
+        }
+        for (int round = 0; round < LOANS_PER_MEMBER; round++) {
+            for (int i = 0; i < MEMBERS; i++) {
+                Transaction t = library.borrow(members[i], book, borrowDay, 14);
+                library.processReturn(t, borrowDay + 14 + (i + round) % 10);
+            }
+        }
+    }
+
+    private Member next() {
+        cursor = (cursor + 1) % MEMBERS;
+        return members[cursor];
+    }
+
+    // Cara lama: diskon dari switch string, denda double
+    @Benchmark
+    public double feeLegacy() {
+        Member m = next();
+        double discount;
+        switch (m.getMembershipType()) {
+            case "Platinum": discount = 0.50; break;
+            case "Gold": discount = 0.30; break;
+            default: discount = 0.10; break;
+        }
+        return (cursor % 10) * 2000.0 * (1 - discount);
+    }
+
+    @Benchmark
+    public long feeTable() {
+        Member m = next();
+        return FeeSchedule.current().feeCents(cursor % 10, m.getTier());
+    }
+
+    // Total denda member dengan memindai seluruh transaksi
+    @Benchmark
+    public long owedScan() {
+        Member m = next();
+        long sum = 0;
+        for (Transaction t : library.getRepository().getTransactions()) {
+            if (t.getMember() == m) {
+                sum += t.getLateFeeCents();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long owedLedger() {
+        return library.getFees().getOwedCents(next());
+    }
+}
@@ -0,0 +1,57 @@
+package library.bench;
+
+import library.BlockIdGenerator;
+import library.IdGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH ID GENERATOR
+ * Biaya membuat ID entitas: counter synchronized + String.format (cara lama)
+ * dibandingkan BlockIdGenerator dengan ID tampilan yang dirender terpisah.
+ * Jalankan dengan -t N untuk melihat efek banyak thread pada counter bersama.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    private final IdGenerator blocks = new BlockIdGenerator();
+    private final Object lock = new Object();
+    private int legacyCounter;
+
+    // Cara lama: synchronized counter lalu String.format("%03d")
+    @Benchmark
+    public String legacyFormatted() {
+        int number;
+        synchronized (lock) {
+            number = ++legacyCounter;
+        }
+        return "TRX" + String.format("%03d", number);
+    }
+
+    // Nomor saja (kunci internal); ID tampilan belum dirender
+    @Benchmark
+    public long blockNumber() {
+        return blocks.next();
+    }
+
+    // Nomor + render ID tampilan (jalur saat ID benar-benar ditampilkan/dijournal)
+    @Benchmark
+    public String blockFormatted() {
+        return IdGenerator.format("TRX", blocks.next());
+    }
+}
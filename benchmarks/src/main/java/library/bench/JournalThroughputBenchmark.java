@@ -0,0 +1,83 @@
+package library.bench;
+
+import library.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BENCHMARK JOURNAL
+ * Mengukur throughput event tahan-crash (borrow + return) lewat LibraryService dengan journal,
+ * jumlah fsync yang terjadi (group commit), lalu memverifikasi hasil pemutaran ulang.
+ *
+ * Pemakaian: java -cp benchmarks/target/benchmarks.jar library.bench.JournalThroughputBenchmark [jumlahThread] [eventPerThread]
+ */
+public class JournalThroughputBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int perThread = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+        Path file = Files.createTempFile("library", ".journal");
+
+        LibraryService service = LibraryService.open(file);
+        Member member = new Member("Bench Member", "bench@email.com", "081234567890", 2020, "Platinum");
+        service.registerMember(member);
+        Book[] books = new Book[threads];
+        for (int i = 0; i < threads; i++) {
+            books[i] = new Book("Judul " + i, "Penulis " + i, "Fiction", 2000, 1);
+            service.registerBook(books[i]);
+        }
+
+        int borrowDay = EpochDay.parse("01-12-2025", 1900, 2025);
+        AtomicLong events = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            Book book = books[t];
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perThread / 2; i++) {
+                    Transaction loan = service.borrow(member, book, borrowDay, 14);
+                    service.processReturn(loan, borrowDay + (i % 30));
+                    events.addAndGet(2);
+                }
+            });
+            workers[t].start();
+        }
+
+        long commitsBefore = service.getJournal().getCommitCount();
+        long began = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - began;
+        long commits = service.getJournal().getCommitCount() - commitsBefore;
+        service.close();
+
+        System.out.printf("Thread: %d | event tahan-crash: %d | %.0f event/s | fsync: %d (%.1f event/fsync)%n",
+                threads, events.get(), events.get() * 1_000_000_000.0 / elapsed, commits,
+                events.get() / (double) commits);
+        System.out.println("Ukuran journal: " + Files.size(file) / 1024 + " KB");
+
+        // Pemulihan: seluruh pinjaman harus kembali dengan status yang sama
+        long replayStart = System.nanoTime();
+        LibraryService recovered = LibraryService.open(file);
+        long replayNanos = System.nanoTime() - replayStart;
+        long loans = recovered.getStatistics().getTotalLoans();
+        long active = recovered.getStatistics().getActiveLoans();
+        recovered.close();
+        Files.delete(file);
+
+        if (loans != events.get() / 2 || active != 0) {
+            throw new IllegalStateException("Pemulihan tidak lengkap: " + loans + " pinjaman, " + active + " aktif");
+        }
+        System.out.printf("Replay %d pinjaman dalam %.1f ms%n", loans, replayNanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,63 @@
+package library.bench;
+
+import library.Book;
+import library.LibraryMetrics;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH METRIK
+ * Biaya instrumentasi pada jalur panas: borrowBook + returnBook (satu event terukur)
+ * dengan metrik nonaktif, aktif dengan periode sampel bawaan (1 dari 8 event diukur), dan
+ * aktif dengan setiap event diukur (dua System.nanoTime + satu bucket histogram per event).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+
+    // 0 = nonaktif, selain itu periode sampel latensi
+    @Param({"0", "8", "1"})
+    public int samplePeriod;
+
+    private Book book;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        book = new Book("Judul", "Penulis", "Science", 2010, 1000);
+        if (samplePeriod > 0) {
+            LibraryMetrics.enable(samplePeriod);
+        } else {
+            LibraryMetrics.disable();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        LibraryMetrics.disable();
+    }
+
+    @Benchmark
+    public boolean borrowAndReturn() {
+        boolean borrowed = book.borrowBook();
+        book.returnBook();
+        return borrowed;
+    }
+}
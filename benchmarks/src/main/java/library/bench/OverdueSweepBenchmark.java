@@ -0,0 +1,73 @@
+package library.bench;
+
+import library.*;
+
+import java.util.*;
+
+/**
+ * BENCHMARK OVERDUE SWEEP
+ * Membandingkan loop per objek (isOverdue + calculateFee satu per satu) dengan
+ * OverdueSweep paralel fork-join pada sejumlah besar pinjaman terbuka.
+ *
+ * Pemakaian: java -cp benchmarks/target/benchmarks.jar library.bench.OverdueSweepBenchmark [jumlahTransaksi] [putaran]
+ */
+public class OverdueSweepBenchmark {
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        List<Transaction> transactions = createTransactions(size);
+        int asOfDay = EpochDay.parse("20-12-2025", 1900, 2025);
+        OverdueSweep sweep = new OverdueSweep();
+
+        System.out.println("Transaksi: " + size + ", core: " + Runtime.getRuntime().availableProcessors());
+        for (int round = 1; round <= rounds; round++) {
+            long start = System.nanoTime();
+            Map<Member, double[]> loop = perObjectLoop(transactions, asOfDay);
+            long loopNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            OverdueReport report = sweep.sweep(transactions, asOfDay);
+            long sweepNanos = System.nanoTime() - start;
+
+            if (loop.size() != report.getPerMember().size()) {
+                throw new IllegalStateException("Hasil loop dan sweep berbeda");
+            }
+            System.out.printf("putaran %2d | loop: %8.1f jt trx/s | sweep: %8.1f jt trx/s%n",
+                    round, size * 1000.0 / loopNanos, size * 1000.0 / sweepNanos);
+        }
+    }
+
+    // Cara lama: satu per satu, hasil per member dikumpulkan dalam map
+    private static Map<Member, double[]> perObjectLoop(List<Transaction> transactions, int asOfDay) {
+        Map<Member, double[]> perMember = new HashMap<>();
+        for (Transaction t : transactions) {
+            if (t.isOverdue(asOfDay)) {
+                int daysOverdue = asOfDay - t.getDueDay();
+                double[] totals = perMember.computeIfAbsent(t.getMember(), m -> new double[2]);
+                totals[0]++;
+                totals[1] += Transaction.calculateFee(daysOverdue, t.getMember());
+            }
+        }
+        return perMember;
+    }
+
+    // Data sintetis: 10.000 member, pinjaman tersebar sepanjang tahun 2025
+    private static List<Transaction> createTransactions(int size) {
+        String[] types = {"Silver", "Gold", "Platinum"};
+        Member[] members = new Member[10_000];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = new Member("Member " + i, "member" + i + "@email.com", "0812345678" + (i % 10),
+                    2020, types[i % types.length]);
+        }
+        Book book = new Book("Judul", "Penulis", "Fiction", 2000, 1);
+        int firstDay = EpochDay.parse("01-01-2025", 1900, 2025);
+        Random random = new Random(42);
+        List<Transaction> transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Member member = members[random.nextInt(members.length)];
+            transactions.add(new Transaction(member, book, firstDay + random.nextInt(365), 14));
+        }
+        return transactions;
+    }
+}
@@ -0,0 +1,82 @@
+package library.bench;
+
+import library.Book;
+import library.Filters;
+import library.LibraryRepository;
+import library.LibraryService;
+import library.Page;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * JMH DAFTAR BERTAHAP
+ * Mengambil satu halaman (50 buku) jauh di dalam katalog: offset (lewati semua item
+ * sebelumnya) dibandingkan keyset (mulai langsung dari cursor halaman sebelumnya).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PagingBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+    private static final String[] CATEGORIES = {"Fiction", "Non-Fiction", "Science", "Technology", "History"};
+
+    // Jumlah buku di katalog
+    @Param({"100000"})
+    public int books;
+
+    // Nomor halaman yang diminta (dimulai dari 1)
+    @Param({"1", "500", "1900"})
+    public int page;
+
+    private LibraryRepository repository;
+    private String cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LibraryService library = new LibraryService();
+        for (int i = 0; i < books; i++) {
+            library.registerBook(new Book("Judul " + i, "Penulis " + i, CATEGORIES[i % CATEGORIES.length], 2010, 3));
+        }
+        repository = library.getRepository();
+        // Cursor halaman sebelumnya, seperti yang dibawa klien dari respons terakhir
+        cursor = page == 1 ? null
+                : repository.streamBooks(null, null).skip((long) (page - 1) * PAGE_SIZE - 1).findFirst()
+                        .map(Book::getBookId).orElseThrow();
+    }
+
+    @Benchmark
+    public List<Book> offset() {
+        return repository.getBooks().stream()
+                .skip((long) (page - 1) * PAGE_SIZE).limit(PAGE_SIZE).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Page<Book> keyset() {
+        return repository.pageBooks(cursor, PAGE_SIZE, null);
+    }
+
+    // Filter kategori (1 dari 5 buku cocok): keyset hanya memindai dari cursor
+    @Benchmark
+    public Page<Book> keysetFiltered() {
+        return repository.pageBooks(cursor, PAGE_SIZE, Filters.bookCategory("Science"));
+    }
+}
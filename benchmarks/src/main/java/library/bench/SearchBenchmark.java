@@ -0,0 +1,164 @@
+package library.bench;
+
+import library.Book;
+import library.BookSearchIndex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH PENCARIAN KATALOG
+ * Latensi BookSearchIndex.search() pada katalog sintetis: kata judul diambil dari kosakata
+ * dengan distribusi condong (beberapa kata sangat umum seperti "the"), penulis dari
+ * kombinasi nama depan & belakang. Target: di bawah 1 ms per query pada 5 juta judul.
+ *
+ * Katalog 5 juta judul butuh heap ±4 GB; gunakan -p catalogSize=100000 untuk uji cepat.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SearchBenchmark {
+
+    private static final String[] CATEGORIES = {"Fiction", "Non-Fiction", "Science", "Technology", "History"};
+    private static final int TITLE_WORDS = 50_000;
+    private static final int FIRST_NAMES = 2_000;
+    private static final int LAST_NAMES = 20_000;
+    private static final int QUERIES = 1024;
+
+    // Jumlah judul di katalog
+    @Param({"5000000"})
+    public int catalogSize;
+
+    // Jumlah hasil yang diminta per query
+    @Param({"10"})
+    public int limit;
+
+    private BookSearchIndex index;
+    private String[] titleWords;
+    private String[] firstNames;
+    private String[] lastNames;
+
+    private String[] singleWord;
+    private String[] twoWords;
+    private String[] wordAndPrefix;
+    private String[] prefixOnly;
+    private String[] authorName;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        titleWords = vocabulary(random, TITLE_WORDS, 3);
+        firstNames = vocabulary(random, FIRST_NAMES, 2);
+        lastNames = vocabulary(random, LAST_NAMES, 3);
+
+        index = new BookSearchIndex();
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < catalogSize; i++) {
+            title.setLength(0);
+            int words = 2 + random.nextInt(5);
+            for (int w = 0; w < words; w++) {
+                if (w > 0) title.append(' ');
+                title.append(titleWords[skewed(random, TITLE_WORDS)]);
+            }
+            String author = firstNames[random.nextInt(FIRST_NAMES)] + " " + lastNames[skewed(random, LAST_NAMES)];
+            index.add(new Book(title.toString(), author, CATEGORIES[i % CATEGORIES.length], 1950 + i % 75, 1));
+        }
+
+        singleWord = new String[QUERIES];
+        twoWords = new String[QUERIES];
+        wordAndPrefix = new String[QUERIES];
+        prefixOnly = new String[QUERIES];
+        authorName = new String[QUERIES];
+        for (int q = 0; q < QUERIES; q++) {
+            String a = titleWords[skewed(random, TITLE_WORDS)];
+            String b = titleWords[skewed(random, TITLE_WORDS)];
+            singleWord[q] = a + " ";
+            twoWords[q] = a + " " + b + " ";
+            wordAndPrefix[q] = a + " " + b.substring(0, Math.min(b.length(), 3));
+            prefixOnly[q] = b.substring(0, Math.min(b.length(), 2 + q % 3));
+            authorName[q] = lastNames[skewed(random, LAST_NAMES)] + " " + a.charAt(0);
+        }
+        System.out.println("\nKatalog: " + index.size() + " judul, " + index.getTermCount() + " kata unik");
+    }
+
+    // Kosakata sintetis dari suku kata acak
+    private static String[] vocabulary(SplittableRandom random, int size, int maxSyllables) {
+        String[] onsets = {"b", "d", "f", "g", "h", "k", "l", "m", "n", "p", "r", "s", "t", "w", "br", "st", "tr"};
+        String[] vowels = {"a", "e", "i", "o", "u", "ai", "ou"};
+        Set<String> seen = new LinkedHashSet<>();
+        StringBuilder word = new StringBuilder();
+        while (seen.size() < size) {
+            word.setLength(0);
+            int syllables = 1 + random.nextInt(maxSyllables);
+            for (int s = 0; s < syllables; s++) {
+                word.append(onsets[random.nextInt(onsets.length)]).append(vowels[random.nextInt(vowels.length)]);
+            }
+            seen.add(word.toString());
+        }
+        return seen.toArray(new String[0]);
+    }
+
+    // Indeks condong ke awal kosakata (kata ke-0 muncul pada ±3% posisi)
+    private static int skewed(SplittableRandom random, int size) {
+        return (int) (size * Math.pow(random.nextDouble(), 3));
+    }
+
+    private String next(String[] queries) {
+        String q = queries[cursor];
+        cursor = (cursor + 1) & (QUERIES - 1);
+        return q;
+    }
+
+    @Benchmark
+    public List<Book> singleWord() {
+        return index.search(next(singleWord), limit);
+    }
+
+    @Benchmark
+    public List<Book> twoWords() {
+        return index.search(next(twoWords), limit);
+    }
+
+    // Kata lengkap diikuti awalan yang sedang diketik
+    @Benchmark
+    public List<Book> wordAndPrefix() {
+        return index.search(next(wordAndPrefix), limit);
+    }
+
+    // Autocomplete murni: 2-4 huruf pertama
+    @Benchmark
+    public List<Book> prefixOnly() {
+        return index.search(next(prefixOnly), limit);
+    }
+
+    // Nama belakang penulis + awalan satu huruf
+    @Benchmark
+    public List<Book> authorName() {
+        return index.search(next(authorName), limit);
+    }
+
+    @Benchmark
+    public List<String> complete() {
+        return index.complete(next(prefixOnly), limit);
+    }
+}
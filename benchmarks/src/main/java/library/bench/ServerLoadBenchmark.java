@@ -0,0 +1,209 @@
+package library.bench;
+
+import library.LibraryServer;
+import library.LibraryService;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BENCHMARK SERVER
+ * Load generator lokal untuk LibraryServer: sejumlah klien (virtual thread) masing-masing
+ * menjalankan siklus kios tertutup — cari buku, pinjam, lihat member, kembalikan — selama
+ * durasi tertentu, lalu melaporkan throughput dan latensi p50/p99/max per request.
+ * Tanpa URL, server dijalankan di proses yang sama (port acak, opsional dengan journal).
+ *
+ * Pemakaian: java -cp benchmarks/target/benchmarks.jar library.bench.ServerLoadBenchmark [klien] [detik] [journal|memory] [url]
+ */
+public class ServerLoadBenchmark {
+
+    private static final Pattern TRANSACTION_ID = Pattern.compile("\"transactionId\":\"(TRX\\d+)\"");
+    private static final Pattern MEMBER_ID = Pattern.compile("\"memberId\":\"(MBR\\d+)\"");
+    private static final Pattern BOOK_ID = Pattern.compile("\"bookId\":\"(BK\\d+)\"");
+    private static final String[] WORDS = {"sejarah", "algoritma", "fisika", "novel", "kimia", "bahasa"};
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        boolean journaled = args.length > 2 && args[2].equals("journal");
+
+        Path journal = null;
+        LibraryService library = null;
+        LibraryServer server = null;
+        String base;
+        if (args.length > 3) {
+            base = args[3];
+        } else {
+            if (journaled) {
+                journal = Files.createTempFile("server-bench", ".journal");
+                library = LibraryService.open(journal);
+            } else {
+                library = new LibraryService();
+            }
+            server = new LibraryServer(library, 0);
+            server.start();
+            base = "http://localhost:" + server.getPort();
+        }
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient http = HttpClient.newBuilder()
+                .executor(executor)
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        // Data awal: satu member Platinum per klien, katalog 1000 judul dengan stok besar.
+        // Registrasi dikirim paralel agar dengan journal ikut memanfaatkan group commit.
+        String[] members = new String[clients];
+        String[] books = new String[1000];
+        List<Callable<Void>> setup = new ArrayList<>();
+        for (int i = 0; i < members.length; i++) {
+            int at = i;
+            setup.add(() -> {
+                members[at] = find(MEMBER_ID, post(http, base + "/members", "name=Kios+" + at + "&email=kios" + at
+                        + "%40mail.com&phone=081234567890&year=2020&type=Platinum"));
+                return null;
+            });
+        }
+        for (int i = 0; i < books.length; i++) {
+            int at = i;
+            setup.add(() -> {
+                books[at] = find(BOOK_ID, post(http, base + "/books", "title=Buku+" + WORDS[at % WORDS.length] + "+" + at
+                        + "&author=Penulis+" + at + "&category=Science&year=2010&copies=100000"));
+                return null;
+            });
+        }
+        for (Future<Void> f : executor.invokeAll(setup)) {
+            f.get();
+        }
+
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        long[][] latencies = new long[clients][];
+        int[] counts = new int[clients];
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(clients);
+        long began = System.nanoTime();
+        for (int c = 0; c < clients; c++) {
+            int client = c;
+            executor.execute(() -> {
+                long[] samples = new long[1 << 16];
+                int n = 0;
+                int cycle = client;
+                try {
+                    while (System.nanoTime() < deadline) {
+                        String book = books[(cycle * 31) % books.length];
+                        String word = WORDS[cycle % WORDS.length];
+                        String[] urls = {
+                                base + "/books?q=" + word + "&limit=10",
+                                base + "/borrow",
+                                base + "/members/" + members[client],
+                                base + "/return"};
+                        String transactionId = null;
+                        for (int step = 0; step < urls.length; step++) {
+                            long start = System.nanoTime();
+                            String body = switch (step) {
+                                case 1 -> post(http, urls[step], "memberId=" + members[client] + "&bookId=" + book
+                                        + "&date=01-06-2025");
+                                case 3 -> post(http, urls[step], "transactionId=" + transactionId + "&date=10-06-2025");
+                                default -> get(http, urls[step]);
+                            };
+                            if (n == samples.length) {
+                                samples = Arrays.copyOf(samples, n * 2);
+                            }
+                            samples[n++] = System.nanoTime() - start;
+                            if (step == 1) {
+                                transactionId = find(TRANSACTION_ID, body);
+                            }
+                        }
+                        cycle++;
+                    }
+                } catch (Exception e) {
+                    errors.incrementAndGet();
+                } finally {
+                    latencies[client] = samples;
+                    counts[client] = n;
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        long elapsed = System.nanoTime() - began;
+
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        long[] all = new long[total];
+        int at = 0;
+        for (int c = 0; c < clients; c++) {
+            System.arraycopy(latencies[c], 0, all, at, counts[c]);
+            at += counts[c];
+        }
+        Arrays.sort(all);
+
+        System.out.printf("Klien: %d | durasi: %.1f s | request: %d | %.0f request/s | klien gagal: %d%n",
+                clients, elapsed / 1e9, total, total * 1e9 / elapsed, errors.get());
+        System.out.printf("Latensi p50: %.2f ms | p99: %.2f ms | max: %.2f ms%n",
+                percentile(all, 0.50) / 1e6, percentile(all, 0.99) / 1e6,
+                all.length == 0 ? 0 : all[all.length - 1] / 1e6);
+
+        executor.shutdownNow();
+        if (server != null) {
+            server.close();
+            library.close();
+        }
+        if (journal != null) {
+            Files.deleteIfExists(journal);
+        }
+    }
+
+    private static String get(HttpClient http, String url) throws Exception {
+        return send(http, HttpRequest.newBuilder(URI.create(url)).GET().build());
+    }
+
+    private static String post(HttpClient http, String url, String form) throws Exception {
+        return send(http, HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build());
+    }
+
+    private static String send(HttpClient http, HttpRequest request) throws Exception {
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(request.uri() + " → " + response.statusCode() + " " + response.body());
+        }
+        return response.body();
+    }
+
+    private static String find(Pattern pattern, String body) {
+        Matcher m = pattern.matcher(body);
+        if (!m.find()) {
+            throw new IllegalStateException("Respons tidak terduga: " + body);
+        }
+        return m.group(1);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+}
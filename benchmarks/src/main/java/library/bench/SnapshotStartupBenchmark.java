@@ -0,0 +1,99 @@
+package library.bench;
+
+import library.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * BENCHMARK STARTUP
+ * Membandingkan waktu cold start dari snapshot (MappedByteBuffer) dengan replay penuh journal.
+ * Data sintetis: member, buku, dan sejumlah transaksi yang sebagian besar sudah dikembalikan.
+ *
+ * Pemakaian: java -Xmx4g -cp benchmarks/target/benchmarks.jar library.bench.SnapshotStartupBenchmark [jumlahTransaksi] [putaran]
+ */
+public class SnapshotStartupBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int transactions = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        Path journalFile = Files.createTempFile("library", ".journal");
+        Path snapshotFile = Files.createTempFile("library", ".snapshot");
+        Files.delete(snapshotFile);
+
+        long begin = System.nanoTime();
+        writeHistory(journalFile, snapshotFile, transactions);
+        System.out.printf("Data dibuat dalam %.1f s | journal %d MB | snapshot %d MB%n",
+                (System.nanoTime() - begin) / 1e9, Files.size(journalFile) >> 20, Files.size(snapshotFile) >> 20);
+
+        for (int round = 1; round <= rounds; round++) {
+            System.gc();
+            long start = System.nanoTime();
+            LibraryService replayed = LibraryService.open(journalFile);
+            long replayNanos = System.nanoTime() - start;
+            long replayedLoans = replayed.getStatistics().getActiveLoans();
+            replayed.close();
+            replayed = null;
+
+            System.gc();
+            start = System.nanoTime();
+            LibraryService restored = LibraryService.open(journalFile, snapshotFile);
+            long snapshotNanos = System.nanoTime() - start;
+            long restoredLoans = restored.getStatistics().getActiveLoans();
+            restored.close();
+
+            if (replayedLoans != restoredLoans) {
+                throw new IllegalStateException("Pinjaman aktif berbeda: " + replayedLoans + " vs " + restoredLoans);
+            }
+            System.out.printf("putaran %d | replay penuh: %7.1f ms | snapshot: %7.1f ms | pinjaman aktif: %d%n",
+                    round, replayNanos / 1e6, snapshotNanos / 1e6, restoredLoans);
+        }
+        Files.delete(journalFile);
+        Files.delete(snapshotFile);
+    }
+
+    // Membuat riwayat di memori, menulis journal-nya sekaligus (tanpa menunggu tiap event), lalu snapshot
+    private static void writeHistory(Path journalFile, Path snapshotFile, int transactions) throws Exception {
+        LibraryService service = new LibraryService();
+        LibraryJournal journal = LibraryJournal.open(journalFile, 0);
+        String[] types = {"Silver", "Gold", "Platinum"};
+        String[] categories = {"Fiction", "Non-Fiction", "Science", "Technology", "History"};
+
+        Member[] members = new Member[20_000];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = new Member("Member " + i, "member" + i + "@email.com", "081234567890",
+                    2020, types[i % types.length]);
+            service.registerMember(members[i]);
+            journal.appendMemberRegistered(members[i]);
+        }
+        Book[] books = new Book[50_000];
+        for (int i = 0; i < books.length; i++) {
+            books[i] = new Book("Judul " + i, "Penulis " + (i % 5_000), categories[i % categories.length], 2000, 40);
+            service.registerBook(books[i]);
+            journal.appendBookRegistered(books[i]);
+        }
+
+        Random random = new Random(7);
+        int firstDay = EpochDay.parse("01-01-2024", 1900, 2025);
+        long last = 0;
+        for (int i = 0; i < transactions; i++) {
+            int borrowDay = firstDay + i * 700 / transactions;
+            Transaction t = service.borrow(members[random.nextInt(members.length)],
+                    books[random.nextInt(books.length)], borrowDay, 14);
+            if (t == null) {
+                continue;
+            }
+            last = journal.appendBorrowed(t);
+            // 90% sudah dikembalikan, sisanya menjadi pinjaman terbuka
+            if (random.nextInt(10) != 0) {
+                service.processReturn(t, borrowDay + random.nextInt(21));
+                last = journal.appendReturned(t);
+            }
+        }
+        journal.awaitDurable(last);
+        LibrarySnapshot.write(service.getRepository(), service.getStatistics(), service.getFees(),
+                service.getArchive(), journal.getDurableLength(), snapshotFile);
+        journal.close();
+    }
+}
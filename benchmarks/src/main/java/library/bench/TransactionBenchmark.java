@@ -0,0 +1,132 @@
+package library.bench;
+
+import library.Book;
+import library.EpochDay;
+import library.Member;
+import library.Transaction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH TRANSACTION
+ * Biaya membuat transaksi, memproses pengembalian, dan mengecek overdue
+ * di atas dataset sintetis berukuran "size".
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionBenchmark {
+
+    private static final String[] TYPES = {"Silver", "Gold", "Platinum"};
+
+    // Jumlah transaksi pada dataset
+    @Param({"1000", "100000"})
+    public int size;
+
+    private Member[] members;
+    private Book[] books;
+    private Transaction[] transactions;
+    private int borrowDay;
+    private int returnDay;
+    private int checkDay;
+    private String checkDate;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        members = new Member[Math.max(1, size / 10)];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = new Member("Member " + i, "m" + i + "@mail.com", "0812345678" + (i % 10),
+                    2020, TYPES[i % TYPES.length]);
+        }
+        books = new Book[Math.max(1, size / 20)];
+        for (int i = 0; i < books.length; i++) {
+            books[i] = new Book("Judul " + i, "Penulis " + i, "Science", 2010, 1_000_000);
+        }
+        borrowDay = EpochDay.of(2025, 1, 1);
+        returnDay = borrowDay + 20;
+        checkDay = borrowDay + 10;
+        checkDate = EpochDay.format(checkDay);
+    }
+
+    // Dataset transaksi aktif dibuat ulang setiap iterasi agar processReturn selalu bekerja
+    @Setup(Level.Iteration)
+    public void resetLoans() {
+        transactions = new Transaction[size];
+        for (int i = 0; i < size; i++) {
+            transactions[i] = newLoan(i, borrowDay - (i % 30));
+        }
+        cursor = 0;
+    }
+
+    private Transaction newLoan(int i, int day) {
+        return new Transaction(members[i % members.length], books[i % books.length], day, 14);
+    }
+
+    // Konstruksi transaksi dari tanggal yang sudah di-parse
+    @Benchmark
+    public Transaction construct() {
+        return newLoan(cursor++ & 0xFFFF, borrowDay);
+    }
+
+    // Konstruksi transaksi dari string DD-MM-YYYY (jalur input pengguna)
+    @Benchmark
+    public Transaction constructFromString() {
+        int i = cursor++ & 0xFFFF;
+        return new Transaction(members[i % members.length], books[i % books.length], "01-01-2025", 14);
+    }
+
+    // Pengembalian dengan hitung keterlambatan dan denda. Transaksi yang sudah kembali
+    // ditolak (ALREADY_RETURNED), jadi dataset dibuat ulang setiap kali cursor berputar;
+    // biaya konstruksi itu ikut terhitung, dibagi rata ke "size" operasi.
+    @Benchmark
+    public double processReturn() {
+        int i = cursor++;
+        if (i == size) {
+            resetLoans();
+            i = cursor++;
+        }
+        Transaction t = transactions[i];
+        t.processReturn(returnDay);
+        return t.getLateFee();
+    }
+
+    // Pengecekan overdue pada seluruh dataset (epoch day, tanpa alokasi)
+    @Benchmark
+    public int isOverdueScan() {
+        int overdue = 0;
+        for (Transaction t : transactions) {
+            if (t.isOverdue(checkDay)) overdue++;
+        }
+        return overdue;
+    }
+
+    // Pengecekan overdue per transaksi dengan tanggal string
+    @Benchmark
+    @OperationsPerInvocation(64)
+    public void isOverdueFromString(Blackhole bh) {
+        int base = cursor;
+        cursor = (base + 64) % size;
+        for (int k = 0; k < 64; k++) {
+            bh.consume(transactions[(base + k) % size].isOverdue(checkDate));
+        }
+    }
+}
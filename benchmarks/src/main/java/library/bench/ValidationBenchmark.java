@@ -0,0 +1,126 @@
+package library.bench;
+
+import library.Validation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH VALIDASI INPUT
+ * Validasi baris impor member: validator lama (replaceAll regex, contains ganda, trim, exception
+ * dengan pesan pada kesalahan pertama) dibandingkan Validation.member (pemindai karakter, bitmask
+ * seluruh kesalahan, tanpa exception). Skor per baris.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final String[] TYPES = {"Silver", "Gold", "Platinum"};
+
+    // Persentase baris yang memiliki minimal satu kesalahan
+    @Param({"5", "50"})
+    public int invalidPercent;
+
+    private String[] names;
+    private String[] emails;
+    private String[] phones;
+    private int[] years;
+    private String[] types;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        names = new String[ROWS];
+        emails = new String[ROWS];
+        phones = new String[ROWS];
+        years = new int[ROWS];
+        types = new String[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            names[i] = "Anggota Nomor " + i;
+            emails[i] = "anggota" + i + "@perpustakaan.go.id";
+            phones[i] = "0812-" + (1000 + random.nextInt(9000)) + "-" + (1000 + random.nextInt(9000));
+            years[i] = 2015 + random.nextInt(11);
+            types[i] = TYPES[i % TYPES.length];
+            if (random.nextInt(100) < invalidPercent) {
+                switch (random.nextInt(4)) {
+                    case 0: names[i] = "  "; break;
+                    case 1: emails[i] = "anggota" + i + "-perpustakaan"; break;
+                    case 2: phones[i] = "0812-" + i; break;
+                    default: years[i] = 2030; break;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int legacy() {
+        int valid = 0;
+        for (int i = 0; i < ROWS; i++) {
+            try {
+                legacyCheck(names[i], emails[i], phones[i], years[i], types[i]);
+                valid++;
+            } catch (IllegalArgumentException e) {
+                // baris ditolak
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int engine() {
+        int valid = 0;
+        for (int i = 0; i < ROWS; i++) {
+            if (Validation.isValid(Validation.member(names[i], emails[i], phones[i], years[i], types[i]))) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    // Salinan validator constructor Member sebelum Validation
+    private static void legacyCheck(String name, String email, String phone, int year, String type) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Nama tidak boleh kosong");
+        }
+        if (email == null || !email.contains("@") || !email.contains(".")) {
+            throw new IllegalArgumentException("Email tidak valid (harus mengandung @ dan .)");
+        }
+        String digits = phone == null ? "" : phone.replaceAll("[^0-9]", "");
+        if (digits.length() < 10 || digits.length() > 13) {
+            throw new IllegalArgumentException("Nomor telepon harus 10-13 digit");
+        }
+        if (year < 2015 || year > 2025) {
+            throw new IllegalArgumentException("Tahun registrasi harus antara 2015-2025");
+        }
+        boolean known = false;
+        for (String valid : TYPES) {
+            if (valid.equals(type)) {
+                known = true;
+            }
+        }
+        if (!known) {
+            throw new IllegalArgumentException("Membership type harus Silver/Gold/Platinum");
+        }
+    }
+}
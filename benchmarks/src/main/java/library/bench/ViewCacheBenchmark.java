@@ -0,0 +1,99 @@
+package library.bench;
+
+import library.Book;
+import library.EpochDay;
+import library.LibraryService;
+import library.LibraryViews;
+import library.Member;
+import library.Transaction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH CACHE TAMPILAN
+ * Biaya menampilkan record yang sama berulang kali (layar OPAC/staf):
+ * render langsung dari entitas dibandingkan lewat LibraryViews.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewCacheBenchmark {
+
+    // Jumlah record "panas" yang dirotasi
+    private static final int HOT = 256;
+
+    private LibraryViews views;
+    private Member[] members;
+    private Book[] books;
+    private Transaction[] transactions;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LibraryService library = new LibraryService();
+        members = new Member[HOT];
+        books = new Book[HOT];
+        transactions = new Transaction[HOT];
+        int borrowDay = EpochDay.of(2025, 1, 1);
+        for (int i = 0; i < HOT; i++) {
+            members[i] = new Member("Member " + i, "m" + i + "@mail.com", "081234567890", 2020, "Gold");
+            library.registerMember(members[i]);
+            books[i] = new Book("Judul Buku Nomor " + i, "Penulis " + i, "Science", 2010, 10);
+            library.registerBook(books[i]);
+            transactions[i] = library.borrow(members[i], books[i], borrowDay, 14);
+            if (i % 2 == 0) {
+                library.processReturn(transactions[i], borrowDay + 20);
+            }
+        }
+        views = library.getViews();
+    }
+
+    private int next() {
+        return cursor++ & (HOT - 1);
+    }
+
+    @Benchmark
+    public String renderBook() {
+        return books[next()].renderInfo();
+    }
+
+    @Benchmark
+    public String cachedBook() {
+        return views.book(books[next()]);
+    }
+
+    @Benchmark
+    public String renderMember() {
+        return members[next()].renderInfo();
+    }
+
+    @Benchmark
+    public String cachedMember() {
+        return views.member(members[next()]);
+    }
+
+    @Benchmark
+    public String renderTransaction() {
+        return transactions[next()].renderInfo();
+    }
+
+    @Benchmark
+    public String cachedTransaction() {
+        return views.transaction(transactions[next()]);
+    }
+}
@@ -0,0 +1,60 @@
+package library;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CLASS AVAILABILITY PROJECTION
+ * Jumlah copy yang tidak sedang dipinjam per buku, dibangun dari BookAdded/Borrowed/Returned.
+ * Copy yang disisihkan untuk reservasi tetap dihitung tersedia (belum dipinjam).
+ * Penegakan stok saat meminjam tetap memakai CAS di Book; proyeksi ini untuk dibaca.
+ */
+public class AvailabilityProjection implements Projection {
+    private final Map<Long, Integer> availableCopies = new ConcurrentHashMap<>();
+    private volatile long onLoan;
+
+    @Override
+    public String getName() {
+        return "availability";
+    }
+
+    @Override
+    public void apply(DomainEvent event) {
+        switch (event) {
+            case DomainEvent.BookAdded added -> availableCopies.put(added.getBookNumber(), added.getTotalCopies());
+            case DomainEvent.Borrowed borrowed -> {
+                availableCopies.merge(borrowed.getBookNumber(), -1, Integer::sum);
+                onLoan++;
+            }
+            case DomainEvent.Returned returned -> {
+                availableCopies.merge(returned.getBookNumber(), 1, Integer::sum);
+                onLoan--;
+            }
+            case DomainEvent.CopyTransferred transferred ->
+                    availableCopies.merge(transferred.getBookNumber(), transferred.getDelta(), Integer::sum);
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        availableCopies.clear();
+        onLoan = 0;
+    }
+
+    // Copy tersedia menurut proyeksi; -1 jika buku belum dikenal
+    public int getAvailableCopies(long bookNumber) {
+        Integer copies = availableCopies.get(bookNumber);
+        return copies == null ? -1 : copies;
+    }
+
+    public int getAvailableCopies(Book book) {
+        return getAvailableCopies(book.getBookNumber());
+    }
+
+    // Total copy yang sedang dipinjam di seluruh katalog
+    public long getOnLoan() {
+        return onLoan;
+    }
+}
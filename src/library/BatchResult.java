@@ -0,0 +1,79 @@
+package library;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * CLASS BATCH RESULT
+ * Hasil operasi pinjam/kembali massal: satu entri per item, sesuai urutan input.
+ */
+public class BatchResult {
+    /**
+     * Hasil satu item: transaksi yang dibuat/dikembalikan (null jika gagal sebelum ada transaksi)
+     */
+    public static class Item {
+        private final int index;
+        private final Outcome outcome;
+        private final Transaction transaction;
+
+        Item(int index, Outcome outcome, Transaction transaction) {
+            this.index = index;
+            this.outcome = outcome;
+            this.transaction = transaction;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public Transaction getTransaction() {
+            return transaction;
+        }
+
+        public boolean isSuccess() {
+            return outcome.isSuccess();
+        }
+    }
+
+    private final List<Item> items;
+    private int successCount = 0;
+
+    BatchResult(int size) {
+        this.items = new ArrayList<>(size);
+    }
+
+    void add(Outcome outcome, Transaction transaction) {
+        items.add(new Item(items.size(), outcome, transaction));
+        if (outcome.isSuccess()) {
+            successCount++;
+        }
+    }
+
+    public List<Item> getItems() {
+        return Collections.unmodifiableList(items);
+    }
+
+    public int getSuccessCount() {
+        return successCount;
+    }
+
+    public int getFailureCount() {
+        return items.size() - successCount;
+    }
+
+    // Transaksi dari item yang berhasil, sesuai urutan input
+    public List<Transaction> getTransactions() {
+        List<Transaction> result = new ArrayList<>(successCount);
+        for (Item item : items) {
+            if (item.isSuccess()) {
+                result.add(item.transaction);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,106 @@
+package library;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CLASS BLOCK ID GENERATOR
+ * Pembagi nomor tanpa lock: tiap platform thread memesan satu blok nomor dari counter
+ * bersama (satu getAndAdd per blok), lalu membagikan isinya tanpa sinkronisasi.
+ * Virtual thread berumur pendek sehingga mengambil nomor satu per satu dari counter
+ * yang sama agar blok tidak terbuang. Dalam satu thread nomor selalu berurutan;
+ * antar thread nomor unik tetapi tidak berurutan waktu, dan sisa blok yang tidak
+ * terpakai menjadi celah setelah restart.
+ */
+public class BlockIdGenerator implements IdGenerator {
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    private final int blockSize;
+    // Nomor tertinggi yang sudah dipesan (blok maupun satuan)
+    private final AtomicLong reserved = new AtomicLong();
+    // Nomor <= floor tidak boleh dibagikan lagi (dinaikkan oleh advanceTo)
+    private volatile long floor;
+    private final ThreadLocal<Block> blocks = ThreadLocal.withInitial(Block::new);
+
+    // Sisa blok milik satu thread: nomor next..end (kosong jika next > end)
+    private static final class Block {
+        long next = 1;
+        long end = 0;
+    }
+
+    public BlockIdGenerator() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    public BlockIdGenerator(int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Error: Ukuran blok ID harus >= 1");
+        }
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public long next() {
+        if (Thread.currentThread().isVirtual()) {
+            return reserved.incrementAndGet();
+        }
+        Block block = blocks.get();
+        long id = block.next;
+        if (id > block.end || id <= floor) {
+            refill(block);
+            id = block.next;
+        }
+        block.next = id + 1;
+        return id;
+    }
+
+    private void refill(Block block) {
+        while (true) {
+            long start = reserved.getAndAdd(blockSize) + 1;
+            long end = start + blockSize - 1;
+            long min = floor + 1;
+            if (end >= min) {
+                block.next = Math.max(start, min);
+                block.end = end;
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void advanceTo(long number) {
+        if (number <= floor) {
+            return; // jalur cepat saat memulihkan record yang sudah tercakup high-water mark
+        }
+        synchronized (this) {
+            raise(number);
+        }
+    }
+
+    private void raise(long number) {
+        long current;
+        while ((current = reserved.get()) < number) {
+            if (reserved.compareAndSet(current, number)) {
+                break;
+            }
+        }
+        if (number > floor) {
+            floor = number;
+        }
+    }
+
+    @Override
+    public long reserve(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Error: Jumlah nomor yang dipesan harus >= 1");
+        }
+        // reserved selalu >= floor, jadi blok ini tidak pernah bertabrakan dengan nomor yang dipulihkan
+        long first = reserved.getAndAdd(count) + 1;
+        advanceTo(first + count - 1);
+        return first;
+    }
+
+    @Override
+    public long getHighWaterMark() {
+        return reserved.get();
+    }
+}
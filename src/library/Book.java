@@ -0,0 +1,413 @@
+package library;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CLASS BOOK
+ * Mewakili data buku yang ada di perpustakaan
+ */
+public class Book {
+    // Data khusus setiap buku (hanya dapat diakses melalui class ini)
+    // Nomor urut sebagai kunci internal; ID tampilan (BK001) dirender saat pertama diminta
+    private final long number;
+    private String bookId;
+    private String title;
+    private String author;
+    private BookCategory category;
+    private int publicationYear;
+    private volatile int totalCopies;
+    // Diubah secara atomik (CAS); status ketersediaan dihitung dari nilai ini
+    private volatile int availableCopies;
+
+    // Repository pemilik buku (untuk sinkronisasi indeks saat data berubah)
+    private LibraryRepository repository;
+    // Naik setiap perubahan data lewat setter yang berhasil (stamp cache tampilan)
+    private volatile long version;
+
+    // Updater CAS untuk availableCopies (tanpa objek AtomicInteger per buku)
+    private static final AtomicIntegerFieldUpdater<Book> AVAILABLE_COPIES =
+            AtomicIntegerFieldUpdater.newUpdater(Book.class, "availableCopies");
+    private static final AtomicLongFieldUpdater<Book> VERSION =
+            AtomicLongFieldUpdater.newUpdater(Book.class, "version");
+
+    // Data bersama untuk menghitung jumlah buku dan ID otomatis
+    private static final LongAdder totalBooks = new LongAdder();
+    private static volatile IdGenerator ids = new BlockIdGenerator();
+    private static final String ID_PREFIX = "BK";
+
+    // Constructor saat tidak ada data awal (ID dibuat otomatis)
+    public Book() {
+        this.number = ids.next();
+        this.title = "";
+        this.author = "";
+        this.category = LibraryPolicy.current().getDefaultCategory();
+        this.publicationYear = 2025;
+        this.totalCopies = 1;
+        this.availableCopies = 1;
+        totalBooks.increment();
+    }
+
+    // Constructor dengan data langsung + pengecekan validasi
+    public Book(String title, String author, String category,
+                int publicationYear, int totalCopies) {
+
+        if (!isValidTitle(title)) {
+            throw new IllegalArgumentException("Error: Judul buku tidak boleh kosong");
+        }
+        if (!isValidAuthor(author)) {
+            throw new IllegalArgumentException("Error: Nama penulis tidak boleh kosong");
+        }
+        BookCategory resolved = BookCategory.of(category);
+        if (resolved == null) {
+            throw new IllegalArgumentException("Error: Kategori harus " + LibraryPolicy.current().describeCategories());
+        }
+        if (!isValidPublicationYear(publicationYear)) {
+            throw new IllegalArgumentException("Error: Tahun terbit tidak valid (1900-2025)");
+        }
+        if (!isValidCopies(totalCopies)) {
+            throw new IllegalArgumentException("Error: Total copies harus >= 1");
+        }
+
+        this.number = ids.next();
+        this.title = title;
+        this.author = author;
+        this.category = resolved;
+        this.publicationYear = publicationYear;
+        this.totalCopies = totalCopies;
+        this.availableCopies = totalCopies;
+        totalBooks.increment();
+    }
+
+    // Constructor pemulihan dari journal/snapshot: data sudah tervalidasi saat pertama dicatat
+    Book(String bookId, String title, String author, String category,
+         int publicationYear, int totalCopies, int availableCopies) {
+        this(idNumber(bookId), title, author, requireCategory(category), publicationYear, totalCopies, availableCopies);
+        this.bookId = bookId;
+    }
+
+    // Constructor dengan nomor yang sudah ditentukan (pemulihan dan impor massal)
+    Book(long number, String title, String author, BookCategory category,
+         int publicationYear, int totalCopies, int availableCopies) {
+        if (number < 0) {
+            throw new IllegalArgumentException("Error: Nomor buku tidak valid: " + number);
+        }
+        this.number = number;
+        this.category = category;
+        this.title = title;
+        this.author = author;
+        this.publicationYear = publicationYear;
+        this.totalCopies = totalCopies;
+        this.availableCopies = availableCopies;
+        ids.advanceTo(number);
+        totalBooks.increment();
+    }
+
+    private static BookCategory requireCategory(String category) {
+        BookCategory resolved = BookCategory.of(category);
+        if (resolved == null) {
+            throw new IllegalArgumentException("Error: Kategori tidak valid: " + category);
+        }
+        return resolved;
+    }
+
+    // Pengecekan judul (pemindai karakter di Validation, tanpa alokasi trim)
+    private boolean isValidTitle(String title) {
+        return Validation.isValidTitle(title);
+    }
+
+    // Pengecekan penulis
+    private boolean isValidAuthor(String author) {
+        return Validation.isValidAuthor(author);
+    }
+
+    // Pengecekan tahun terbit
+    private boolean isValidPublicationYear(int year) {
+        return Validation.isValidPublicationYear(year);
+    }
+
+    // Pengecekan jumlah copy
+    private boolean isValidCopies(int copies) {
+        return Validation.isValidTotalCopies(copies);
+    }
+
+    // Pengecekan jumlah copy tersedia
+    private boolean isValidAvailableCopies(int copies) {
+        return copies >= 0 && copies <= totalCopies;
+    }
+
+    // Menampilkan seluruh informasi buku
+    public void displayBookInfo() {
+        long started = LibraryMetrics.start();
+        System.out.println(renderInfo());
+        LibraryMetrics.stop(LibraryMetrics.Operation.DISPLAY, started);
+    }
+
+    // Informasi lengkap buku sebagai teks multi-baris (lihat ViewCache untuk versi ter-cache)
+    public String renderInfo() {
+        int copies = availableCopies;
+        return "[" + getBookId() + "] " + title + "\n"
+                + "Penulis       : " + author + "\n"
+                + "Kategori      : " + category.getLabel() + "\n"
+                + "Tahun Terbit  : " + publicationYear + "\n"
+                + "Umur Buku     : " + getBookAge() + " tahun\n"
+                + "Total Copy    : " + totalCopies + " eksemplar\n"
+                + "Tersedia      : " + copies + " eksemplar | Status: "
+                + availabilityStatus(copies) + (isNewRelease() ? " [NEW RELEASE]" : "");
+    }
+
+    // Proses peminjaman (jika masih tersedia), aman dipanggil dari banyak thread
+    public boolean borrowBook() {
+        long started = LibraryMetrics.start();
+        boolean borrowed = takeCopy();
+        LibraryMetrics.stop(LibraryMetrics.Operation.BORROW_BOOK, started);
+        return borrowed;
+    }
+
+    private boolean takeCopy() {
+        while (true) {
+            int current = availableCopies;
+            if (current <= 0) {
+                return false;
+            }
+            if (AVAILABLE_COPIES.compareAndSet(this, current, current - 1)) {
+                return true;
+            }
+        }
+    }
+
+    // Mengembalikan buku yang dipinjam, aman dipanggil dari banyak thread
+    public void returnBook() {
+        while (true) {
+            int current = availableCopies;
+            if (current >= totalCopies) {
+                return;
+            }
+            if (AVAILABLE_COPIES.compareAndSet(this, current, current + 1)) {
+                return;
+            }
+        }
+    }
+
+    // Transfer antar cabang: satu copy yang tersedia keluar dari katalog cabang ini
+    // (synchronized bersama setTotalCopies: totalCopies hanya diubah di bawah lock buku)
+    synchronized boolean transferOut() {
+        if (!takeCopy()) {
+            return false;
+        }
+        totalCopies--;
+        return true;
+    }
+
+    // Transfer antar cabang: satu copy masuk dan langsung tersedia
+    synchronized void transferIn() {
+        totalCopies++;
+        returnBook();
+    }
+
+    // Data katalog yang sama untuk cabang lain, tanpa copy (diisi lewat transferIn)
+    Book emptyRecord() {
+        return new Book(ids.next(), title, author, category, publicationYear, 0, 0);
+    }
+
+    // Hitung usia buku
+    public int getBookAge() {
+        return 2025 - publicationYear;
+    }
+
+    // Cek apakah buku tergolong rilisan baru (≤ 2 tahun)
+    public boolean isNewRelease() {
+        return getBookAge() <= 2;
+    }
+
+    // Status stok buku
+    public String getAvailabilityStatus() {
+        return availabilityStatus(availableCopies);
+    }
+
+    private static String availabilityStatus(int copies) {
+        if (copies > 5) {
+            return "Banyak Tersedia ✓";
+        } else if (copies >= 1) {
+            return "Terbatas ⚠";
+        } else {
+            return "Tidak Tersedia ✗";
+        }
+    }
+
+    // Menghubungkan buku dengan repository yang mengindeksnya
+    void attach(LibraryRepository repository) {
+        this.repository = repository;
+    }
+
+    // Total buku yang sudah tercatat
+    public static int getTotalBooks() {
+        return totalBooks.intValue();
+    }
+
+    // Mengganti sumber nomor buku (misalnya generator bersama antar-node)
+    public static void setIdGenerator(IdGenerator generator) {
+        ids = generator;
+    }
+
+    static IdGenerator getIdGenerator() {
+        return ids;
+    }
+
+    // Nomor urut dari ID buku; -1 jika format tidak dikenali
+    static long idNumber(String bookId) {
+        return IdGenerator.parse(ID_PREFIX, bookId);
+    }
+
+    // Getter & Setter
+    // Render sekali lalu disimpan; balapan antar thread aman karena hasilnya selalu sama
+    public String getBookId() {
+        String id = bookId;
+        if (id == null) {
+            bookId = id = IdGenerator.format(ID_PREFIX, number);
+        }
+        return id;
+    }
+
+    public long getBookNumber() {
+        return number;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    // Setter mengembalikan Outcome (OK atau alasan penolakan); event dikirim ke listener repository
+    public Outcome setTitle(String title) {
+        if (!isValidTitle(title)) {
+            return publish(Outcome.INVALID_TITLE);
+        }
+        this.title = title;
+        if (repository != null) {
+            repository.onBookTitleChanged(this);
+        }
+        return publish(Outcome.OK);
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public Outcome setAuthor(String author) {
+        if (!isValidAuthor(author)) {
+            return publish(Outcome.INVALID_AUTHOR);
+        }
+        String oldAuthor = this.author;
+        this.author = author;
+        if (repository != null) {
+            repository.onBookAuthorChanged(this, oldAuthor);
+        }
+        return publish(Outcome.OK);
+    }
+
+    public String getCategory() {
+        return category.getLabel();
+    }
+
+    public BookCategory getBookCategory() {
+        return category;
+    }
+
+    public Outcome setCategory(String category) {
+        BookCategory resolved = BookCategory.of(category);
+        if (resolved == null) {
+            return publish(Outcome.INVALID_CATEGORY);
+        }
+        String oldCategory = this.category.getLabel();
+        this.category = resolved;
+        if (repository != null) {
+            repository.onBookCategoryChanged(this, oldCategory);
+        }
+        return publish(Outcome.OK);
+    }
+
+    public int getPublicationYear() {
+        return publicationYear;
+    }
+
+    public Outcome setPublicationYear(int publicationYear) {
+        if (!isValidPublicationYear(publicationYear)) {
+            return publish(Outcome.INVALID_PUBLICATION_YEAR);
+        }
+        this.publicationYear = publicationYear;
+        return publish(Outcome.OK);
+    }
+
+    public boolean getIsAvailable() {
+        return availableCopies > 0;
+    }
+
+    // Status ketersediaan selalu mengikuti availableCopies, nilai yang bertentangan ditolak
+    public Outcome setIsAvailable(boolean available) {
+        if (available != getIsAvailable()) {
+            return publish(Outcome.AVAILABILITY_MISMATCH);
+        }
+        return publish(Outcome.OK);
+    }
+
+    public int getTotalCopies() {
+        return totalCopies;
+    }
+
+    // Copy yang sedang dipinjam tetap dihitung: availableCopies ikut bergeser sebesar selisihnya
+    // (CAS yang sama dengan peminjaman), dan total di bawah jumlah copy yang dipinjam ditolak.
+    // Total naik ditulis sebelum stok, total turun sesudahnya, sehingga returnBook yang berjalan
+    // bersamaan tidak pernah melihat stok di atas total.
+    public synchronized Outcome setTotalCopies(int totalCopies) {
+        if (!isValidCopies(totalCopies)) {
+            return publish(Outcome.INVALID_TOTAL_COPIES);
+        }
+        int oldTotal = this.totalCopies;
+        int delta = totalCopies - oldTotal;
+        if (delta >= 0) {
+            this.totalCopies = totalCopies;
+            AVAILABLE_COPIES.addAndGet(this, delta);
+            return publish(Outcome.OK);
+        }
+        while (true) {
+            int current = availableCopies;
+            if (current + delta < 0) {
+                return publish(Outcome.TOTAL_BELOW_ON_LOAN);
+            }
+            if (AVAILABLE_COPIES.compareAndSet(this, current, current + delta)) {
+                break;
+            }
+        }
+        this.totalCopies = totalCopies;
+        return publish(Outcome.OK);
+    }
+
+    public int getAvailableCopies() {
+        return availableCopies;
+    }
+
+    public Outcome setAvailableCopies(int availableCopies) {
+        if (!isValidAvailableCopies(availableCopies)) {
+            return publish(Outcome.INVALID_AVAILABLE_COPIES);
+        }
+        this.availableCopies = availableCopies;
+        return publish(Outcome.OK);
+    }
+
+    // Versi data yang tampil (naik sebelum event perubahan dikirim)
+    long getVersion() {
+        return version;
+    }
+
+    // Meneruskan hasil perubahan data ke listener (hanya jika buku terdaftar di repository)
+    private Outcome publish(Outcome outcome) {
+        if (outcome == Outcome.OK) {
+            VERSION.incrementAndGet(this);
+        }
+        if (repository == null) {
+            return outcome;
+        }
+        return repository.getEvents().publish(LibraryEvent.Kind.BOOK_UPDATE, outcome, this, null);
+    }
+}
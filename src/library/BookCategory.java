@@ -0,0 +1,40 @@
+package library;
+
+/**
+ * CLASS BOOK CATEGORY
+ * Satu kategori buku dari LibraryPolicy beserta lama pinjam maksimumnya.
+ * Objek dibuat oleh LibraryPolicy; indeks = urutan di tabel kebijakan.
+ */
+public final class BookCategory {
+    private final int index;
+    private final String label;
+    private final int loanDays;
+
+    BookCategory(int index, String label, int loanDays) {
+        this.index = index;
+        this.label = label;
+        this.loanDays = loanDays;
+    }
+
+    // Kategori dari nama tampilan menurut kebijakan yang berlaku; null jika tidak dikenal
+    public static BookCategory of(String label) {
+        return LibraryPolicy.current().category(label);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getLoanDays() {
+        return loanDays;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,492 @@
+package library;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * CLASS BOOK SEARCH INDEX
+ * Inverted index atas judul dan penulis buku untuk pencarian katalog (OPAC).
+ * Kata dipecah per huruf/angka dan di-lowercase; tiap kata menyimpan posting list
+ * berisi nomor dokumen terurut beserta field tempat kata ditemukan. Awalan 1-3 huruf
+ * setiap kata juga punya posting sendiri sehingga autocomplete tidak perlu menggabungkan
+ * ratusan kata hasil ekspansi.
+ *
+ * Query: semua kata harus cocok (AND), kata terakhir yang belum diakhiri spasi
+ * dianggap awalan (autocomplete). Skor = jumlah idf kata x bobot field (judul > penulis);
+ * skor sama diurutkan berdasarkan urutan buku diindeks.
+ *
+ * Query dibaca tanpa lock; perubahan (tambah buku, ganti judul/penulis) diserialkan.
+ */
+public class BookSearchIndex {
+    // Penanda field pada posting
+    private static final byte IN_TITLE = 1;
+    private static final byte IN_AUTHOR = 2;
+
+    // Bobot field menurut bit posting (judul diutamakan bila kata ada di keduanya)
+    private static final double[] FIELD_WEIGHT = {0.0, 2.0, 1.0, 2.0};
+
+    // Bobot kata awalan (autocomplete) relatif terhadap kata lengkap
+    private static final double PREFIX_WEIGHT = 0.5;
+
+    // Panjang awalan maksimum yang diindeks; awalan lebih panjang dicek ulang ke teks
+    private static final int PREFIX_LENGTH = 3;
+
+    // Batas jumlah hasil per query
+    private static final int MAX_RESULTS = 1024;
+
+    private static final double EPSILON = 1e-9;
+
+    // Penanda hasil pengecekan dokumen terhadap kata-kata query
+    private static final double NO_MATCH = -1;
+    private static final double EXHAUSTED = -2;
+
+    // Kamus kata terurut (untuk daftar autocomplete) → posting list
+    private final ConcurrentSkipListMap<String, Postings> terms = new ConcurrentSkipListMap<>();
+    // Awalan 1-3 huruf → posting dokumen yang memuat kata berawalan tersebut
+    private final Map<String, Postings> prefixes = new ConcurrentHashMap<>();
+
+    // Data per dokumen; indeks array = nomor dokumen
+    private volatile Book[] books = new Book[16];
+    private volatile String[] titles = new String[16];
+    private volatile String[] authors = new String[16];
+    private volatile int documentCount = 0;
+
+    // Nomor dokumen tiap buku (hanya dipakai penulis, di bawah lock)
+    private final Map<Book, Integer> documentIds = new IdentityHashMap<>();
+
+    // Menambahkan buku ke index (diabaikan jika sudah terindeks)
+    public synchronized void add(Book book) {
+        if (documentIds.containsKey(book)) {
+            return;
+        }
+        int doc = documentCount;
+        ensureCapacity(doc + 1);
+        books[doc] = book;
+        titles[doc] = book.getTitle();
+        authors[doc] = book.getAuthor();
+        documentIds.put(book, doc);
+
+        Map<String, Byte> words = fieldsOf(titles[doc], authors[doc]);
+        apply(terms, Collections.emptyMap(), words, doc);
+        apply(prefixes, Collections.emptyMap(), prefixesOf(words), doc);
+        documentCount = doc + 1;
+    }
+
+    // Menyelaraskan index dengan judul/penulis buku saat ini (dipanggil setelah setter)
+    public synchronized void update(Book book) {
+        Integer id = documentIds.get(book);
+        if (id == null) {
+            return;
+        }
+        int doc = id;
+        String title = book.getTitle();
+        String author = book.getAuthor();
+        Map<String, Byte> before = fieldsOf(titles[doc], authors[doc]);
+        Map<String, Byte> after = fieldsOf(title, author);
+        titles[doc] = title;
+        authors[doc] = author;
+
+        apply(terms, before, after, doc);
+        apply(prefixes, prefixesOf(before), prefixesOf(after), doc);
+    }
+
+    // Mencari buku yang cocok dengan query, diurutkan dari skor tertinggi
+    public List<Book> search(String query, int limit) {
+        if (query == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        List<String> words = tokenize(query);
+        if (words.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String prefix = null;
+        if (Character.isLetterOrDigit(query.charAt(query.length() - 1))) {
+            prefix = words.remove(words.size() - 1);
+        }
+
+        // Kata lengkap (dan awalan, jika ada) semua harus ada di index
+        Set<String> distinct = new LinkedHashSet<>(words);
+        distinct.remove(prefix);
+        int slots = distinct.size() + (prefix == null ? 0 : 1);
+        View[] views = new View[slots];
+        double[] weight = new double[slots];
+        double maxScore = 0;
+        int n = documentCount;
+        int t = 0;
+        for (String word : distinct) {
+            Postings postings = terms.get(word);
+            if (postings == null) {
+                return Collections.emptyList();
+            }
+            views[t] = postings.view;
+            weight[t] = idf(n, views[t].size);
+            maxScore += weight[t] * FIELD_WEIGHT[postings.fieldUnion];
+            t++;
+        }
+        // Awalan panjang: posting 3 huruf pertama sebagai saringan, kecocokan dicek ulang ke teks
+        String verify = null;
+        if (prefix != null) {
+            boolean indexed = prefix.length() <= PREFIX_LENGTH;
+            Postings postings = prefixes.get(indexed ? prefix : prefix.substring(0, PREFIX_LENGTH));
+            if (postings == null) {
+                return Collections.emptyList();
+            }
+            views[t] = postings.view;
+            weight[t] = indexed ? PREFIX_WEIGHT : 0;
+            maxScore += PREFIX_WEIGHT * FIELD_WEIGHT[postings.fieldUnion];
+            verify = indexed ? null : prefix;
+        }
+
+        Hits hits = search(views, weight, maxScore, verify, limit);
+        // Array buku dibaca setelah posting agar dokumen yang ditemukan pasti sudah ada di dalamnya
+        return collect(hits, books);
+    }
+
+    // Daftar kata lengkap untuk sebuah awalan, dari yang paling sering muncul
+    public List<String> complete(String prefix, int limit) {
+        List<String> words = tokenize(prefix == null ? "" : prefix);
+        if (words.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        String start = words.get(words.size() - 1);
+        NavigableMap<String, Postings> range =
+                terms.subMap(start, true, start + Character.MAX_VALUE, false);
+        PriorityQueue<Map.Entry<String, Postings>> top = new PriorityQueue<>(limit + 1,
+                Comparator.comparingInt((Map.Entry<String, Postings> e) -> e.getValue().view.size)
+                        .thenComparing(Map.Entry::getKey, Comparator.reverseOrder()));
+        for (Map.Entry<String, Postings> e : range.entrySet()) {
+            // Kata diiterasi naik, jadi kata berikutnya dengan frekuensi sama selalu kalah
+            if (top.size() == limit && e.getValue().view.size <= top.peek().getValue().view.size) {
+                continue;
+            }
+            top.add(e);
+            if (top.size() > limit) top.poll();
+        }
+        List<Map.Entry<String, Postings>> ranked = new ArrayList<>(top);
+        ranked.sort(top.comparator().reversed());
+        List<String> result = new ArrayList<>(ranked.size());
+        for (Map.Entry<String, Postings> e : ranked) {
+            result.add(e.getKey());
+        }
+        return result;
+    }
+
+    // Jumlah buku yang terindeks
+    public int size() {
+        return documentCount;
+    }
+
+    // Jumlah kata unik di kamus
+    public int getTermCount() {
+        return terms.size();
+    }
+
+    // Telusuri posting paling pendek dan cek dokumen-dokumennya pada posting lain
+    private Hits search(View[] views, double[] weight, double maxScore, String verify, int limit) {
+        // Posting paling pendek menjadi penggerak agar dokumen yang dicek sesedikit mungkin
+        int driver = 0;
+        for (int t = 1; t < views.length; t++) {
+            if (views[t].size < views[driver].size) driver = t;
+        }
+
+        Hits hits = new Hits(limit);
+        int[] cursor = new int[views.length];
+        String[] titleText = titles;
+        String[] authorText = authors;
+        View lead = views[driver];
+        for (int i = 0; i < lead.size; i++) {
+            int doc = lead.docs[i];
+            double score = matchAll(views, weight, cursor, driver, doc);
+            if (score == EXHAUSTED) break;
+            if (score == NO_MATCH) continue;
+            score += weight[driver] * FIELD_WEIGHT[lead.fields[i]];
+            if (verify != null) {
+                int bits = prefixFields(titleText[doc], authorText[doc], verify);
+                if (bits == 0) continue;
+                score += PREFIX_WEIGHT * FIELD_WEIGHT[bits];
+            }
+            hits.offer(doc, score);
+            if (hits.isSaturated(maxScore)) break;
+        }
+        return hits;
+    }
+
+    // Skor dokumen dari semua posting kecuali skip, NO_MATCH jika ada posting yang tidak memuatnya,
+    // EXHAUSTED jika salah satu posting sudah habis (dokumen berikutnya pasti tidak cocok)
+    private static double matchAll(View[] views, double[] weight, int[] cursor, int skip, int doc) {
+        double score = 0;
+        for (int t = 0; t < views.length; t++) {
+            if (t == skip) continue;
+            View v = views[t];
+            // Dokumen kandidat naik terus, jadi pencarian dilanjutkan dari posisi terakhir
+            int at = Arrays.binarySearch(v.docs, cursor[t], v.size, doc);
+            if (at < 0) {
+                cursor[t] = -at - 1;
+                return cursor[t] >= v.size ? EXHAUSTED : NO_MATCH;
+            }
+            cursor[t] = at + 1;
+            score += weight[t] * FIELD_WEIGHT[v.fields[at]];
+        }
+        return score;
+    }
+
+    // Menyesuaikan posting satu dokumen dari kumpulan kunci lama ke kunci baru
+    private static void apply(Map<String, Postings> index, Map<String, Byte> before,
+                              Map<String, Byte> after, int doc) {
+        for (Map.Entry<String, Byte> e : before.entrySet()) {
+            if (!after.containsKey(e.getKey())) {
+                Postings postings = index.get(e.getKey());
+                if (postings != null && postings.remove(doc)) {
+                    index.remove(e.getKey(), postings);
+                }
+            }
+        }
+        for (Map.Entry<String, Byte> e : after.entrySet()) {
+            if (!e.getValue().equals(before.get(e.getKey()))) {
+                index.computeIfAbsent(e.getKey(), k -> new Postings()).add(doc, e.getValue());
+            }
+        }
+    }
+
+    private static List<Book> collect(Hits hits, Book[] docs) {
+        int[] ranked = hits.ranked();
+        List<Book> result = new ArrayList<>(ranked.length);
+        for (int doc : ranked) {
+            result.add(docs[doc]);
+        }
+        return result;
+    }
+
+    private static double idf(int documents, int frequency) {
+        return Math.log(1.0 + (double) documents / Math.max(1, frequency));
+    }
+
+    // Memecah teks menjadi kata huruf kecil (pemisah: selain huruf dan angka)
+    static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && !Character.isLetterOrDigit(text.charAt(i))) i++;
+            int start = i;
+            while (i < length && Character.isLetterOrDigit(text.charAt(i))) i++;
+            if (i > start) {
+                char[] word = new char[i - start];
+                for (int j = 0; j < word.length; j++) {
+                    word[j] = Character.toLowerCase(text.charAt(start + j));
+                }
+                words.add(new String(word));
+            }
+        }
+        return words;
+    }
+
+    // Kata unik beserta field tempat kata itu muncul
+    private static Map<String, Byte> fieldsOf(String title, String author) {
+        Map<String, Byte> fields = new HashMap<>();
+        if (title != null) {
+            for (String word : tokenize(title)) fields.merge(word, IN_TITLE, BookSearchIndex::union);
+        }
+        if (author != null) {
+            for (String word : tokenize(author)) fields.merge(word, IN_AUTHOR, BookSearchIndex::union);
+        }
+        return fields;
+    }
+
+    // Awalan 1-3 huruf dari kata-kata dokumen beserta field-nya
+    private static Map<String, Byte> prefixesOf(Map<String, Byte> words) {
+        Map<String, Byte> result = new HashMap<>();
+        for (Map.Entry<String, Byte> e : words.entrySet()) {
+            String word = e.getKey();
+            for (int length = 1; length <= Math.min(PREFIX_LENGTH, word.length()); length++) {
+                result.merge(word.substring(0, length), e.getValue(), BookSearchIndex::union);
+            }
+        }
+        return result;
+    }
+
+    private static Byte union(Byte a, Byte b) {
+        return (byte) (a | b);
+    }
+
+    // Field (judul/penulis) yang memuat kata berawalan prefix, tanpa membuat objek baru
+    private static int prefixFields(String title, String author, String prefix) {
+        int bits = 0;
+        if (title != null && hasWordWithPrefix(title, prefix)) bits |= IN_TITLE;
+        if (author != null && hasWordWithPrefix(author, prefix)) bits |= IN_AUTHOR;
+        return bits;
+    }
+
+    private static boolean hasWordWithPrefix(String text, String prefix) {
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && !Character.isLetterOrDigit(text.charAt(i))) i++;
+            int start = i;
+            while (i < length && Character.isLetterOrDigit(text.charAt(i))) i++;
+            if (i - start >= prefix.length()) {
+                int j = 0;
+                while (j < prefix.length() && Character.toLowerCase(text.charAt(start + j)) == prefix.charAt(j)) j++;
+                if (j == prefix.length()) return true;
+            }
+        }
+        return false;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= books.length) {
+            return;
+        }
+        int capacity = Math.max(required, books.length * 2);
+        // Teks diperbesar lebih dulu agar query yang melihat array buku baru juga melihat teksnya
+        titles = Arrays.copyOf(titles, capacity);
+        authors = Arrays.copyOf(authors, capacity);
+        books = Arrays.copyOf(books, capacity);
+    }
+
+    /**
+     * Posting list sebuah kata. Query membaca {@link #view} tanpa lock; penulis (di bawah
+     * lock index) menambah di ujung array secara langsung lalu menerbitkan view baru,
+     * sedangkan sisipan/penghapusan di tengah selalu menyalin array.
+     */
+    private static final class Postings {
+        volatile View view = View.EMPTY;
+        volatile int fieldUnion = 0;
+
+        void add(int doc, byte fields) {
+            fieldUnion |= fields;
+            View v = view;
+            int at = v.size == 0 || v.docs[v.size - 1] < doc
+                    ? -(v.size + 1)
+                    : Arrays.binarySearch(v.docs, 0, v.size, doc);
+            if (at >= 0) {
+                // Dokumen sudah ada: hanya field yang berubah
+                v.fields[at] = fields;
+                return;
+            }
+            int insert = -at - 1;
+            if (insert == v.size && v.size < v.docs.length) {
+                v.docs[insert] = doc;
+                v.fields[insert] = fields;
+                view = new View(v.docs, v.fields, v.size + 1);
+                return;
+            }
+            int capacity = v.size < v.docs.length ? v.docs.length : Math.max(4, v.docs.length * 2);
+            int[] docs = new int[capacity];
+            byte[] newFields = new byte[capacity];
+            System.arraycopy(v.docs, 0, docs, 0, insert);
+            System.arraycopy(v.fields, 0, newFields, 0, insert);
+            docs[insert] = doc;
+            newFields[insert] = fields;
+            System.arraycopy(v.docs, insert, docs, insert + 1, v.size - insert);
+            System.arraycopy(v.fields, insert, newFields, insert + 1, v.size - insert);
+            view = new View(docs, newFields, v.size + 1);
+        }
+
+        // Menghapus dokumen; mengembalikan true jika posting menjadi kosong
+        boolean remove(int doc) {
+            View v = view;
+            int at = Arrays.binarySearch(v.docs, 0, v.size, doc);
+            if (at < 0) {
+                return v.size == 0;
+            }
+            int[] docs = new int[v.docs.length];
+            byte[] fields = new byte[v.docs.length];
+            System.arraycopy(v.docs, 0, docs, 0, at);
+            System.arraycopy(v.fields, 0, fields, 0, at);
+            System.arraycopy(v.docs, at + 1, docs, at, v.size - at - 1);
+            System.arraycopy(v.fields, at + 1, fields, at, v.size - at - 1);
+            view = new View(docs, fields, v.size - 1);
+            return v.size == 1;
+        }
+    }
+
+    // Potongan posting yang konsisten: hanya elemen [0, size) yang boleh dibaca
+    private static final class View {
+        static final View EMPTY = new View(new int[0], new byte[0], 0);
+
+        final int[] docs;
+        final byte[] fields;
+        final int size;
+
+        View(int[] docs, byte[] fields, int size) {
+            this.docs = docs;
+            this.fields = fields;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Top-K hasil dalam min-heap (skor terendah, lalu nomor dokumen terbesar di atas).
+     * Dokumen datang berurutan naik, sehingga begitu K hasil mencapai skor maksimum
+     * yang mungkin, dokumen berikutnya tidak akan pernah masuk dan pencarian bisa berhenti.
+     */
+    private static final class Hits {
+        private final int[] docs;
+        private final double[] scores;
+        private int size = 0;
+
+        Hits(int limit) {
+            this.docs = new int[Math.min(limit, MAX_RESULTS)];
+            this.scores = new double[docs.length];
+        }
+
+        void offer(int doc, double score) {
+            if (size < docs.length) {
+                docs[size] = doc;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (score > scores[0] + EPSILON) {
+                docs[0] = doc;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        boolean isSaturated(double maxScore) {
+            return size == docs.length && scores[0] >= maxScore - EPSILON;
+        }
+
+        // Nomor dokumen dari skor tertinggi; skor sama → dokumen lebih awal dulu
+        int[] ranked() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) order[i] = i;
+            Arrays.sort(order, (a, b) -> weaker(b, a) ? -1 : weaker(a, b) ? 1 : 0);
+            int[] result = new int[size];
+            for (int i = 0; i < size; i++) result[i] = docs[order[i]];
+            return result;
+        }
+
+        private boolean weaker(int a, int b) {
+            if (Math.abs(scores[a] - scores[b]) > EPSILON) return scores[a] < scores[b];
+            return docs[a] > docs[b];
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!weaker(i, parent)) break;
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) break;
+                int weakest = left;
+                if (left + 1 < size && weaker(left + 1, left)) weakest = left + 1;
+                if (!weaker(weakest, i)) break;
+                swap(i, weakest);
+                i = weakest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int d = docs[a]; docs[a] = docs[b]; docs[b] = d;
+            double s = scores[a]; scores[a] = scores[b]; scores[b] = s;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package library;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * CLASS BRANCH NETWORK
+ * Mode multi-cabang: setiap cabang adalah shard (LibraryBranch) dengan thread penulis sendiri.
+ * Operasi lokal langsung dikirim ke cabangnya; pencarian ketersediaan lintas cabang dan
+ * transfer reservasi dikerjakan scatter-gather: permintaan disebar ke semua shard sekaligus
+ * lalu hasilnya digabung setelah semua shard menjawab.
+ *
+ * Judul yang sama di cabang berbeda adalah catatan buku terpisah (ID berbeda), dicocokkan
+ * lewat judul dan penulis. Transfer memindahkan satu copy antar katalog cabang.
+ */
+public class BranchNetwork implements Closeable {
+    // Ditulis saat cabang ditambahkan (jarang), dibaca tanpa lock oleh semua operasi
+    private volatile Map<String, LibraryBranch> branches = Collections.emptyMap();
+
+    /**
+     * Ketersediaan satu judul di satu cabang (nilai saat shard membaca)
+     */
+    public static final class Availability {
+        private final LibraryBranch branch;
+        private final Book book;
+        private final int availableCopies;
+        private final int totalCopies;
+
+        Availability(LibraryBranch branch, Book book) {
+            this.branch = branch;
+            this.book = book;
+            this.availableCopies = book.getAvailableCopies();
+            this.totalCopies = book.getTotalCopies();
+        }
+
+        public LibraryBranch getBranch() {
+            return branch;
+        }
+
+        public Book getBook() {
+            return book;
+        }
+
+        public int getAvailableCopies() {
+            return availableCopies;
+        }
+
+        public int getTotalCopies() {
+            return totalCopies;
+        }
+
+        @Override
+        public String toString() {
+            return branch.getCode() + " " + availableCopies + "/" + totalCopies;
+        }
+    }
+
+    /**
+     * Hasil permintaan transfer: reservasi di cabang asal member dan cabang pengirim copy
+     */
+    public static final class Transfer {
+        private final Outcome outcome;
+        private final LibraryBranch source;
+        private final LibraryBranch destination;
+        private final HoldQueue.Hold hold;
+
+        Transfer(Outcome outcome, LibraryBranch source, LibraryBranch destination, HoldQueue.Hold hold) {
+            this.outcome = outcome;
+            this.source = source;
+            this.destination = destination;
+            this.hold = hold;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        // Cabang pengirim copy; null jika transfer tidak terjadi
+        public LibraryBranch getSource() {
+            return source;
+        }
+
+        public LibraryBranch getDestination() {
+            return destination;
+        }
+
+        // Reservasi di cabang tujuan; null jika transfer ditolak
+        public HoldQueue.Hold getHold() {
+            return hold;
+        }
+    }
+
+    // Menambah cabang (shard) baru
+    public synchronized LibraryBranch addBranch(String code, String name) {
+        if (branches.containsKey(code)) {
+            throw new IllegalArgumentException("Error: Kode cabang sudah terdaftar: " + code);
+        }
+        LibraryBranch branch = new LibraryBranch(code, name);
+        Map<String, LibraryBranch> updated = new LinkedHashMap<>(branches);
+        updated.put(code, branch);
+        branches = Collections.unmodifiableMap(updated);
+        return branch;
+    }
+
+    public LibraryBranch getBranch(String code) {
+        LibraryBranch branch = branches.get(code);
+        if (branch == null) {
+            throw new IllegalArgumentException("Error: Cabang tidak ditemukan: " + code);
+        }
+        return branch;
+    }
+
+    // Cabang sesuai urutan penambahan
+    public Collection<LibraryBranch> getBranches() {
+        return branches.values();
+    }
+
+    // Ketersediaan satu judul di semua cabang yang memilikinya (urutan cabang)
+    public CompletableFuture<List<Availability>> findAvailability(String title, String author) {
+        List<CompletableFuture<Availability>> replies = new ArrayList<>();
+        for (LibraryBranch branch : branches.values()) {
+            replies.add(branch.submit(s -> {
+                Book book = branch.findTitle(title, author);
+                return book == null ? null : new Availability(branch, book);
+            }));
+        }
+        return CompletableFuture.allOf(replies.toArray(CompletableFuture<?>[]::new)).thenApply(done -> {
+            List<Availability> result = new ArrayList<>();
+            for (CompletableFuture<Availability> reply : replies) {
+                Availability availability = reply.join();
+                if (availability != null) {
+                    result.add(availability);
+                }
+            }
+            return result;
+        });
+    }
+
+    // Jumlah copy tersedia di seluruh cabang
+    public CompletableFuture<Integer> countAvailable(String title, String author) {
+        return findAvailability(title, author).thenApply(list -> {
+            int total = 0;
+            for (Availability a : list) {
+                total += a.getAvailableCopies();
+            }
+            return total;
+        });
+    }
+
+    // Reservasi dengan transfer: jika judul habis di cabang member, satu copy dipindahkan dari
+    // cabang lain yang paling banyak stoknya lalu disisihkan untuk reservasi member.
+    // Member harus terdaftar di cabang asalnya.
+    public CompletableFuture<Transfer> requestTransfer(Member member, String homeCode, String title, String author) {
+        LibraryBranch home = getBranch(homeCode);
+        return findAvailability(title, author).thenCompose(found -> {
+            Book homeBook = null;
+            List<Availability> sources = new ArrayList<>();
+            for (Availability a : found) {
+                if (a.getBranch() == home) {
+                    homeBook = a.getBook();
+                    if (a.getAvailableCopies() > 0) {
+                        return done(Outcome.STILL_AVAILABLE, null, home, null);
+                    }
+                } else if (a.getAvailableCopies() > 0) {
+                    sources.add(a);
+                }
+            }
+            if (sources.isEmpty()) {
+                return done(found.isEmpty() ? Outcome.UNKNOWN_BOOK : Outcome.NOT_AVAILABLE, null, home, null);
+            }
+            sources.sort((a, b) -> Integer.compare(b.getAvailableCopies(), a.getAvailableCopies()));
+
+            // Reservasi dipasang lebih dulu agar copy yang tiba langsung disisihkan untuk member
+            Book template = homeBook != null ? homeBook : sources.get(0).getBook();
+            return home.submit(s -> placeHomeHold(s, home, member, template))
+                    .thenCompose(placed -> placed.getOutcome() != Outcome.OK
+                            ? CompletableFuture.completedFuture(placed)
+                            : moveCopy(placed, sources, 0));
+        });
+    }
+
+    // Di thread cabang tujuan: catatan buku disiapkan (kosong jika belum ada) lalu reservasi dipasang
+    private static Transfer placeHomeHold(LibraryService service, LibraryBranch home, Member member, Book template) {
+        if (service.getRepository().findMember(member.getMemberNumber()) != member) {
+            return new Transfer(Outcome.UNKNOWN_MEMBER, null, home, null);
+        }
+        Book book = home.findTitle(template.getTitle(), template.getAuthor());
+        if (book == null) {
+            book = template.emptyRecord();
+            service.registerBook(book);
+        }
+        HoldQueue.Hold hold = service.placeHold(member, book);
+        if (hold == null) {
+            Outcome reason = book.getAvailableCopies() > 0 ? Outcome.STILL_AVAILABLE : Outcome.DUPLICATE_HOLD;
+            return new Transfer(reason, null, home, null);
+        }
+        return new Transfer(Outcome.OK, null, home, hold);
+    }
+
+    // Mencoba cabang pengirim satu per satu (stok bisa habis sejak dibaca); copy yang berhasil
+    // dilepas dikirim ke cabang tujuan. Jika semua gagal, reservasi dibatalkan.
+    private CompletableFuture<Transfer> moveCopy(Transfer placed, List<Availability> sources, int index) {
+        LibraryBranch home = placed.getDestination();
+        HoldQueue.Hold hold = placed.getHold();
+        if (index == sources.size()) {
+            return home.submit(s -> {
+                s.cancelHold(hold);
+                return new Transfer(Outcome.NOT_AVAILABLE, null, home, null);
+            });
+        }
+        Availability source = sources.get(index);
+        return source.getBranch().submit(s -> s.releaseCopy(source.getBook())).thenCompose(released -> {
+            if (!released) {
+                return moveCopy(placed, sources, index + 1);
+            }
+            return home.submit(s -> {
+                s.receiveCopy(hold.getBook());
+                return new Transfer(Outcome.OK, source.getBranch(), home, hold);
+            });
+        });
+    }
+
+    private static CompletableFuture<Transfer> done(Outcome outcome, LibraryBranch source, LibraryBranch destination,
+                                                    HoldQueue.Hold hold) {
+        return CompletableFuture.completedFuture(new Transfer(outcome, source, destination, hold));
+    }
+
+    // Menutup semua cabang (operasi yang sudah diantrekan tetap diselesaikan)
+    @Override
+    public synchronized void close() throws IOException {
+        IOException failure = null;
+        for (LibraryBranch branch : branches.values()) {
+            try {
+                branch.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
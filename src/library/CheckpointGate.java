@@ -0,0 +1,88 @@
+package library;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * CLASS CHECKPOINT GATE
+ * Gerbang operasi sirkulasi agar checkpoint bisa mengambil posisi journal dan state memori
+ * (transaksi, statistik, saldo denda) pada titik yang sama.
+ *
+ * Masuk/keluar hanya menambah counter di stripe milik thread (satu cache line per stripe,
+ * tanpa lock). Karena thread yang sama selalu memakai stripe yang sama, setiap stripe tidak
+ * pernah negatif, sehingga jumlah yang dibaca per stripe tidak bisa menutupi operasi yang
+ * masih berjalan. Saat gerbang ditutup, operasi baru menunggu dan penutup menunggu
+ * operasi yang sedang berjalan selesai.
+ */
+final class CheckpointGate {
+    // Satu stripe = 8 long (64 byte) agar counter antar thread tidak berbagi cache line
+    private static final int PAD = 8;
+    private static final int STRIPES = stripeCount();
+    private static final long DRAIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(20);
+
+    private final AtomicLongArray inFlight = new AtomicLongArray(STRIPES * PAD);
+    private volatile boolean closed;
+
+    private static int stripeCount() {
+        int cpus = Runtime.getRuntime().availableProcessors();
+        return Math.min(64, Integer.highestOneBit(Math.max(1, cpus) * 2 - 1));
+    }
+
+    private static int slot() {
+        return ((int) Thread.currentThread().threadId() & (STRIPES - 1)) * PAD;
+    }
+
+    // Masuk sebelum mengubah state; menunggu jika checkpoint sedang mengambil state
+    void enter() {
+        int slot = slot();
+        while (true) {
+            inFlight.getAndIncrement(slot);
+            if (!closed) {
+                return;
+            }
+            inFlight.getAndDecrement(slot);
+            awaitOpen();
+        }
+    }
+
+    void exit() {
+        inFlight.getAndDecrement(slot());
+    }
+
+    // Menutup gerbang lalu menunggu operasi yang sedang berjalan selesai (satu penutup pada satu waktu)
+    void close() {
+        closed = true;
+        while (busy()) {
+            LockSupport.parkNanos(DRAIN_PARK_NANOS);
+        }
+    }
+
+    synchronized void open() {
+        closed = false;
+        notifyAll();
+    }
+
+    private boolean busy() {
+        for (int i = 0; i < STRIPES; i++) {
+            if (inFlight.get(i * PAD) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized void awaitOpen() {
+        boolean interrupted = false;
+        while (closed) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
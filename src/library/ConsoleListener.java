@@ -0,0 +1,30 @@
+package library;
+
+import java.io.PrintStream;
+
+/**
+ * CLASS CONSOLE LISTENER
+ * Menampilkan event ke console dengan format lama ("✗ Error: ..." untuk kegagalan).
+ * Hanya untuk aplikasi demo/CLI; layanan produksi tidak perlu mendaftarkannya.
+ */
+public class ConsoleListener implements LibraryListener {
+    private final PrintStream out;
+
+    public ConsoleListener() {
+        this(System.out);
+    }
+
+    public ConsoleListener(PrintStream out) {
+        this.out = out;
+    }
+
+    // Kegagalan selalu ditampilkan; keberhasilan hanya untuk upgrade membership
+    @Override
+    public void onEvent(LibraryEvent event) {
+        if (!event.isSuccess()) {
+            out.println("✗ Error: " + event.getMessage());
+        } else if (event.getKind() == LibraryEvent.Kind.MEMBERSHIP_UPGRADE) {
+            out.println("✓ " + event.getMessage());
+        }
+    }
+}
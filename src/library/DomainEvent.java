@@ -0,0 +1,205 @@
+package library;
+
+/**
+ * CLASS DOMAIN EVENT
+ * Event domain yang tidak bisa diubah (immutable): fakta sirkulasi yang sudah terjadi,
+ * berisi nilai (nomor ID, label, tanggal epoch day, sen), bukan referensi entitas yang
+ * masih bisa berubah. Proyeksi (ketersediaan, statistik, saldo member, indeks pencarian)
+ * dibangun dari event awal hasil titik kompaksi EventStream lalu urutan event sesudahnya.
+ */
+public abstract sealed class DomainEvent permits DomainEvent.MemberRegistered, DomainEvent.BookAdded,
+        DomainEvent.Borrowed, DomainEvent.Returned, DomainEvent.FeeAssessed, DomainEvent.TierChanged,
+        DomainEvent.CopyTransferred {
+
+    // Nomor urut di stream; diisi sekali oleh EventStream sebelum event disimpan di ring.
+    // Volatile: konsumen bisa membaca slot yang sedang ditimpa penulis, dan nomor yang tidak
+    // cocok dianggap overrun
+    private volatile long sequence = -1;
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    void assignSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    // Event dari entitas yang baru dicatat layanan
+    static MemberRegistered memberRegistered(Member member) {
+        return new MemberRegistered(member.getMemberNumber(), member.getName(), member.getMembershipType());
+    }
+
+    static BookAdded bookAdded(Book book) {
+        return new BookAdded(book.getBookNumber(), book.getTitle(), book.getAuthor(), book.getCategory(),
+                book.getTotalCopies());
+    }
+
+    static Borrowed borrowed(Transaction transaction) {
+        return new Borrowed(transaction.getTransactionNumber(), transaction.getMember().getMemberNumber(),
+                transaction.getBook().getBookNumber(), transaction.getBook().getCategory(),
+                transaction.getBorrowDay(), transaction.getDueDay());
+    }
+
+    static Returned returned(Transaction transaction) {
+        return new Returned(transaction.getTransactionNumber(), transaction.getMember().getMemberNumber(),
+                transaction.getBook().getBookNumber(), transaction.getReturnDay(), transaction.getDaysLate());
+    }
+
+    static FeeAssessed feeAssessed(Transaction transaction) {
+        return new FeeAssessed(transaction.getTransactionNumber(), transaction.getMember().getMemberNumber(),
+                transaction.getLateFeeCents());
+    }
+
+    /**
+     * Member baru terdaftar
+     */
+    public static final class MemberRegistered extends DomainEvent {
+        private final long memberNumber;
+        private final String name;
+        private final String tier;
+
+        public MemberRegistered(long memberNumber, String name, String tier) {
+            this.memberNumber = memberNumber;
+            this.name = name;
+            this.tier = tier;
+        }
+
+        public long getMemberNumber() { return memberNumber; }
+        public String getName() { return name; }
+        public String getTier() { return tier; }
+    }
+
+    /**
+     * Buku baru masuk katalog
+     */
+    public static final class BookAdded extends DomainEvent {
+        private final long bookNumber;
+        private final String title;
+        private final String author;
+        private final String category;
+        private final int totalCopies;
+
+        public BookAdded(long bookNumber, String title, String author, String category, int totalCopies) {
+            this.bookNumber = bookNumber;
+            this.title = title;
+            this.author = author;
+            this.category = category;
+            this.totalCopies = totalCopies;
+        }
+
+        public long getBookNumber() { return bookNumber; }
+        public String getTitle() { return title; }
+        public String getAuthor() { return author; }
+        public String getCategory() { return category; }
+        public int getTotalCopies() { return totalCopies; }
+    }
+
+    /**
+     * Satu copy dipinjam
+     */
+    public static final class Borrowed extends DomainEvent {
+        private final long transactionNumber;
+        private final long memberNumber;
+        private final long bookNumber;
+        private final String category;
+        private final int borrowDay;
+        private final int dueDay;
+
+        public Borrowed(long transactionNumber, long memberNumber, long bookNumber, String category,
+                        int borrowDay, int dueDay) {
+            this.transactionNumber = transactionNumber;
+            this.memberNumber = memberNumber;
+            this.bookNumber = bookNumber;
+            this.category = category;
+            this.borrowDay = borrowDay;
+            this.dueDay = dueDay;
+        }
+
+        public long getTransactionNumber() { return transactionNumber; }
+        public long getMemberNumber() { return memberNumber; }
+        public long getBookNumber() { return bookNumber; }
+        public String getCategory() { return category; }
+        public int getBorrowDay() { return borrowDay; }
+        public int getDueDay() { return dueDay; }
+    }
+
+    /**
+     * Copy dikembalikan (denda, jika ada, menyusul sebagai FeeAssessed)
+     */
+    public static final class Returned extends DomainEvent {
+        private final long transactionNumber;
+        private final long memberNumber;
+        private final long bookNumber;
+        private final int returnDay;
+        private final int daysLate;
+
+        public Returned(long transactionNumber, long memberNumber, long bookNumber, int returnDay, int daysLate) {
+            this.transactionNumber = transactionNumber;
+            this.memberNumber = memberNumber;
+            this.bookNumber = bookNumber;
+            this.returnDay = returnDay;
+            this.daysLate = daysLate;
+        }
+
+        public long getTransactionNumber() { return transactionNumber; }
+        public long getMemberNumber() { return memberNumber; }
+        public long getBookNumber() { return bookNumber; }
+        public int getReturnDay() { return returnDay; }
+        public int getDaysLate() { return daysLate; }
+    }
+
+    /**
+     * Denda keterlambatan dikenakan ke member
+     */
+    public static final class FeeAssessed extends DomainEvent {
+        private final long transactionNumber;
+        private final long memberNumber;
+        private final long cents;
+
+        public FeeAssessed(long transactionNumber, long memberNumber, long cents) {
+            this.transactionNumber = transactionNumber;
+            this.memberNumber = memberNumber;
+            this.cents = cents;
+        }
+
+        public long getTransactionNumber() { return transactionNumber; }
+        public long getMemberNumber() { return memberNumber; }
+        public long getCents() { return cents; }
+    }
+
+    /**
+     * Level membership berubah (upgrade lewat jalur kebijakan atau diubah langsung oleh staf,
+     * termasuk turun level)
+     */
+    public static final class TierChanged extends DomainEvent {
+        private final long memberNumber;
+        private final String fromTier;
+        private final String toTier;
+
+        public TierChanged(long memberNumber, String fromTier, String toTier) {
+            this.memberNumber = memberNumber;
+            this.fromTier = fromTier;
+            this.toTier = toTier;
+        }
+
+        public long getMemberNumber() { return memberNumber; }
+        public String getFromTier() { return fromTier; }
+        public String getToTier() { return toTier; }
+    }
+
+    /**
+     * Satu copy pindah masuk (+1) atau keluar (-1) cabang lain
+     */
+    public static final class CopyTransferred extends DomainEvent {
+        private final long bookNumber;
+        private final int delta;
+
+        public CopyTransferred(long bookNumber, int delta) {
+            this.bookNumber = bookNumber;
+            this.delta = delta;
+        }
+
+        public long getBookNumber() { return bookNumber; }
+        public int getDelta() { return delta; }
+    }
+}
@@ -0,0 +1,140 @@
+package library;
+
+/**
+ * CLASS EPOCH DAY
+ * Tanggal direpresentasikan sebagai int: jumlah hari sejak 01-01-1970.
+ * Parsing "DD-MM-YYYY" dilakukan sekali di batas input, setelah itu semua
+ * perhitungan (jatuh tempo, keterlambatan) hanya operasi aritmatika tanpa alokasi.
+ */
+public final class EpochDay {
+    // Penanda tanggal tidak valid / belum ada (bukan tanggal yang mungkin terjadi)
+    public static final int NONE = Integer.MIN_VALUE;
+
+    // Selisih hari antara 01-03-0000 dan 01-01-1970 (algoritma kalender sipil)
+    private static final int DAYS_0000_TO_1970 = 719468;
+    private static final int DAYS_PER_400_YEARS = 146097;
+
+    private EpochDay() {
+    }
+
+    // Membaca tanggal "DD-MM-YYYY"; mengembalikan NONE jika format/kalender/tahun tidak valid
+    public static int parse(CharSequence text, int minYear, int maxYear) {
+        if (text == null || text.length() != 10 || text.charAt(2) != '-' || text.charAt(5) != '-') {
+            return NONE;
+        }
+        int day = digits(text, 0, 2);
+        int month = digits(text, 3, 5);
+        int year = digits(text, 6, 10);
+        if (day < 0 || month < 0 || year < 0) {
+            return NONE;
+        }
+        if (year < minYear || year > maxYear || month < 1 || month > 12
+                || day < 1 || day > daysInMonth(year, month)) {
+            return NONE;
+        }
+        return of(year, month, day);
+    }
+
+    // Mengubah tanggal kalender menjadi epoch day
+    public static int of(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yearOfEra = y - era * 400;
+        int monthFromMarch = (month + 9) % 12;
+        int dayOfYear = (153 * monthFromMarch + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_400_YEARS + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    // Komponen tanggal dari sebuah epoch day
+    public static int yearOf(int epochDay) {
+        int z = epochDay + DAYS_0000_TO_1970;
+        int era = (z >= 0 ? z : z - (DAYS_PER_400_YEARS - 1)) / DAYS_PER_400_YEARS;
+        int dayOfEra = z - era * DAYS_PER_400_YEARS;
+        int yearOfEra = yearOfEra(dayOfEra);
+        int month = monthOf(epochDay);
+        return yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+    }
+
+    public static int monthOf(int epochDay) {
+        int monthFromMarch = monthFromMarch(dayOfYearFromMarch(epochDay));
+        return monthFromMarch < 10 ? monthFromMarch + 3 : monthFromMarch - 9;
+    }
+
+    public static int dayOfMonth(int epochDay) {
+        int dayOfYear = dayOfYearFromMarch(epochDay);
+        return dayOfYear - (153 * monthFromMarch(dayOfYear) + 2) / 5 + 1;
+    }
+
+    // Jumlah hari dalam bulan tertentu (memperhitungkan tahun kabisat)
+    public static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    public static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    // Format "DD-MM-YYYY" (hanya dipakai saat ditampilkan)
+    public static String format(int epochDay) {
+        char[] out = new char[10];
+        int day = dayOfMonth(epochDay);
+        int month = monthOf(epochDay);
+        int year = yearOf(epochDay);
+        out[0] = (char) ('0' + day / 10);
+        out[1] = (char) ('0' + day % 10);
+        out[2] = '-';
+        out[3] = (char) ('0' + month / 10);
+        out[4] = (char) ('0' + month % 10);
+        out[5] = '-';
+        out[6] = (char) ('0' + year / 1000 % 10);
+        out[7] = (char) ('0' + year / 100 % 10);
+        out[8] = (char) ('0' + year / 10 % 10);
+        out[9] = (char) ('0' + year % 10);
+        return new String(out);
+    }
+
+    // Tanggal hari ini menurut jam sistem
+    public static int today() {
+        return (int) java.time.LocalDate.now().toEpochDay();
+    }
+
+    private static int dayOfYearFromMarch(int epochDay) {
+        int z = epochDay + DAYS_0000_TO_1970;
+        int era = (z >= 0 ? z : z - (DAYS_PER_400_YEARS - 1)) / DAYS_PER_400_YEARS;
+        int dayOfEra = z - era * DAYS_PER_400_YEARS;
+        int yearOfEra = yearOfEra(dayOfEra);
+        return dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    }
+
+    private static int yearOfEra(int dayOfEra) {
+        return (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    }
+
+    private static int monthFromMarch(int dayOfYear) {
+        return (5 * dayOfYear + 2) / 153;
+    }
+
+    // Membaca angka desimal dari rentang karakter; -1 jika ada karakter non-digit
+    private static int digits(CharSequence text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,370 @@
+package library;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * CLASS EVENT STREAM
+ * Log DomainEvent di memori dengan satu penulis dan banyak proyeksi. Penulis (operasi layanan
+ * dari banyak thread, diserialkan oleh lock singkat) hanya menyimpan event ke slot berikutnya
+ * lalu memajukan cursor volatile; tidak pernah menunggu proyeksi. Setiap proyeksi dibaca oleh
+ * thread konsumennya sendiri dari cursor masing-masing, tidur (park) saat sudah menyusul dan
+ * dibangunkan penulis hanya jika memang sedang tidur.
+ *
+ * Event disimpan di ring buffer berkapasitas tetap (memori tidak bertambah selama stream
+ * hidup). Penulis tetap tidak menunggu: slot lama ditimpa walaupun ada proyeksi yang belum
+ * membacanya. Proyeksi yang tertinggal lebih dari kapasitas ring (overrun), proyeksi baru, dan
+ * proyeksi yang dibangun ulang diisi dari titik kompaksi (Seeder): state saat ini diterapkan
+ * langsung sebagai event awal, lalu event di ring setelah titik itu. Tanpa Seeder, proyeksi
+ * mulai dari event tertua yang masih ada di ring.
+ *
+ * Mengambil titik kompaksi menahan penulis sebentar, jadi hasilnya disimpan dan dipakai bersama
+ * oleh semua proyeksi selama event sesudahnya masih ada di ring. Titik baru hanya diambil jika
+ * yang lama sudah tertinggal setengah ring, dan paling sering sekali per SEED_INTERVAL: proyeksi
+ * yang terus tertinggal menunggu di thread-nya sendiri, tidak menahan penulis berulang kali.
+ */
+public class EventStream implements Closeable {
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+    // Cursor proyeksi diumumkan minimal setiap sekian event saat mengejar ketertinggalan
+    private static final int PUBLISH_EVERY = 1024;
+    // Jeda polling saat menunggu proyeksi menyusul
+    private static final long AWAIT_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    // Jarak minimum antar pengambilan titik kompaksi dari Seeder
+    private static final long SEED_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final DomainEvent[] ring;
+    private final int mask;
+    private final Seeder seeder;
+    // Nomor urut event terakhir yang sudah terlihat pembaca (-1 = kosong)
+    private volatile long published = -1;
+    private volatile Subscription[] subscriptions = new Subscription[0];
+    private volatile boolean closed;
+
+    // Titik kompaksi terakhir (dipakai bersama); hanya diakses di bawah seedLock
+    private final Object seedLock = new Object();
+    private List<DomainEvent> seedEvents;
+    private long seedSequence = -1;
+    private long seededAt;
+    private final LongAdder seeds = new LongAdder();
+
+    /**
+     * Titik kompaksi: sumber state awal proyeksi pengganti event yang sudah keluar dari ring
+     */
+    public interface Seeder {
+        // Mengirim state saat ini sebagai event (tanpa nomor urut) ke sink; mengembalikan nomor
+        // urut event stream terakhir yang sudah tercermin di state tersebut. Sink hanya menyalin
+        // event, proyeksi diisi setelah seed selesai.
+        long seed(Consumer<DomainEvent> sink);
+    }
+
+    public EventStream() {
+        this(DEFAULT_CAPACITY, null);
+    }
+
+    // capacity dibulatkan ke pangkat dua; seeder null = proyeksi mulai dari event tertua di ring
+    public EventStream(int capacity, Seeder seeder) {
+        if (capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Error: Kapasitas event stream tidak valid: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.ring = new DomainEvent[size];
+        this.mask = size - 1;
+        this.seeder = seeder;
+    }
+
+    /**
+     * Proyeksi yang berlangganan beserta thread konsumennya
+     */
+    public final class Subscription {
+        private final Projection projection;
+        private final Thread thread;
+        // Nomor urut event terakhir yang sudah diterapkan proyeksi
+        private volatile long applied = -1;
+        private volatile boolean parked;
+        private volatile boolean rebuildRequested;
+        // true selama proyeksi diisi dari titik kompaksi (applied belum bermakna)
+        private volatile boolean seeding = true;
+        private volatile boolean stopped;
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder overruns = new LongAdder();
+        private volatile RuntimeException lastFailure;
+
+        private Subscription(Projection projection) {
+            this.projection = projection;
+            this.thread = Thread.ofPlatform().daemon().name("projection-" + projection.getName())
+                    .unstarted(this::consume);
+        }
+
+        private void consume() {
+            long next = start();
+            while (!closed && !stopped) {
+                if (rebuildRequested) {
+                    // seeding dipasang sebelum flag dilepas agar awaitApplied tidak selesai terlalu awal
+                    seeding = true;
+                    rebuildRequested = false;
+                    projection.reset();
+                    next = start();
+                    continue;
+                }
+                long available = published;
+                if (next > available) {
+                    parked = true;
+                    // Dicek ulang setelah parked terlihat penulis agar sinyal tidak terlewat
+                    if (published < next && !closed && !stopped && !rebuildRequested) {
+                        LockSupport.park(this);
+                    }
+                    parked = false;
+                    continue;
+                }
+                while (next <= available && !rebuildRequested) {
+                    DomainEvent event = ring[(int) (next & mask)];
+                    if (event.getSequence() != next) {
+                        // Slot sudah ditimpa penulis: isi ulang dari titik kompaksi
+                        overruns.increment();
+                        if (seeder != null) {
+                            seeding = true;
+                            projection.reset();
+                        }
+                        next = start();
+                        break;
+                    }
+                    apply(event);
+                    next++;
+                    if ((next & (PUBLISH_EVERY - 1)) == 0) {
+                        applied = next - 1;
+                    }
+                }
+                applied = next - 1;
+            }
+        }
+
+        // Posisi awal: setelah titik kompaksi, atau event tertua yang masih ada di ring
+        private long start() {
+            seeding = true;
+            long next;
+            if (seeder != null) {
+                List<DomainEvent> state;
+                synchronized (seedLock) {
+                    if (!awaitSeed()) {
+                        return published + 1;
+                    }
+                    state = seedEvents;
+                    next = seedSequence + 1;
+                }
+                state.forEach(this::apply);
+            } else {
+                next = Math.max(0, published - mask);
+            }
+            applied = next - 1;
+            seeding = false;
+            return next;
+        }
+
+        private void apply(DomainEvent event) {
+            try {
+                projection.apply(event);
+            } catch (RuntimeException e) {
+                // Event yang gagal dilewati; proyeksi bisa dibangun ulang setelah diperbaiki
+                failures.increment();
+                lastFailure = e;
+            }
+        }
+
+        public Projection getProjection() {
+            return projection;
+        }
+
+        public long getAppliedSequence() {
+            return applied;
+        }
+
+        // Jumlah event yang belum diterapkan proyeksi ini
+        public long getLag() {
+            return Math.max(0, published - applied);
+        }
+
+        public long getFailureCount() {
+            return failures.sum();
+        }
+
+        public RuntimeException getLastFailure() {
+            return lastFailure;
+        }
+
+        // Berapa kali proyeksi tertinggal lebih dari kapasitas ring dan harus diisi ulang
+        public long getOverrunCount() {
+            return overruns.sum();
+        }
+
+        // Membangun ulang proyeksi (reset lalu isi dari titik kompaksi dan event setelahnya)
+        public void rebuild() {
+            rebuildRequested = true;
+            LockSupport.unpark(thread);
+        }
+
+        // Menunggu sampai event dengan nomor urut tersebut sudah diterapkan (read-your-writes)
+        public boolean awaitApplied(long sequence, long timeout, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (applied < sequence || rebuildRequested || seeding) {
+                if (closed || stopped) {
+                    return false;
+                }
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    return false;
+                }
+                LockSupport.parkNanos(AWAIT_PARK_NANOS);
+            }
+            return true;
+        }
+
+        // Berhenti berlangganan; proyeksi tidak menerima event lagi
+        public void cancel() {
+            stopped = true;
+            remove(this);
+            LockSupport.unpark(thread);
+        }
+
+        private void wake() {
+            if (parked) {
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+
+    // Memastikan titik kompaksi masih bisa disambung dengan event di ring (dipanggil di bawah
+    // seedLock); titik baru diambil paling sering sekali per SEED_INTERVAL. false jika stream ditutup.
+    private boolean awaitSeed() {
+        if (seedEvents != null && published - seedSequence <= ring.length / 2) {
+            return true;
+        }
+        seedEvents = null;
+        long wait;
+        while (seeds.sum() > 0 && (wait = seededAt + SEED_INTERVAL_NANOS - System.nanoTime()) > 0) {
+            if (closed) {
+                return false;
+            }
+            LockSupport.parkNanos(Math.min(wait, TimeUnit.MILLISECONDS.toNanos(10)));
+        }
+        List<DomainEvent> state = new ArrayList<>();
+        seedSequence = seeder.seed(state::add);
+        seedEvents = state;
+        seededAt = System.nanoTime();
+        seeds.increment();
+        return true;
+    }
+
+    // Berapa kali titik kompaksi diambil dari Seeder (setiap kali penulis ditahan sebentar)
+    public long getSeedCount() {
+        return seeds.sum();
+    }
+
+    // Mendaftarkan proyeksi; proyeksi langsung diisi dari titik kompaksi (atau event tertua di ring)
+    public synchronized Subscription subscribe(Projection projection) {
+        if (closed) {
+            throw new IllegalStateException("Error: Event stream sudah ditutup");
+        }
+        Subscription subscription = new Subscription(projection);
+        Subscription[] current = subscriptions;
+        Subscription[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = subscription;
+        subscriptions = updated;
+        subscription.thread.start();
+        return subscription;
+    }
+
+    private synchronized void remove(Subscription subscription) {
+        Subscription[] current = subscriptions;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == subscription) {
+                Subscription[] updated = new Subscription[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                subscriptions = updated;
+                return;
+            }
+        }
+    }
+
+    // Menambahkan event; mengembalikan nomor urutnya. Tidak pernah menunggu proyeksi.
+    public synchronized long publish(DomainEvent event) {
+        if (closed) {
+            throw new IllegalStateException("Error: Event stream sudah ditutup");
+        }
+        long sequence = published + 1;
+        event.assignSequence(sequence);
+        ring[(int) (sequence & mask)] = event;
+        published = sequence;
+        for (Subscription subscription : subscriptions) {
+            subscription.wake();
+        }
+        return sequence;
+    }
+
+    // Event dengan nomor urut tersebut selama masih ada di ring
+    public DomainEvent get(long sequence) {
+        if (sequence < 0 || sequence > published) {
+            throw new IllegalArgumentException("Error: Nomor urut event tidak valid: " + sequence);
+        }
+        DomainEvent event = ring[(int) (sequence & mask)];
+        if (event.getSequence() != sequence) {
+            throw new IllegalArgumentException("Error: Event sudah keluar dari ring: " + sequence);
+        }
+        return event;
+    }
+
+    public long getLastSequence() {
+        return published;
+    }
+
+    // Jumlah event yang masih tersimpan di ring
+    public long size() {
+        return Math.min(published + 1, ring.length);
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    // Menunggu semua proyeksi menerapkan event yang sudah ditulis sampai saat ini
+    public boolean awaitProjections(long timeout, TimeUnit unit) throws InterruptedException {
+        long target = published;
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Subscription subscription : subscriptions) {
+            long remaining = deadline - System.nanoTime();
+            if (!subscription.awaitApplied(target, Math.max(0, remaining), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Menghentikan semua thread konsumen
+    @Override
+    public void close() {
+        Subscription[] current;
+        synchronized (this) {
+            closed = true;
+            current = subscriptions;
+        }
+        for (Subscription subscription : current) {
+            LockSupport.unpark(subscription.thread);
+        }
+        for (Subscription subscription : current) {
+            try {
+                subscription.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package library;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CLASS FEE LEDGER
+ * Saldo denda berjalan per member (dalam sen), diperbarui setiap pengembalian terlambat.
+ * Total per member maupun total keseluruhan dibaca O(1) tanpa memindai transaksi.
+ */
+public class FeeLedger {
+    private final Map<Member, AtomicLong> owed = new ConcurrentHashMap<>();
+    private final LongAdder total = new LongAdder();
+
+    // Membebankan denda ke member (nol atau negatif diabaikan)
+    public void charge(Member member, long cents) {
+        if (cents <= 0) {
+            return;
+        }
+        AtomicLong balance = owed.get(member);
+        if (balance == null) {
+            balance = owed.computeIfAbsent(member, m -> new AtomicLong());
+        }
+        balance.addAndGet(cents);
+        total.add(cents);
+    }
+
+    // Total denda seorang member
+    public long getOwedCents(Member member) {
+        AtomicLong balance = owed.get(member);
+        return balance == null ? 0 : balance.get();
+    }
+
+    // Total denda seluruh member
+    public long getTotalCents() {
+        return total.sum();
+    }
+
+    // Jumlah member yang memiliki denda
+    public int getMemberCount() {
+        return owed.size();
+    }
+}
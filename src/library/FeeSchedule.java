@@ -0,0 +1,55 @@
+package library;
+
+import java.util.List;
+
+/**
+ * CLASS FEE SCHEDULE
+ * Tarif denda keterlambatan dalam sen (Rp 1 = 100 sen) agar total selalu eksak.
+ * Tarif harian setelah diskon dihitung sekali per level membership dan disimpan dalam
+ * tabel yang diindeks MembershipTier.getIndex(), sehingga menghitung denda cukup satu perkalian.
+ * Dibuat oleh LibraryPolicy dari tarif dan daftar levelnya.
+ */
+public class FeeSchedule {
+    private final long baseFeePerDayCents;
+    private final long[] feePerDayCents;
+
+    public FeeSchedule(long baseFeePerDayCents, List<MembershipTier> tiers) {
+        if (baseFeePerDayCents < 0) {
+            throw new IllegalArgumentException("Error: Tarif denda tidak boleh negatif");
+        }
+        this.baseFeePerDayCents = baseFeePerDayCents;
+        this.feePerDayCents = new long[tiers.size()];
+        for (MembershipTier tier : tiers) {
+            // Pembulatan ke sen terdekat (hanya terjadi sekali, saat tabel dibuat)
+            feePerDayCents[tier.getIndex()] = (baseFeePerDayCents * (100 - tier.getDiscountPercent()) + 50) / 100;
+        }
+    }
+
+    // Tarif dari kebijakan yang sedang berlaku
+    public static FeeSchedule current() {
+        return LibraryPolicy.current().getFees();
+    }
+
+    // Denda setelah diskon level membership
+    public long feeCents(int daysLate, MembershipTier tier) {
+        return daysLate <= 0 ? 0 : daysLate * feePerDayCents[tier.getIndex()];
+    }
+
+    // Denda sebelum diskon (untuk rincian tampilan)
+    public long baseFeeCents(int daysLate) {
+        return daysLate <= 0 ? 0 : daysLate * baseFeePerDayCents;
+    }
+
+    public long getFeePerDayCents(MembershipTier tier) {
+        return feePerDayCents[tier.getIndex()];
+    }
+
+    public long getBaseFeePerDayCents() {
+        return baseFeePerDayCents;
+    }
+
+    // Rupiah penuh dari sen (untuk tampilan "Rp ...")
+    public static long toRupiah(long cents) {
+        return cents / 100;
+    }
+}
@@ -0,0 +1,48 @@
+package library;
+
+import java.util.function.Predicate;
+
+/**
+ * CLASS FILTERS
+ * Predikat siap pakai untuk daftar buku, member, dan transaksi
+ * (dipakai bersama stream/page di LibraryRepository). Null berarti tanpa filter.
+ */
+public final class Filters {
+    private Filters() {
+    }
+
+    // Buku
+    public static Predicate<Book> bookCategory(String category) {
+        return book -> book.getCategory().equals(category);
+    }
+
+    public static Predicate<Book> availableBooks() {
+        return book -> book.getAvailableCopies() > 0;
+    }
+
+    // Member
+    public static Predicate<Member> membershipType(String membershipType) {
+        return member -> member.getMembershipType().equals(membershipType);
+    }
+
+    // Transaksi
+    public static Predicate<Transaction> openTransactions() {
+        return t -> !t.isReturned();
+    }
+
+    public static Predicate<Transaction> closedTransactions() {
+        return Transaction::isReturned;
+    }
+
+    public static Predicate<Transaction> transactionsOf(Member member) {
+        return t -> t.getMember() == member;
+    }
+
+    // Menggabungkan dua filter (salah satunya boleh null)
+    public static <T> Predicate<T> both(Predicate<T> first, Predicate<T> second) {
+        if (first == null) {
+            return second;
+        }
+        return second == null ? first : first.and(second);
+    }
+}
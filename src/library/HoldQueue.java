@@ -0,0 +1,198 @@
+package library;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * CLASS HOLD QUEUE
+ * Antrean reservasi per buku untuk judul yang sedang habis.
+ * Setiap buku punya satu antrean FIFO bebas lock per level membership (indeks level di
+ * LibraryPolicy), dilayani menurut prioritas reservasi level (tier.<nama>.holdPriority);
+ * saat copy dikembalikan, copy langsung disisihkan untuk pemesan berikutnya
+ * tanpa memindai buku lain, sehingga pengembalian judul berbeda tidak saling menunggu.
+ * Peminjam langsung yang mengambil copy selagi ada pemesan menunggu (misalnya di antara
+ * pengembalian dan promosi) menyerahkan copy itu ke antrean (yieldCopy).
+ */
+public class HoldQueue {
+    // Jumlah antrean per buku (= jumlah level) dan urutan indeks level saat promosi
+    private final int tierCount;
+    private final int[] order;
+
+    private final Map<Book, BookHolds> holdsByBook = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public HoldQueue() {
+        this(LibraryPolicy.current());
+    }
+
+    public HoldQueue(LibraryPolicy policy) {
+        this.tierCount = policy.getTiers().size();
+        this.order = policy.holdOrder();
+    }
+
+    // Status reservasi
+    public enum Status {
+        WAITING,    // menunggu copy
+        READY,      // copy sudah disisihkan, menunggu diambil
+        FULFILLED,  // sudah menjadi transaksi peminjaman
+        CANCELLED
+    }
+
+    /**
+     * Satu reservasi member atas sebuah buku
+     */
+    public static class Hold {
+        private static final AtomicReferenceFieldUpdater<Hold, Status> STATUS =
+                AtomicReferenceFieldUpdater.newUpdater(Hold.class, Status.class, "status");
+
+        private final long holdNumber;
+        private final Member member;
+        private final Book book;
+        private volatile Status status = Status.WAITING;
+
+        Hold(long holdNumber, Member member, Book book) {
+            this.holdNumber = holdNumber;
+            this.member = member;
+            this.book = book;
+        }
+
+        boolean transition(Status from, Status to) {
+            return STATUS.compareAndSet(this, from, to);
+        }
+
+        public long getHoldNumber() {
+            return holdNumber;
+        }
+
+        public Member getMember() {
+            return member;
+        }
+
+        public Book getBook() {
+            return book;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+    }
+
+    // Menempatkan reservasi; null jika member sudah punya reservasi aktif untuk buku ini.
+    // Cek ganda atomik lewat set member yang sedang menunggu (bukan memindai antrean).
+    public Hold place(Member member, Book book) {
+        BookHolds holds = holdsOf(book);
+        if (!holds.waiting.add(member)) {
+            return null;
+        }
+        Hold hold = new Hold(sequence.incrementAndGet(), member, book);
+        holds.queues[tierOf(member)].add(hold);
+        // Copy mungkin kembali tepat sebelum antrean terisi: coba promosikan agar tidak menggantung
+        if (book.getAvailableCopies() > 0) {
+            promote(book);
+        }
+        return hold;
+    }
+
+    // Menyisihkan satu copy yang tersedia untuk pemesan berikutnya (prioritas tier, lalu FIFO).
+    // Mengembalikan reservasi yang menjadi READY, atau null jika tidak ada pemesan / copy.
+    // Pemesan terdepan hanya dibaca (peek) dan baru dikeluarkan setelah copy tersisihkan,
+    // sehingga urutan antrean tidak berubah saat copy direbut peminjam lain.
+    public Hold promote(Book book) {
+        BookHolds holds = holdsByBook.get(book);
+        if (holds == null) {
+            return null;
+        }
+        for (int tier : order) {
+            ConcurrentLinkedDeque<Hold> queue = holds.queues[tier];
+            Hold hold;
+            while ((hold = queue.peek()) != null) {
+                if (hold.status != Status.WAITING) {
+                    queue.removeFirstOccurrence(hold); // dibatalkan/sudah dilayani, dibuang saat ditemui
+                    continue;
+                }
+                if (!book.borrowBook()) {
+                    return null; // copy sudah diambil peminjam lain: pemesan tetap di depan antrean
+                }
+                if (hold.transition(Status.WAITING, Status.READY)) {
+                    queue.removeFirstOccurrence(hold);
+                    holds.waiting.remove(hold.member);
+                    return hold;
+                }
+                // Dibatalkan bersamaan: copy dikembalikan lalu lanjut ke pemesan berikutnya
+                book.returnBook();
+            }
+        }
+        return null;
+    }
+
+    // Dipanggil peminjam langsung setelah mengambil copy: jika ada pemesan yang menunggu, copy
+    // dikembalikan lalu disisihkan untuk pemesan terdepan. true jika copy diserahkan ke antrean
+    // (peminjaman langsung harus ditolak). Cek dilakukan setelah copy diambil, sehingga reservasi
+    // yang dipasang sebelum pengambilan selalu terlihat
+    boolean yieldCopy(Book book) {
+        BookHolds holds = holdsByBook.get(book);
+        if (holds == null || holds.waiting.isEmpty()) {
+            return false;
+        }
+        book.returnBook();
+        promote(book);
+        return true;
+    }
+
+    // Menandai reservasi READY sebagai sudah dipinjam
+    boolean fulfil(Hold hold) {
+        return hold.transition(Status.READY, Status.FULFILLED);
+    }
+
+    // Membatalkan reservasi; copy yang sudah disisihkan diteruskan ke pemesan berikutnya
+    public boolean cancel(Hold hold) {
+        if (hold.transition(Status.WAITING, Status.CANCELLED)) {
+            holdsOf(hold.book).waiting.remove(hold.member);
+            return true;
+        }
+        if (hold.transition(Status.READY, Status.CANCELLED)) {
+            hold.book.returnBook();
+            promote(hold.book);
+            return true;
+        }
+        return false;
+    }
+
+    // Jumlah reservasi yang masih menunggu untuk sebuah buku
+    public int getWaitingCount(Book book) {
+        BookHolds holds = holdsByBook.get(book);
+        return holds == null ? 0 : holds.waiting.size();
+    }
+
+    private BookHolds holdsOf(Book book) {
+        BookHolds holds = holdsByBook.get(book);
+        if (holds != null) {
+            return holds;
+        }
+        return holdsByBook.computeIfAbsent(book, b -> new BookHolds(tierCount));
+    }
+
+    // Antrean level member; level di luar kebijakan saat antrean dibuat masuk antrean prioritas terendah
+    private int tierOf(Member member) {
+        int index = member.getTier().getIndex();
+        return index < tierCount ? index : order[order.length - 1];
+    }
+
+    // Antrean satu buku: FIFO per level + member yang reservasinya masih WAITING
+    private static final class BookHolds {
+        final ConcurrentLinkedDeque<Hold>[] queues;
+        final Set<Member> waiting = ConcurrentHashMap.newKeySet();
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        BookHolds(int tierCount) {
+            queues = new ConcurrentLinkedDeque[tierCount];
+            for (int i = 0; i < tierCount; i++) {
+                queues[i] = new ConcurrentLinkedDeque<>();
+            }
+        }
+    }
+}
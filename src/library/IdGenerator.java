@@ -0,0 +1,52 @@
+package library;
+
+/**
+ * INTERFACE ID GENERATOR
+ * Sumber nomor urut entitas (Book, Member, Transaction). Nomor berupa long yang ringkas
+ * dan dipakai sebagai kunci internal; ID tampilan ("BK001", "TRX1234") dirender
+ * dari nomor tersebut hanya saat diminta.
+ */
+public interface IdGenerator {
+    // Nomor baru yang unik (>= 1)
+    long next();
+
+    // Memastikan nomor berikutnya lebih besar dari number (pemulihan journal/snapshot).
+    // Dipanggil saat startup, sebelum nomor baru dibagikan.
+    void advanceTo(long number);
+
+    // Batas atas nomor yang sudah pernah dibagikan/dipesan; disimpan agar bertahan setelah restart
+    long getHighWaterMark();
+
+    // Memesan count nomor berurutan sekaligus (impor massal); mengembalikan nomor pertama.
+    // Nomor-nomor ini tidak akan dibagikan oleh next().
+    long reserve(int count);
+
+    // Render ID tampilan: prefix + nomor minimal 3 digit (setara "%03d", tanpa String.format)
+    static String format(String prefix, long number) {
+        StringBuilder id = new StringBuilder(prefix.length() + 8).append(prefix);
+        if (number < 100 && number >= 0) {
+            id.append(number < 10 ? "00" : "0");
+        }
+        return id.append(number).toString();
+    }
+
+    // Nomor dari ID tampilan; -1 jika prefix atau formatnya tidak sesuai
+    static long parse(String prefix, String id) {
+        if (id == null || !id.startsWith(prefix)) {
+            return -1;
+        }
+        int length = id.length();
+        if (length == prefix.length() || length - prefix.length() > 18) {
+            return -1;
+        }
+        long number = 0;
+        for (int i = prefix.length(); i < length; i++) {
+            char c = id.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+}
@@ -0,0 +1,106 @@
+package library;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * CLASS IMPORT REPORT
+ * Hasil impor CSV: jumlah baris, yang berhasil didaftarkan, dan yang ditolak beserta
+ * nomor baris dan seluruh kesalahannya (mask Outcome dari Validation).
+ * Detail penolakan dibatasi agar berkas yang salah total tidak menghabiskan memori.
+ */
+public class ImportReport {
+    // Batas detail penolakan yang disimpan (jumlah penolakan tetap dihitung semua)
+    static final int MAX_REJECTIONS = 1000;
+
+    /**
+     * Satu baris yang ditolak
+     */
+    public static class Rejection {
+        private final long line;
+        private final long errors;
+
+        Rejection(long line, long errors) {
+            this.line = line;
+            this.errors = errors;
+        }
+
+        // Nomor baris di berkas (header = baris 1)
+        public long getLine() {
+            return line;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public String getMessage() {
+            return Validation.describe(errors);
+        }
+
+        @Override
+        public String toString() {
+            return "Baris " + line + ": " + getMessage();
+        }
+    }
+
+    private final long rows;
+    private final long imported;
+    private final long rejected;
+    private final List<Rejection> rejections;
+    private final long elapsedNanos;
+
+    ImportReport(long rows, long imported, List<Rejection> rejections, long rejected, long elapsedNanos) {
+        this.rows = rows;
+        this.imported = imported;
+        this.rejected = rejected;
+        this.rejections = rejections;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    // Jumlah baris data (tanpa header dan baris kosong)
+    public long getRows() {
+        return rows;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    // Penolakan sesuai urutan baris, maksimal MAX_REJECTIONS
+    public List<Rejection> getRejections() {
+        return Collections.unmodifiableList(rejections);
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getElapsedMillis() {
+        return elapsedNanos / 1e6;
+    }
+
+    // Menggabungkan daftar penolakan yang sudah terurut per chunk (dibatasi MAX_REJECTIONS)
+    static List<Rejection> limit(List<List<Rejection>> perChunk) {
+        List<Rejection> result = new ArrayList<>();
+        for (List<Rejection> chunk : perChunk) {
+            for (Rejection rejection : chunk) {
+                if (result.size() == MAX_REJECTIONS) {
+                    return result;
+                }
+                result.add(rejection);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d baris | %d diimpor | %d ditolak | %.1f ms", rows, imported, rejected, getElapsedMillis());
+    }
+}
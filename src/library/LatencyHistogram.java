@@ -0,0 +1,129 @@
+package library;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CLASS LATENCY HISTOGRAM
+ * Histogram latensi bergaya HDR: nilai 0-63 ns dicatat tepat, di atasnya setiap kelipatan
+ * dua dibagi 32 bucket linear (galat relatif maksimum ~3%). Rentang sampai ~68 detik dalam
+ * 1024 bucket; nilai lebih besar masuk bucket terakhir.
+ *
+ * Pencatatan tanpa lock dan tanpa alokasi: satu increment atomik pada stripe milik thread
+ * (stripe mengurangi rebutan cache line antar core) ditambah LongAdder untuk total durasi.
+ * Jumlah sampel dihitung dari bucket saat dibaca.
+ */
+public class LatencyHistogram {
+    // 2^SUB_BITS bucket linear per kelipatan dua
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int LINEAR_LIMIT = SUB_COUNT * 2;
+    // Eksponen tertinggi yang dibedakan (2^36 ns ≈ 68 detik)
+    private static final int MAX_EXPONENT = 35;
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BITS) * SUB_COUNT + LINEAR_LIMIT;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    private static final int STRIPES = stripeCount();
+
+    // Bucket stripe s ada di indeks s * BUCKETS .. (s + 1) * BUCKETS - 1
+    private final AtomicLongArray counts = new AtomicLongArray(STRIPES * BUCKETS);
+    private final LongAdder totalNanos = new LongAdder();
+    private volatile long max;
+
+    private static int stripeCount() {
+        int cpus = Runtime.getRuntime().availableProcessors();
+        return Math.min(16, Integer.highestOneBit(Math.max(1, cpus) * 2 - 1));
+    }
+
+    // Mencatat satu durasi (nanodetik); nilai negatif dianggap 0
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        int stripe = (int) Thread.currentThread().threadId() & (STRIPES - 1);
+        counts.getAndIncrement(stripe * BUCKETS + bucketOf(value));
+        totalNanos.add(value);
+        if (value > max) {
+            updateMax(value);
+        }
+    }
+
+    private synchronized void updateMax(long value) {
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    static int bucketOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        long clamped = Math.min(value, MAX_VALUE);
+        int exponent = 63 - Long.numberOfLeadingZeros(clamped);
+        int shift = exponent - SUB_BITS;
+        return (shift << SUB_BITS) + (int) (clamped >>> shift);
+    }
+
+    // Nilai tertinggi yang masuk bucket tersebut (seperti highestEquivalentValue HdrHistogram)
+    static long highestValueOf(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int shift = (bucket >>> SUB_BITS) - 1;
+        long top = (bucket & (SUB_COUNT - 1)) + SUB_COUNT;
+        return ((top + 1) << shift) - 1;
+    }
+
+    public long getCount() {
+        return sum(snapshot());
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return max;
+    }
+
+    public double getMeanNanos() {
+        long n = getCount();
+        return n == 0 ? 0 : (double) totalNanos.sum() / n;
+    }
+
+    // Persentil (0-100) dalam nanodetik; 0 jika belum ada data
+    public long percentile(double percent) {
+        long[] merged = snapshot();
+        long total = sum(merged);
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percent / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < merged.length; i++) {
+            seen += merged[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    private static long sum(long[] buckets) {
+        long total = 0;
+        for (long c : buckets) {
+            total += c;
+        }
+        return total;
+    }
+
+    // Jumlah per bucket dari seluruh stripe (tidak atomik terhadap pencatatan yang berjalan)
+    long[] snapshot() {
+        long[] merged = new long[BUCKETS];
+        for (int s = 0; s < STRIPES; s++) {
+            int base = s * BUCKETS;
+            for (int i = 0; i < BUCKETS; i++) {
+                merged[i] += counts.get(base + i);
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,109 @@
+package library;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * CLASS LIBRARY BRANCH
+ * Satu cabang sebagai shard: katalog copy, member, transaksi, reservasi, dan denda milik
+ * cabang ini saja (LibraryService sendiri), diubah oleh satu thread penulis. Semua operasi
+ * dikirim ke antrean thread tersebut sehingga shard tidak pernah direbutkan antar thread dan
+ * cabang yang berbeda berjalan paralel tanpa lock bersama.
+ *
+ * Layanan cabang berjalan di memori tanpa journal.
+ */
+public class LibraryBranch implements Closeable {
+    private final String code;
+    private final String name;
+    private final LibraryService service = new LibraryService();
+    private final ExecutorService writer;
+
+    LibraryBranch(String code, String name) {
+        if (code == null || code.isBlank()) {
+            throw new IllegalArgumentException("Error: Kode cabang tidak boleh kosong");
+        }
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Error: Nama cabang tidak boleh kosong");
+        }
+        this.code = code;
+        this.name = name;
+        this.writer = Executors.newSingleThreadExecutor(Thread.ofPlatform().daemon().name("branch-" + code).factory());
+    }
+
+    // Menjalankan operasi di thread penulis cabang; exception diteruskan lewat future
+    public <T> CompletableFuture<T> submit(Function<LibraryService, T> operation) {
+        return CompletableFuture.supplyAsync(() -> operation.apply(service), writer);
+    }
+
+    public CompletableFuture<Void> registerMember(Member member) {
+        return submit(s -> {
+            s.registerMember(member);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> registerBook(Book book) {
+        return submit(s -> {
+            s.registerBook(book);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Transaction> borrow(Member member, Book book, int borrowDay, int borrowDurationDays) {
+        return submit(s -> s.borrow(member, book, borrowDay, borrowDurationDays));
+    }
+
+    public CompletableFuture<Outcome> processReturn(Transaction transaction, int returnDay) {
+        return submit(s -> s.processReturn(transaction, returnDay));
+    }
+
+    public CompletableFuture<Transaction> checkoutHold(HoldQueue.Hold hold, int borrowDay, int borrowDurationDays) {
+        return submit(s -> s.checkoutHold(hold, borrowDay, borrowDurationDays));
+    }
+
+    // Buku dengan judul dan penulis yang sama di katalog cabang ini; null jika tidak ada.
+    // Dipanggil dari thread penulis cabang.
+    Book findTitle(String title, String author) {
+        for (Book book : service.getRepository().findBooksByAuthor(author)) {
+            if (book.getTitle().equalsIgnoreCase(title)) {
+                return book;
+            }
+        }
+        return null;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // Layanan shard; perubahan harus lewat submit agar tetap satu penulis
+    public LibraryService getService() {
+        return service;
+    }
+
+    // Menunggu antrean operasi selesai lalu menutup layanan cabang
+    @Override
+    public void close() throws IOException {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        service.close();
+    }
+
+    @Override
+    public String toString() {
+        return code + " (" + name + ")";
+    }
+}
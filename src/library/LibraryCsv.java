@@ -0,0 +1,732 @@
+package library;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * CLASS LIBRARY CSV
+ * Impor dan ekspor massal member, katalog buku, dan pinjaman dalam format CSV (UTF-8).
+ *
+ * Impor: setelah header, berkas dibagi menjadi beberapa chunk pada batas baris. Setiap chunk
+ * dibaca dengan FileChannel (baca posisional, satu channel bersama) lalu di-parse dan
+ * divalidasi secara paralel di ForkJoinPool dengan aturan yang sama seperti constructor
+ * Member/Book (Validation). Baris tanpa ID mendapat nomor dari satu blok yang dipesan
+ * sekaligus dan dibagi sesuai urutan baris, sehingga berkas yang sama selalu menghasilkan
+ * ID yang sama. Pinjaman diterapkan berurutan karena saling berebut stok buku.
+ *
+ * Ekspor: streaming sesuai urutan ID, tanpa menyalin seluruh daftar ke memori.
+ *
+ * Format: baris pertama header (kolom dicocokkan berdasarkan nama, urutan bebas). Field yang
+ * memuat koma, tanda kutip, atau baris baru diapit tanda kutip ("" untuk kutip di dalamnya).
+ * Baris baru di dalam field berkutip ikut menjadi isi field, sehingga batas chunk dan batas
+ * baris data dicari dengan memperhatikan tanda kutip.
+ */
+public class LibraryCsv {
+    // Kolom tiap berkas; kolom pertama (ID) opsional saat impor, kosong = nomor baru
+    static final String[] MEMBER_COLUMNS = {"memberId", "name", "email", "phone", "registrationYear", "membershipType"};
+    static final String[] BOOK_COLUMNS = {"bookId", "title", "author", "category", "publicationYear", "totalCopies"};
+    // returnDate juga opsional: kosong = pinjaman masih aktif
+    static final String[] LOAN_COLUMNS = {"transactionId", "memberId", "bookId", "borrowDate", "dueDate", "returnDate"};
+
+    // Ukuran chunk: dibagi rata per worker, tetapi tidak terlalu kecil (overhead task)
+    // dan tidak terlalu besar (satu chunk = satu byte[])
+    private static final int MIN_CHUNK_SIZE = 1 << 20;
+    private static final int MAX_CHUNK_SIZE = 1 << 26;
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    // Panjang header maksimum dan ukuran buffer pencarian batas baris
+    private static final int MAX_HEADER_LENGTH = 1 << 16;
+    private static final int SCAN_BUFFER_SIZE = 1 << 16;
+
+    // Rentang tahun tanggal pinjaman yang diterima
+    private static final int MIN_YEAR = 1900;
+    private static final int MAX_YEAR = 9999;
+
+    private static final long MALFORMED = Validation.bit(Outcome.MALFORMED_ROW);
+    private static final long INVALID_ID = Validation.bit(Outcome.INVALID_ID);
+
+    private final LibraryService service;
+    private final LibraryRepository repository;
+    private final ForkJoinPool pool;
+
+    public LibraryCsv(LibraryService service) {
+        this(service, ForkJoinPool.commonPool());
+    }
+
+    public LibraryCsv(LibraryService service, ForkJoinPool pool) {
+        this.service = service;
+        this.repository = service.getRepository();
+        this.pool = pool;
+    }
+
+    // ---------------------------------------------------------------- impor
+
+    public ImportReport importMembers(Path file) throws IOException {
+        return load(file, MEMBER_COLUMNS, false, new RowKind<Member>() {
+            @Override
+            public IdGenerator ids() {
+                return Member.getIdGenerator();
+            }
+
+            @Override
+            public long number(String id) {
+                return Member.idNumber(id);
+            }
+
+            @Override
+            public long validate(String[] v) {
+                return Validation.member(v[1], v[2], v[3], parseInt(v[4]), v[5]);
+            }
+
+            @Override
+            public Member build(long number, String[] v) {
+                return new Member(number, v[1], v[2], v[3], parseInt(v[4]), MembershipTier.of(v[5]));
+            }
+
+            @Override
+            public BatchResult register(List<Member> members) {
+                return service.registerMembers(members);
+            }
+
+            @Override
+            public boolean ordered() {
+                return false;
+            }
+        });
+    }
+
+    public ImportReport importBooks(Path file) throws IOException {
+        return load(file, BOOK_COLUMNS, false, new RowKind<Book>() {
+            @Override
+            public IdGenerator ids() {
+                return Book.getIdGenerator();
+            }
+
+            @Override
+            public long number(String id) {
+                return Book.idNumber(id);
+            }
+
+            @Override
+            public long validate(String[] v) {
+                return Validation.book(v[1], v[2], v[3], parseInt(v[4]), parseInt(v[5]));
+            }
+
+            @Override
+            public Book build(long number, String[] v) {
+                int copies = parseInt(v[5]);
+                return new Book(number, v[1], v[2], BookCategory.of(v[3]), parseInt(v[4]), copies, copies);
+            }
+
+            @Override
+            public BatchResult register(List<Book> books) {
+                return service.registerBooks(books);
+            }
+
+            // Urutan masuk indeks pencarian menentukan urutan hasil dengan skor sama
+            @Override
+            public boolean ordered() {
+                return true;
+            }
+        });
+    }
+
+    // Member dan buku harus sudah terdaftar (impor member/katalog lebih dulu)
+    public ImportReport importLoans(Path file) throws IOException {
+        return load(file, LOAN_COLUMNS, true, new RowKind<Loan>() {
+            @Override
+            public IdGenerator ids() {
+                return Transaction.getIdGenerator();
+            }
+
+            @Override
+            public long number(String id) {
+                return Transaction.idNumber(id);
+            }
+
+            @Override
+            public long validate(String[] v) {
+                long errors = Validation.VALID;
+                if (repository.findMember(v[1]) == null) errors |= Validation.bit(Outcome.UNKNOWN_MEMBER);
+                if (repository.findBook(v[2]) == null) errors |= Validation.bit(Outcome.UNKNOWN_BOOK);
+                int borrowDay = EpochDay.parse(v[3], MIN_YEAR, MAX_YEAR);
+                int dueDay = EpochDay.parse(v[4], MIN_YEAR, MAX_YEAR);
+                int returnDay = v[5].isEmpty() ? borrowDay : EpochDay.parse(v[5], MIN_YEAR, MAX_YEAR);
+                if (borrowDay == EpochDay.NONE || dueDay == EpochDay.NONE || returnDay == EpochDay.NONE
+                        || dueDay < borrowDay) {
+                    errors |= Validation.bit(Outcome.INVALID_DATE);
+                } else if (returnDay < borrowDay) {
+                    errors |= Validation.bit(Outcome.RETURN_BEFORE_BORROW);
+                }
+                return errors;
+            }
+
+            @Override
+            public Loan build(long number, String[] v) {
+                return new Loan(number, repository.findMember(v[1]), repository.findBook(v[2]),
+                        EpochDay.parse(v[3], MIN_YEAR, MAX_YEAR), EpochDay.parse(v[4], MIN_YEAR, MAX_YEAR),
+                        v[5].isEmpty() ? EpochDay.NONE : EpochDay.parse(v[5], MIN_YEAR, MAX_YEAR));
+            }
+
+            @Override
+            public BatchResult register(List<Loan> loans) {
+                return service.importLoans(loans);
+            }
+
+            // Pinjaman saling berebut stok buku: diterapkan sesuai urutan berkas
+            @Override
+            public boolean ordered() {
+                return true;
+            }
+        });
+    }
+
+    // Jenis baris yang diimpor: validasi, pembuatan entitas, dan pendaftarannya
+    private interface RowKind<T> {
+        // Sumber nomor untuk baris tanpa ID
+        IdGenerator ids();
+
+        // Nomor dari ID tampilan; -1 jika formatnya tidak sesuai
+        long number(String id);
+
+        // Mask kesalahan baris (Validation.VALID jika valid); values sesuai urutan kolom
+        long validate(String[] values);
+
+        T build(long number, String[] values);
+
+        BatchResult register(List<T> items);
+
+        // true jika pendaftaran harus mengikuti urutan berkas (tidak paralel antar chunk)
+        boolean ordered();
+    }
+
+    // Satu baris pinjaman yang sudah di-resolve (returnDay NONE = masih aktif)
+    static final class Loan {
+        final long number;
+        final Member member;
+        final Book book;
+        final int borrowDay;
+        final int dueDay;
+        final int returnDay;
+
+        Loan(long number, Member member, Book book, int borrowDay, int dueDay, int returnDay) {
+            this.number = number;
+            this.member = member;
+            this.book = book;
+            this.borrowDay = borrowDay;
+            this.dueDay = dueDay;
+            this.returnDay = returnDay;
+        }
+    }
+
+    // Satu chunk berkas beserta hasil parse, validasi, dan pendaftarannya
+    private static final class Chunk {
+        final long start;
+        final long end;
+        // Jumlah baris fisik (termasuk baris kosong) untuk menghitung nomor baris global
+        int lines;
+        int rows;
+        final List<Row> valid = new ArrayList<>();
+        final List<Row> rejected = new ArrayList<>();
+        long rejectedCount;
+        int unnumbered;
+        long maxNumber;
+        // Diisi setelah semua chunk selesai di-parse
+        long firstLine;
+        long firstNumber;
+        long imported;
+
+        Chunk(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        void reject(int line, long errors) {
+            rejectedCount++;
+            // Penolakan di luar MAX_REJECTIONS pertama chunk ini tidak mungkin masuk laporan
+            if (rejected.size() < ImportReport.MAX_REJECTIONS) {
+                rejected.add(new Row(line, errors, null));
+            }
+        }
+    }
+
+    // Baris valid (number = nomor ID atau -1) atau baris ditolak (number = mask kesalahan)
+    private static final class Row {
+        final int line;
+        final long number;
+        final String[] values;
+
+        Row(int line, long number, String[] values) {
+            this.line = line;
+            this.number = number;
+            this.values = values;
+        }
+    }
+
+    // Posisi kolom di berkas (-1 = kolom opsional yang tidak ada) dan jumlah kolom header
+    private static final class Header {
+        final int length;
+        final int[] mapping;
+        final int width;
+
+        Header(int length, int[] mapping, int width) {
+            this.length = length;
+            this.mapping = mapping;
+            this.width = width;
+        }
+    }
+
+    // lastOptional: kolom terakhir boleh tidak ada di header (selain kolom ID)
+    private <T> ImportReport load(Path file, String[] columns, boolean lastOptional, RowKind<T> kind)
+            throws IOException {
+        long started = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            Header header = readHeader(channel, size, columns, lastOptional);
+            long dataStart = Math.min(size, header.length + 1L);
+            List<Chunk> chunks = split(channel, dataStart, size);
+
+            // Tahap 1 (paralel): parse dan validasi setiap chunk
+            List<Callable<Chunk>> parsing = new ArrayList<>(chunks.size());
+            for (Chunk chunk : chunks) {
+                parsing.add(() -> parse(channel, chunk, header, kind));
+            }
+            runAll(parsing);
+
+            // Nomor baris dan ID: baris tanpa ID dinomori berurutan sesuai posisi di berkas,
+            // di atas seluruh ID eksplisit agar tidak pernah bertabrakan
+            IdGenerator ids = kind.ids();
+            long unnumbered = 0;
+            long maxNumber = 0;
+            for (Chunk chunk : chunks) {
+                unnumbered += chunk.unnumbered;
+                maxNumber = Math.max(maxNumber, chunk.maxNumber);
+            }
+            ids.advanceTo(maxNumber);
+            long nextNumber = unnumbered > 0 ? ids.reserve(Math.toIntExact(unnumbered)) : 0;
+            long nextLine = 2;
+            for (Chunk chunk : chunks) {
+                chunk.firstLine = nextLine;
+                chunk.firstNumber = nextNumber;
+                nextLine += chunk.lines;
+                nextNumber += chunk.unnumbered;
+            }
+
+            // Tahap 2: pembuatan entitas dan pendaftaran (paralel antar chunk jika urutan bebas)
+            if (kind.ordered()) {
+                for (Chunk chunk : chunks) {
+                    register(chunk, kind);
+                }
+            } else {
+                List<Callable<Chunk>> registering = new ArrayList<>(chunks.size());
+                for (Chunk chunk : chunks) {
+                    registering.add(() -> register(chunk, kind));
+                }
+                runAll(registering);
+            }
+
+            long rows = 0;
+            long imported = 0;
+            long rejected = 0;
+            List<List<ImportReport.Rejection>> rejections = new ArrayList<>(chunks.size());
+            for (Chunk chunk : chunks) {
+                rows += chunk.rows;
+                imported += chunk.imported;
+                rejected += chunk.rejectedCount;
+                rejections.add(rejectionsOf(chunk));
+            }
+            return new ImportReport(rows, imported, ImportReport.limit(rejections), rejected,
+                    System.nanoTime() - started);
+        }
+    }
+
+    // Membaca baris pertama berkas lalu mencocokkan nama kolomnya (BOM UTF-8 dilewati)
+    private static Header readHeader(FileChannel channel, long size, String[] columns, boolean lastOptional)
+            throws IOException {
+        int length = (int) Math.min(size, MAX_HEADER_LENGTH);
+        byte[] head = new byte[length];
+        readFully(channel, head, 0);
+        int end = indexOf(head, 0, length, (byte) '\n');
+        if (end < 0) {
+            if (size > MAX_HEADER_LENGTH) {
+                throw new IllegalArgumentException("Error: Header CSV terlalu panjang");
+            }
+            end = length;
+        }
+        int from = end >= 3 && (head[0] & 0xFF) == 0xEF && (head[1] & 0xFF) == 0xBB
+                && (head[2] & 0xFF) == 0xBF ? 3 : 0;
+        List<String> names = new ArrayList<>();
+        if (!splitLine(head, from, trimCr(head, from, end), names, new Scratch())
+                || (names.size() == 1 && names.get(0).isEmpty())) {
+            throw new IllegalArgumentException("Error: Header CSV tidak valid");
+        }
+        int[] mapping = new int[columns.length];
+        for (int c = 0; c < columns.length; c++) {
+            mapping[c] = names.indexOf(columns[c]);
+            boolean optional = c == 0 || (lastOptional && c == columns.length - 1);
+            if (mapping[c] < 0 && !optional) {
+                throw new IllegalArgumentException("Error: Kolom CSV tidak ditemukan: " + columns[c]);
+            }
+        }
+        return new Header(end, mapping, names.size());
+    }
+
+    // Membagi bagian data berkas menjadi chunk yang berakhir tepat setelah line break di luar
+    // tanda kutip. Status kutip bergantung pada seluruh isi sebelumnya, jadi batas dicari dengan
+    // satu kali pindai berurutan (hanya menghitung byte '"'; parse tetap paralel per chunk).
+    private List<Chunk> split(FileChannel channel, long dataStart, long size) throws IOException {
+        long length = size - dataStart;
+        long target = length / ((long) pool.getParallelism() * CHUNKS_PER_WORKER);
+        target = Math.min(MAX_CHUNK_SIZE, Math.max(MIN_CHUNK_SIZE, target));
+        List<Chunk> chunks = new ArrayList<>();
+        byte[] scan = new byte[SCAN_BUFFER_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(scan);
+        boolean quoted = false;
+        long start = dataStart;
+        long position = dataStart;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            // Bagian buffer sebelum start + target hanya perlu menghitung tanda kutip
+            int search = (int) Math.max(0, Math.min(read, start + target - position));
+            for (int i = 0; i < read; i++) {
+                byte b = scan[i];
+                if (b == '"') {
+                    quoted = !quoted;
+                } else if (b == '\n' && !quoted && i >= search) {
+                    long end = position + i + 1;
+                    if (end - start > Integer.MAX_VALUE - 8) {
+                        throw new IllegalArgumentException("Error: Baris CSV terlalu panjang di posisi " + start);
+                    }
+                    chunks.add(new Chunk(start, end));
+                    start = end;
+                    search = (int) Math.max(0, Math.min(read, start + target - position));
+                }
+            }
+            position += read;
+        }
+        if (start < size) {
+            if (size - start > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Error: Baris CSV terlalu panjang di posisi " + start);
+            }
+            chunks.add(new Chunk(start, size));
+        }
+        return chunks;
+    }
+
+    // Tahap 1: membaca satu chunk, memecah baris, dan memvalidasinya
+    private <T> Chunk parse(FileChannel channel, Chunk chunk, Header header, RowKind<T> kind) throws IOException {
+        byte[] data = new byte[(int) (chunk.end - chunk.start)];
+        readFully(channel, data, chunk.start);
+        int[] mapping = header.mapping;
+        int columns = mapping.length;
+        List<String> fields = new ArrayList<>(header.width);
+        Scratch scratch = new Scratch();
+        int line = 0;
+        int from = 0;
+        while (from < data.length) {
+            // Akhir baris data: line break pertama di luar tanda kutip; baris fisik di dalam
+            // field berkutip tetap dihitung agar nomor baris di laporan sesuai berkas
+            int to = from;
+            int embedded = 0;
+            boolean quoted = false;
+            for (; to < data.length; to++) {
+                byte b = data[to];
+                if (b == '"') {
+                    quoted = !quoted;
+                } else if (b == '\n') {
+                    if (!quoted) {
+                        break;
+                    }
+                    embedded++;
+                }
+            }
+            int end = trimCr(data, from, to);
+            if (end > from) {
+                chunk.rows++;
+                fields.clear();
+                if (!splitLine(data, from, end, fields, scratch) || fields.size() != header.width) {
+                    chunk.reject(line, MALFORMED);
+                } else {
+                    String[] values = new String[columns];
+                    for (int c = 0; c < columns; c++) {
+                        values[c] = mapping[c] < 0 ? "" : fields.get(mapping[c]);
+                    }
+                    accept(chunk, line, values, kind);
+                }
+            }
+            line += 1 + embedded;
+            from = to + 1;
+        }
+        chunk.lines = line;
+        return chunk;
+    }
+
+    private static <T> void accept(Chunk chunk, int line, String[] values, RowKind<T> kind) {
+        long number = -1;
+        long errors = Validation.VALID;
+        if (!values[0].isEmpty()) {
+            number = kind.number(values[0]);
+            if (number <= 0) {
+                errors |= INVALID_ID;
+            }
+        }
+        errors |= kind.validate(values);
+        if (!Validation.isValid(errors)) {
+            chunk.reject(line, errors);
+            return;
+        }
+        if (number < 0) {
+            chunk.unnumbered++;
+        } else {
+            chunk.maxNumber = Math.max(chunk.maxNumber, number);
+        }
+        chunk.valid.add(new Row(line, number, values));
+    }
+
+    // Tahap 2: membuat entitas dengan nomor final lalu mendaftarkannya sekaligus
+    private static <T> Chunk register(Chunk chunk, RowKind<T> kind) {
+        List<T> items = new ArrayList<>(chunk.valid.size());
+        long nextNumber = chunk.firstNumber;
+        for (Row row : chunk.valid) {
+            items.add(kind.build(row.number >= 0 ? row.number : nextNumber++, row.values));
+        }
+        BatchResult result = kind.register(items);
+        int i = 0;
+        for (BatchResult.Item item : result.getItems()) {
+            if (item.isSuccess()) {
+                chunk.imported++;
+            } else {
+                chunk.reject(chunk.valid.get(i).line, Validation.bit(item.getOutcome()));
+            }
+            i++;
+        }
+        // Data baris tidak dibutuhkan lagi; entitas sudah memegang string-nya
+        chunk.valid.clear();
+        return chunk;
+    }
+
+    // Penolakan tahap 1 dan 2 digabung sesuai nomor baris
+    private static List<ImportReport.Rejection> rejectionsOf(Chunk chunk) {
+        chunk.rejected.sort((a, b) -> Integer.compare(a.line, b.line));
+        List<ImportReport.Rejection> result = new ArrayList<>(chunk.rejected.size());
+        for (Row row : chunk.rejected) {
+            result.add(new ImportReport.Rejection(chunk.firstLine + row.line, row.number));
+        }
+        return result;
+    }
+
+    private <R> void runAll(List<Callable<R>> tasks) throws IOException {
+        try {
+            for (Future<R> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Impor CSV dihentikan");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw (Error) cause;
+        }
+    }
+
+    // ---------------------------------------------------------------- ekspor
+
+    // Mengembalikan jumlah baris data yang ditulis
+    public long exportMembers(Path file) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeRow(out, MEMBER_COLUMNS);
+            long rows = 0;
+            Iterator<Member> it = repository.streamMembers(null, null).iterator();
+            while (it.hasNext()) {
+                Member m = it.next();
+                writeRow(out, m.getMemberId(), m.getName(), m.getEmail(), m.getPhoneNumber(),
+                        Integer.toString(m.getRegistrationYear()), m.getMembershipType());
+                rows++;
+            }
+            return rows;
+        }
+    }
+
+    public long exportBooks(Path file) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeRow(out, BOOK_COLUMNS);
+            long rows = 0;
+            Iterator<Book> it = repository.streamBooks(null, null).iterator();
+            while (it.hasNext()) {
+                Book b = it.next();
+                writeRow(out, b.getBookId(), b.getTitle(), b.getAuthor(), b.getCategory(),
+                        Integer.toString(b.getPublicationYear()), Integer.toString(b.getTotalCopies()));
+                rows++;
+            }
+            return rows;
+        }
+    }
+
+    // Pinjaman yang masih ada di repository (yang sudah diarsipkan tidak ikut)
+    public long exportLoans(Path file) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeRow(out, LOAN_COLUMNS);
+            long rows = 0;
+            Iterator<Transaction> it = repository.streamTransactions(null, null).iterator();
+            while (it.hasNext()) {
+                Transaction t = it.next();
+                String returnDate = t.getReturnDate();
+                writeRow(out, t.getTransactionId(), t.getMember().getMemberId(), t.getBook().getBookId(),
+                        t.getBorrowDate(), t.getDueDate(), returnDate == null ? "" : returnDate);
+                rows++;
+            }
+            return rows;
+        }
+    }
+
+    // Menulis satu baris; field diapit tanda kutip hanya jika perlu
+    static void writeRow(Writer out, String... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            String value = values[i];
+            if (needsQuotes(value)) {
+                out.write('"');
+                out.write(value.replace("\"", "\"\""));
+                out.write('"');
+            } else {
+                out.write(value);
+            }
+        }
+        out.write('\n');
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ---------------------------------------------------------------- parser
+
+    // Buffer sementara untuk field berkutip (isi setelah "" diganti ")
+    private static final class Scratch {
+        byte[] bytes = new byte[256];
+    }
+
+    // Memecah satu baris data [from, to) menjadi field (line break di dalam kutip ikut menjadi
+    // isi field); false jika kutip tidak ditutup
+    // atau ada teks setelah kutip penutup
+    private static boolean splitLine(byte[] data, int from, int to, List<String> fields, Scratch scratch) {
+        int i = from;
+        while (true) {
+            if (i < to && data[i] == '"') {
+                int length = 0;
+                i++;
+                while (true) {
+                    if (i >= to) {
+                        return false;
+                    }
+                    byte b = data[i++];
+                    if (b == '"') {
+                        if (i < to && data[i] == '"') {
+                            i++;
+                        } else {
+                            break;
+                        }
+                    }
+                    if (length == scratch.bytes.length) {
+                        scratch.bytes = Arrays.copyOf(scratch.bytes, length * 2);
+                    }
+                    scratch.bytes[length++] = b;
+                }
+                fields.add(new String(scratch.bytes, 0, length, StandardCharsets.UTF_8));
+                if (i == to) {
+                    return true;
+                }
+                if (data[i] != ',') {
+                    return false;
+                }
+                i++;
+            } else {
+                int comma = indexOf(data, i, to, (byte) ',');
+                int end = comma < 0 ? to : comma;
+                fields.add(new String(data, i, end - i, StandardCharsets.UTF_8));
+                if (comma < 0) {
+                    return true;
+                }
+                i = comma + 1;
+            }
+        }
+    }
+
+    // Angka desimal non-negatif (maksimal 9 digit); Integer.MIN_VALUE jika tidak valid
+    static int parseInt(String text) {
+        int length = text.length();
+        if (length == 0 || length > 9) {
+            return Integer.MIN_VALUE;
+        }
+        int value = 0;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return Integer.MIN_VALUE;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static int trimCr(byte[] data, int from, int to) {
+        return to > from && data[to - 1] == '\r' ? to - 1 : to;
+    }
+
+    private static int indexOf(byte[] data, int from, int to, byte target) {
+        for (int i = from; i < to; i++) {
+            if (data[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void readFully(FileChannel channel, byte[] target, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(target);
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Berkas CSV berubah saat dibaca");
+            }
+        }
+    }
+}
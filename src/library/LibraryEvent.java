@@ -0,0 +1,94 @@
+package library;
+
+/**
+ * CLASS LIBRARY EVENT
+ * Satu kejadian domain (perubahan data, upgrade, pinjam, kembali, reservasi) beserta hasilnya.
+ * Event hanya dibuat jika ada listener; pesan teks dibentuk saat diminta.
+ */
+public class LibraryEvent {
+    // Jenis operasi yang menghasilkan event
+    public enum Kind {
+        BOOK_UPDATE,
+        MEMBER_UPDATE,
+        MEMBERSHIP_UPGRADE,
+        BORROW,
+        RETURN,
+        HOLD
+    }
+
+    private final Kind kind;
+    private final Outcome outcome;
+    // Objek utama (Book, Member, Transaction, atau Hold) dan konteks tambahan (boleh null)
+    private final Object subject;
+    private final Object detail;
+
+    LibraryEvent(Kind kind, Outcome outcome, Object subject, Object detail) {
+        this.kind = kind;
+        this.outcome = outcome;
+        this.subject = subject;
+        this.detail = detail;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public Object getSubject() {
+        return subject;
+    }
+
+    public Object getDetail() {
+        return detail;
+    }
+
+    public boolean isSuccess() {
+        return outcome.isSuccess();
+    }
+
+    // Pesan lengkap sesuai konteks event
+    public String getMessage() {
+        switch (outcome) {
+            case OK:
+                if (kind == Kind.MEMBERSHIP_UPGRADE) {
+                    Member member = (Member) subject;
+                    return member.getName() + " berhasil di-upgrade dari " + detail + " ke "
+                            + member.getMembershipType() + "!\n"
+                            + "  Batas Pinjam Baru: " + member.getMaxBorrowLimit() + " buku | "
+                            + "Diskon Denda Baru: " + member.getTier().getDiscountPercent() + "%";
+                }
+                return outcome.getMessage();
+            case INVALID_AVAILABLE_COPIES:
+                return "availableCopies harus 0-" + ((Book) subject).getTotalCopies();
+            case TOTAL_BELOW_ON_LOAN: {
+                Book book = (Book) subject;
+                return "totalCopies minimal " + (book.getTotalCopies() - book.getAvailableCopies())
+                        + " (copy yang sedang dipinjam)";
+            }
+            case LIMIT_REACHED: {
+                Member member = (Member) subject;
+                return member.getName() + " sudah mencapai batas pinjam (" + member.getMaxBorrowLimit() + " buku)";
+            }
+            case NOT_AVAILABLE:
+                return "\"" + ((Book) detail).getTitle() + "\" tidak tersedia untuk dipinjam";
+            case ALREADY_RETURNED:
+                return "Transaksi " + ((Transaction) subject).getTransactionId() + " sudah dikembalikan";
+            case STILL_AVAILABLE:
+                return "\"" + ((Book) subject).getTitle() + "\" masih tersedia, silakan langsung dipinjam";
+            case DUPLICATE_HOLD:
+                return ((Member) subject).getName() + " sudah mereservasi \"" + ((Book) detail).getTitle() + "\"";
+            case HOLD_NOT_READY:
+                return "Reservasi #" + ((HoldQueue.Hold) subject).getHoldNumber() + " belum siap diambil";
+            default:
+                return outcome.getMessage();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return kind + " " + outcome + ": " + getMessage();
+    }
+}
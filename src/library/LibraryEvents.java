@@ -0,0 +1,53 @@
+package library;
+
+import java.util.Arrays;
+
+/**
+ * CLASS LIBRARY EVENTS
+ * Daftar listener milik satu repository. Tanpa listener, publish hanya membaca satu
+ * field volatile: tidak ada alokasi event, pembentukan pesan, atau lock PrintStream.
+ */
+public class LibraryEvents {
+    private static final LibraryListener[] NONE = new LibraryListener[0];
+
+    // Copy-on-write: pendaftaran jarang, publish sering
+    private volatile LibraryListener[] listeners = NONE;
+
+    public synchronized void addListener(LibraryListener listener) {
+        LibraryListener[] current = listeners;
+        LibraryListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+
+    public synchronized boolean removeListener(LibraryListener listener) {
+        LibraryListener[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                LibraryListener[] updated = new LibraryListener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners = current.length == 1 ? NONE : updated;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean hasListeners() {
+        return listeners.length > 0;
+    }
+
+    // Mengirim event ke semua listener lalu meneruskan outcome ke pemanggil
+    Outcome publish(LibraryEvent.Kind kind, Outcome outcome, Object subject, Object detail) {
+        LibraryListener[] current = listeners;
+        if (current.length == 0) {
+            return outcome;
+        }
+        LibraryEvent event = new LibraryEvent(kind, outcome, subject, detail);
+        for (LibraryListener listener : current) {
+            listener.onEvent(event);
+        }
+        return outcome;
+    }
+}
@@ -0,0 +1,487 @@
+package library;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * CLASS LIBRARY JOURNAL
+ * Write-ahead log biner (append-only) untuk event registrasi, perubahan data member/buku,
+ * peminjaman, pengembalian, dan pemindahan pinjaman selesai ke arsip.
+ *
+ * Format tiap record: [int panjang payload][byte tipe][payload][int CRC32 tipe+payload].
+ * String di payload disimpan sebagai [int panjang][byte UTF-8]. Record tipe 1-4 dari format
+ * lama (panjang string unsigned short, pengembalian tanpa denda) masih bisa diputar ulang.
+ * Penulis hanya menyalin record ke buffer; satu thread committer menulis seluruh buffer
+ * lalu memanggil fsync sekali untuk semua record yang terkumpul (group commit).
+ */
+public class LibraryJournal implements Closeable {
+    // Tipe record format lama (hanya dibaca)
+    private static final byte LEGACY_MEMBER_REGISTERED = 1;
+    private static final byte LEGACY_BOOK_REGISTERED = 2;
+    private static final byte LEGACY_BORROWED = 3;
+    private static final byte LEGACY_RETURNED = 4;
+    // Tipe record
+    static final byte MEMBER_REGISTERED = 5;
+    static final byte BOOK_REGISTERED = 6;
+    static final byte BORROWED = 7;
+    static final byte RETURNED = 8;
+    static final byte MEMBER_UPDATED = 9;
+    static final byte BOOK_UPDATED = 10;
+    static final byte LOANS_ARCHIVED = 11;
+
+    private static final int HEADER_SIZE = 5;  // panjang + tipe
+    private static final int TRAILER_SIZE = 4; // CRC32
+    private static final int INITIAL_BUFFER = 64 * 1024;
+    // Ukuran buffer baca saat replay
+    private static final int REPLAY_BUFFER = 1 << 20;
+
+    private final FileChannel channel;
+    private final Object lock = new Object();
+    private final CRC32 crc = new CRC32();
+    private final Thread committer;
+
+    // Dijaga oleh lock
+    private ByteBuffer pending = ByteBuffer.allocate(INITIAL_BUFFER);
+    private ByteBuffer writing = ByteBuffer.allocate(INITIAL_BUFFER);
+    private long appendedSequence = 0;
+    private long durableSequence = 0;
+    private long commitCount = 0;
+    private long durableLength;
+    private int recordStart = 0;
+    private boolean closed = false;
+    private boolean stopped = false;
+    private IOException failure;
+
+    private LibraryJournal(FileChannel channel, long length) {
+        this.channel = channel;
+        this.durableLength = length;
+        this.committer = new Thread(this::commitLoop, "library-journal-committer");
+        this.committer.setDaemon(true);
+        this.committer.start();
+    }
+
+    // Membuka journal untuk ditambah; data setelah validLength (record rusak/terpotong) dibuang
+    public static LibraryJournal open(Path path, long validLength) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.truncate(validLength);
+        channel.position(validLength);
+        return new LibraryJournal(channel, validLength);
+    }
+
+    // Event registrasi member
+    public long appendMemberRegistered(Member m) throws IOException {
+        return appendMember(MEMBER_REGISTERED, m);
+    }
+
+    // Perubahan data member (termasuk level membership); seluruh data terbaru dicatat
+    public long appendMemberUpdated(Member m) throws IOException {
+        return appendMember(MEMBER_UPDATED, m);
+    }
+
+    private long appendMember(byte type, Member m) throws IOException {
+        byte[][] text = utf8(m.getMemberId(), m.getName(), m.getEmail(), m.getPhoneNumber(), m.getMembershipType());
+        synchronized (lock) {
+            ByteBuffer out = begin(type, sizeOf(text) + 4);
+            putString(out, text[0]);
+            putString(out, text[1]);
+            putString(out, text[2]);
+            putString(out, text[3]);
+            out.putInt(m.getRegistrationYear());
+            putString(out, text[4]);
+            return end(out);
+        }
+    }
+
+    // Event registrasi buku
+    public long appendBookRegistered(Book b) throws IOException {
+        return appendBook(BOOK_REGISTERED, b);
+    }
+
+    // Perubahan data buku (judul, penulis, kategori, tahun, total copy)
+    public long appendBookUpdated(Book b) throws IOException {
+        return appendBook(BOOK_UPDATED, b);
+    }
+
+    private long appendBook(byte type, Book b) throws IOException {
+        byte[][] text = utf8(b.getBookId(), b.getTitle(), b.getAuthor(), b.getCategory());
+        synchronized (lock) {
+            ByteBuffer out = begin(type, sizeOf(text) + 8);
+            putString(out, text[0]);
+            putString(out, text[1]);
+            putString(out, text[2]);
+            putString(out, text[3]);
+            out.putInt(b.getPublicationYear());
+            out.putInt(b.getTotalCopies());
+            return end(out);
+        }
+    }
+
+    // Event peminjaman
+    public long appendBorrowed(Transaction t) throws IOException {
+        byte[][] text = utf8(t.getTransactionId(), t.getMember().getMemberId(), t.getBook().getBookId());
+        synchronized (lock) {
+            ByteBuffer out = begin(BORROWED, sizeOf(text) + 8);
+            putString(out, text[0]);
+            putString(out, text[1]);
+            putString(out, text[2]);
+            out.putInt(t.getBorrowDay());
+            out.putInt(t.getDueDay());
+            return end(out);
+        }
+    }
+
+    // Event pengembalian; denda dicatat apa adanya agar replay tidak bergantung pada tarif/level saat itu
+    public long appendReturned(Transaction t) throws IOException {
+        byte[][] text = utf8(t.getTransactionId());
+        synchronized (lock) {
+            ByteBuffer out = begin(RETURNED, sizeOf(text) + 12);
+            putString(out, text[0]);
+            out.putInt(t.getReturnDay());
+            out.putLong(t.getLateFeeCents());
+            return end(out);
+        }
+    }
+
+    // Pinjaman selesai yang dipindahkan ke arsip kolom: [int jumlah][long nomorTrx...]
+    public long appendArchived(List<Transaction> transactions) throws IOException {
+        synchronized (lock) {
+            ByteBuffer out = begin(LOANS_ARCHIVED, 4 + transactions.size() * 8);
+            out.putInt(transactions.size());
+            for (Transaction t : transactions) {
+                out.putLong(t.getTransactionNumber());
+            }
+            return end(out);
+        }
+    }
+
+    // Menunggu sampai record dengan nomor urut tersebut sudah di-fsync ke disk
+    public void awaitDurable(long sequence) throws IOException {
+        synchronized (lock) {
+            while (durableSequence < sequence) {
+                if (failure != null) {
+                    throw new IOException("Error: Journal gagal ditulis", failure);
+                }
+                if (stopped) {
+                    throw new IOException("Error: Journal sudah ditutup");
+                }
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Menunggu journal terputus");
+                }
+            }
+        }
+    }
+
+    // Jumlah fsync yang sudah dilakukan (untuk mengukur efek group commit)
+    public long getCommitCount() {
+        synchronized (lock) {
+            return commitCount;
+        }
+    }
+
+    public long getDurableSequence() {
+        synchronized (lock) {
+            return durableSequence;
+        }
+    }
+
+    // Panjang file yang sudah pasti tersimpan (posisi awal replay setelah snapshot)
+    public long getDurableLength() {
+        synchronized (lock) {
+            return durableLength;
+        }
+    }
+
+    // Menulis sisa record lalu menutup file
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            lock.notifyAll();
+        }
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    // Thread committer: tukar buffer, tulis, fsync, bangunkan penulis yang menunggu
+    private void commitLoop() {
+        try {
+            commitBatches();
+        } finally {
+            synchronized (lock) {
+                stopped = true;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private void commitBatches() {
+        while (true) {
+            long batchSequence;
+            long batchLength;
+            synchronized (lock) {
+                while (pending.position() == 0 && !closed) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (pending.position() == 0) {
+                    return;
+                }
+                ByteBuffer swap = writing;
+                writing = pending;
+                pending = swap;
+                batchSequence = appendedSequence;
+            }
+
+            try {
+                writing.flip();
+                while (writing.hasRemaining()) {
+                    channel.write(writing);
+                }
+                channel.force(false);
+                batchLength = channel.position();
+            } catch (IOException e) {
+                synchronized (lock) {
+                    failure = e;
+                    lock.notifyAll();
+                }
+                return;
+            } finally {
+                writing.clear();
+            }
+
+            synchronized (lock) {
+                durableSequence = batchSequence;
+                durableLength = batchLength;
+                commitCount++;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    // Menyiapkan ruang untuk satu record di buffer pending (dipanggil di dalam lock)
+    private ByteBuffer begin(byte type, int payloadSize) throws IOException {
+        if (closed) {
+            throw new IOException("Error: Journal sudah ditutup");
+        }
+        if (failure != null) {
+            throw new IOException("Error: Journal gagal ditulis", failure);
+        }
+        int recordSize = HEADER_SIZE + payloadSize + TRAILER_SIZE;
+        if (pending.remaining() < recordSize) {
+            ByteBuffer bigger = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + recordSize));
+            pending.flip();
+            bigger.put(pending);
+            pending = bigger;
+        }
+        recordStart = pending.position();
+        pending.putInt(payloadSize);
+        pending.put(type);
+        return pending;
+    }
+
+    // Menutup record dengan CRC lalu membangunkan committer (dipanggil di dalam lock)
+    private long end(ByteBuffer out) {
+        int checksumStart = recordStart + 4;
+        crc.reset();
+        crc.update(out.array(), checksumStart, out.position() - checksumStart);
+        out.putInt((int) crc.getValue());
+        lock.notifyAll();
+        return ++appendedSequence;
+    }
+
+    // ---------------------------------------------------------------- pemutaran ulang
+
+    /**
+     * Penerima event saat journal diputar ulang
+     */
+    public interface Replayer {
+        void memberRegistered(String memberId, String name, String email, String phoneNumber,
+                              int registrationYear, String membershipType);
+
+        void bookRegistered(String bookId, String title, String author, String category,
+                            int publicationYear, int totalCopies);
+
+        void borrowed(String transactionId, String memberId, String bookId, int borrowDay, int dueDay);
+
+        // lateFeeCents = -1 untuk record format lama (denda dihitung ulang)
+        void returned(String transactionId, int returnDay, long lateFeeCents);
+
+        void memberUpdated(String memberId, String name, String email, String phoneNumber,
+                           int registrationYear, String membershipType);
+
+        void bookUpdated(String bookId, String title, String author, String category,
+                         int publicationYear, int totalCopies);
+
+        void archived(long[] transactionNumbers);
+    }
+
+    // Memutar ulang seluruh record valid; mengembalikan panjang byte yang valid
+    public static long replay(Path path, Replayer replayer) throws IOException {
+        return replay(path, 0, replayer);
+    }
+
+    // Memutar ulang mulai dari offset tertentu (misalnya posisi yang sudah tercakup snapshot).
+    // File dibaca bertahap lewat buffer berukuran tetap (diperbesar hanya untuk record yang
+    // lebih besar), sehingga journal berapa pun ukurannya bisa diputar ulang.
+    public static long replay(Path path, long fromOffset, Replayer replayer) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (fromOffset > size) {
+                throw new IOException("Error: Journal lebih pendek dari posisi snapshot");
+            }
+            channel.position(fromOffset);
+            ByteBuffer in = ByteBuffer.allocate(REPLAY_BUFFER).flip();
+            CRC32 crc = new CRC32();
+            long valid = fromOffset;
+            while (true) {
+                if (in.remaining() < HEADER_SIZE && !fill(channel, in, HEADER_SIZE)) {
+                    break;
+                }
+                int start = in.position();
+                int payloadSize = in.getInt(start);
+                long recordSize = (long) HEADER_SIZE + payloadSize + TRAILER_SIZE;
+                if (payloadSize < 0 || recordSize > size - valid) {
+                    break; // record terakhir terpotong (crash saat menulis)
+                }
+                if (in.remaining() < recordSize) {
+                    if (in.capacity() < recordSize) {
+                        in = ByteBuffer.allocate((int) recordSize).put(in).flip();
+                    }
+                    if (!fill(channel, in, (int) recordSize)) {
+                        break;
+                    }
+                    start = in.position();
+                }
+                byte type = in.get(start + 4);
+                crc.reset();
+                crc.update(in.duplicate().position(start + 4).limit(start + HEADER_SIZE + payloadSize));
+                if ((int) crc.getValue() != in.getInt(start + HEADER_SIZE + payloadSize)) {
+                    break; // record rusak, semua setelahnya diabaikan
+                }
+                dispatch(type, in.slice(start + HEADER_SIZE, payloadSize), replayer);
+                in.position(start + (int) recordSize);
+                valid += recordSize;
+            }
+            return valid;
+        }
+    }
+
+    // Menggeser sisa data ke awal buffer lalu membaca sampai minimal `needed` byte tersedia
+    private static boolean fill(FileChannel channel, ByteBuffer in, int needed) throws IOException {
+        in.compact();
+        try {
+            while (in.position() < needed) {
+                if (channel.read(in) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            in.flip();
+        }
+    }
+
+    private static void dispatch(byte type, ByteBuffer in, Replayer replayer) throws IOException {
+        boolean legacy = type <= LEGACY_RETURNED;
+        switch (type) {
+            case LEGACY_MEMBER_REGISTERED:
+            case MEMBER_REGISTERED:
+                replayer.memberRegistered(getString(in, legacy), getString(in, legacy), getString(in, legacy),
+                        getString(in, legacy), in.getInt(), getString(in, legacy));
+                break;
+            case LEGACY_BOOK_REGISTERED:
+            case BOOK_REGISTERED:
+                replayer.bookRegistered(getString(in, legacy), getString(in, legacy), getString(in, legacy),
+                        getString(in, legacy), in.getInt(), in.getInt());
+                break;
+            case LEGACY_BORROWED:
+            case BORROWED:
+                replayer.borrowed(getString(in, legacy), getString(in, legacy), getString(in, legacy),
+                        in.getInt(), in.getInt());
+                break;
+            case LEGACY_RETURNED:
+                replayer.returned(getString(in, true), in.getInt(), -1);
+                break;
+            case RETURNED:
+                replayer.returned(getString(in, false), in.getInt(), in.getLong());
+                break;
+            case MEMBER_UPDATED:
+                replayer.memberUpdated(getString(in, false), getString(in, false), getString(in, false),
+                        getString(in, false), in.getInt(), getString(in, false));
+                break;
+            case BOOK_UPDATED:
+                replayer.bookUpdated(getString(in, false), getString(in, false), getString(in, false),
+                        getString(in, false), in.getInt(), in.getInt());
+                break;
+            case LOANS_ARCHIVED:
+                long[] numbers = new long[in.getInt()];
+                for (int i = 0; i < numbers.length; i++) {
+                    numbers[i] = in.getLong();
+                }
+                replayer.archived(numbers);
+                break;
+            default:
+                throw new IOException("Error: Tipe record journal tidak dikenal: " + type);
+        }
+    }
+
+    // ---------------------------------------------------------------- encoding string
+
+    private static byte[][] utf8(String... values) {
+        byte[][] result = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return result;
+    }
+
+    private static int sizeOf(byte[][] text) {
+        int size = 0;
+        for (byte[] bytes : text) {
+            size += 4 + bytes.length;
+        }
+        return size;
+    }
+
+    private static void putString(ByteBuffer out, byte[] bytes) {
+        out.putInt(bytes.length);
+        out.put(bytes);
+    }
+
+    // Record format lama memakai panjang unsigned short
+    private static String getString(ByteBuffer in, boolean legacy) {
+        int length = legacy ? Short.toUnsignedInt(in.getShort()) : in.getInt();
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,10 @@
+package library;
+
+/**
+ * INTERFACE LIBRARY LISTENER
+ * Penerima event domain. Dipanggil di thread yang menjalankan operasi,
+ * jadi implementasi harus cepat dan tidak boleh melempar exception.
+ */
+public interface LibraryListener {
+    void onEvent(LibraryEvent event);
+}
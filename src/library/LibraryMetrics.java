@@ -0,0 +1,263 @@
+package library;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * CLASS LIBRARY METRICS
+ * Instrumentasi jalur panas sirkulasi: histogram latensi per operasi (borrowBook, pembuatan
+ * Transaction, processReturn, laporan display*), jumlah pinjaman baru per kategori, dan
+ * gauge yang dibaca saat diminta (misalnya pinjaman aktif). Tersedia lewat JMX
+ * (library:type=Metrics) dan sebagai dump teks.
+ *
+ * Metrik bersifat global seperti generator ID dan nonaktif secara default: titik ukur hanya
+ * membaca satu field volatile, tanpa System.nanoTime dan tanpa alokasi. Saat aktif, setiap
+ * event dihitung (LongAdder), tetapi latensi hanya diukur pada 1 dari samplePeriod event:
+ * System.nanoTime sendiri bisa memakan ~25-50 ns di mesin virtual, sehingga mengukur setiap
+ * event akan melampaui biaya yang diukur. Persentil dari sampel acak tetap representatif.
+ */
+public class LibraryMetrics implements LibraryMetricsMXBean {
+    /**
+     * Operasi yang diukur latensinya
+     */
+    public enum Operation {
+        BORROW_BOOK("borrowBook"),
+        NEW_TRANSACTION("newTransaction"),
+        PROCESS_RETURN("processReturn"),
+        DISPLAY("display");
+
+        private final String name;
+
+        Operation(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    static final String OBJECT_NAME = "library:type=Metrics";
+    // 1 dari 8 event diukur latensinya (pangkat dua; 1 = setiap event)
+    public static final int DEFAULT_SAMPLE_PERIOD = 8;
+
+    // Penanda start(): 0 = metrik nonaktif, SKIPPED = event dihitung tanpa diukur
+    private static final long SKIPPED = Long.MIN_VALUE;
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    // Metrik yang sedang aktif (null = nonaktif)
+    private static volatile LibraryMetrics current;
+
+    private final int sampleMask;
+    private final LongAdder[] counts = new LongAdder[OPERATIONS.length];
+    private final LatencyHistogram[] latencies = new LatencyHistogram[OPERATIONS.length];
+    // Pinjaman baru per label kategori
+    private final Map<String, LongAdder> categoryBorrows = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentSkipListMap<>();
+    private final long startedNanos = System.nanoTime();
+
+    LibraryMetrics(int samplePeriod) {
+        if (samplePeriod < 1 || Integer.bitCount(samplePeriod) != 1) {
+            throw new IllegalArgumentException("Error: Periode sampel harus pangkat dua >= 1");
+        }
+        this.sampleMask = samplePeriod - 1;
+        for (int i = 0; i < latencies.length; i++) {
+            counts[i] = new LongAdder();
+            latencies[i] = new LatencyHistogram();
+        }
+    }
+
+    public static LibraryMetrics enable() {
+        return enable(DEFAULT_SAMPLE_PERIOD);
+    }
+
+    // Mengaktifkan metrik (jika belum) lalu mendaftarkannya ke platform MBeanServer.
+    // Jika sudah aktif dengan periode sampel lain, metrik lama diganti (hitungan mulai dari nol).
+    public static synchronized LibraryMetrics enable(int samplePeriod) {
+        if (current == null || current.getSamplePeriod() != samplePeriod) {
+            LibraryMetrics metrics = new LibraryMetrics(samplePeriod);
+            register(metrics);
+            current = metrics;
+        }
+        return current;
+    }
+
+    // Menonaktifkan metrik; titik ukur kembali tanpa biaya
+    public static synchronized void disable() {
+        if (current != null) {
+            current = null;
+            unregister();
+        }
+    }
+
+    public static boolean isEnabled() {
+        return current != null;
+    }
+
+    // Metrik aktif, atau null jika nonaktif
+    public static LibraryMetrics current() {
+        return current;
+    }
+
+    private static void register(LibraryMetrics metrics) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(metrics, name);
+        } catch (JMException e) {
+            throw new IllegalStateException("Error: Gagal mendaftarkan MBean metrik: " + e.getMessage(), e);
+        }
+    }
+
+    private static void unregister() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Error: Gagal melepas MBean metrik: " + e.getMessage(), e);
+        }
+    }
+
+    // ---------------------------------------------------------------- titik ukur
+
+    // Waktu mulai operasi; 0 jika metrik nonaktif (stop lalu tidak mencatat apa pun)
+    static long start() {
+        LibraryMetrics metrics = current;
+        return metrics == null ? 0 : metrics.begin();
+    }
+
+    private long begin() {
+        return (ThreadLocalRandom.current().nextInt() & sampleMask) == 0 ? System.nanoTime() : SKIPPED;
+    }
+
+    static void stop(Operation operation, long started) {
+        if (started == 0) {
+            return;
+        }
+        LibraryMetrics metrics = current;
+        if (metrics != null) {
+            metrics.counts[operation.ordinal()].increment();
+            if (started != SKIPPED) {
+                metrics.latencies[operation.ordinal()].record(System.nanoTime() - started);
+            }
+        }
+    }
+
+    // Pinjaman baru (bukan pemulihan journal/snapshot) menurut kategori buku
+    static void countBorrow(BookCategory category) {
+        LibraryMetrics metrics = current;
+        if (metrics != null) {
+            metrics.borrowCounter(category.getLabel()).increment();
+        }
+    }
+
+    private LongAdder borrowCounter(String category) {
+        LongAdder counter = categoryBorrows.get(category);
+        return counter != null ? counter : categoryBorrows.computeIfAbsent(category, c -> new LongAdder());
+    }
+
+    // ---------------------------------------------------------------- pembacaan
+
+    // Gauge dibaca saat dump/JMX diminta; nama yang sama menggantikan gauge lama
+    public void registerGauge(String name, LongSupplier gauge) {
+        gauges.put(name, gauge);
+    }
+
+    public int getSamplePeriod() {
+        return sampleMask + 1;
+    }
+
+    // Jumlah seluruh event operasi (termasuk yang tidak diukur latensinya)
+    public long getCount(Operation operation) {
+        return counts[operation.ordinal()].sum();
+    }
+
+    // Histogram latensi dari event yang disampel
+    public LatencyHistogram getHistogram(Operation operation) {
+        return latencies[operation.ordinal()];
+    }
+
+    // Pinjaman baru per kategori sejak metrik diaktifkan, terurut nama kategori
+    public Map<String, Long> getCategoryBorrows() {
+        Map<String, Long> result = new TreeMap<>();
+        categoryBorrows.forEach((category, counter) -> result.put(category, counter.sum()));
+        return result;
+    }
+
+    public long getUptimeNanos() {
+        return System.nanoTime() - startedNanos;
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        Map<String, Long> result = new TreeMap<>();
+        for (Operation operation : OPERATIONS) {
+            result.put(operation.getName(), getCount(operation));
+        }
+        getCategoryBorrows().forEach((category, count) -> result.put("borrow." + category, count));
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getGauges() {
+        Map<String, Long> result = new TreeMap<>();
+        gauges.forEach((name, gauge) -> result.put(name, gauge.getAsLong()));
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getLatencyNanos() {
+        Map<String, Long> result = new TreeMap<>();
+        for (Operation operation : OPERATIONS) {
+            LatencyHistogram histogram = getHistogram(operation);
+            String name = operation.getName();
+            result.put(name + ".p50", histogram.percentile(50));
+            result.put(name + ".p99", histogram.percentile(99));
+            result.put(name + ".p999", histogram.percentile(99.9));
+            result.put(name + ".max", histogram.getMaxNanos());
+        }
+        return result;
+    }
+
+    @Override
+    public String getDump() {
+        return dump();
+    }
+
+    // Ringkasan teks: latensi per operasi (mikrodetik), pinjaman per kategori, dan gauge
+    public String dump() {
+        double seconds = Math.max(1e-9, getUptimeNanos() / 1e9);
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-16s %10s %10s %10s %10s %10s %10s%n",
+                "Operasi", "Jumlah", "Rata2 µs", "p50 µs", "p99 µs", "p99.9 µs", "Max µs"));
+        for (Operation operation : OPERATIONS) {
+            LatencyHistogram h = getHistogram(operation);
+            out.append(String.format("%-16s %10d %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                    operation.getName(), getCount(operation), h.getMeanNanos() / 1e3, h.percentile(50) / 1e3,
+                    h.percentile(99) / 1e3, h.percentile(99.9) / 1e3, h.getMaxNanos() / 1e3));
+        }
+        for (Map.Entry<String, Long> e : getCategoryBorrows().entrySet()) {
+            out.append(String.format("Pinjam %-13s %10d (%.2f/detik)%n", e.getKey(), e.getValue(), e.getValue() / seconds));
+        }
+        for (Map.Entry<String, Long> e : getGauges().entrySet()) {
+            out.append(String.format("Gauge %-14s %10d%n", e.getKey(), e.getValue()));
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,22 @@
+package library;
+
+import java.util.Map;
+
+/**
+ * INTERFACE LIBRARY METRICS MXBEAN
+ * Tampilan JMX dari LibraryMetrics (ObjectName "library:type=Metrics"), bisa dibaca
+ * dengan jconsole/VisualVM atau klien JMX lain.
+ */
+public interface LibraryMetricsMXBean {
+    // Jumlah event per operasi dan pinjaman baru per kategori ("borrow.Fiction")
+    Map<String, Long> getCounters();
+
+    // Nilai gauge saat dibaca (misalnya "openLoans")
+    Map<String, Long> getGauges();
+
+    // Latensi per operasi dalam nanodetik ("borrowBook.p50", ".p99", ".p999", ".max")
+    Map<String, Long> getLatencyNanos();
+
+    // Dump teks yang sama dengan LibraryMetrics.dump()
+    String getDump();
+}
@@ -0,0 +1,262 @@
+package library;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * CLASS LIBRARY POLICY
+ * Tabel kebijakan perpustakaan: level membership (batas pinjam, diskon, lama pinjam, jalur
+ * upgrade), kategori buku (lama pinjam), dan tarif denda. Dibaca dari file properties sehingga
+ * level atau kategori baru bisa ditambahkan tanpa mengubah kode. Nama hanya dicocokkan di
+ * batas input; keputusan di jalur panas cukup membaca field level/kategori atau array per indeks.
+ *
+ * Format (lihat DEFAULTS):
+ *   tiers = Silver, Gold                 urutan level (pertama = level awal member baru)
+ *   tier.<nama>.maxLoans = 5             wajib
+ *   tier.<nama>.discountPercent = 10     wajib, 0-100
+ *   tier.<nama>.loanDays = 14            opsional (default: defaultLoanDays)
+ *   tier.<nama>.holdPriority = 2         opsional (default: urutan di tiers); angka besar lebih dulu
+ *                                        mendapat copy di antrean reservasi
+ *   tier.<nama>.icon = ...               opsional
+ *   tier.<nama>.upgradesTo = Gold        opsional, dipisah koma
+ *   categories = Fiction, Science        urutan kategori (pertama = kategori default)
+ *   category.<nama>.loanDays = 7         opsional (default: defaultLoanDays)
+ *   defaultLoanDays = 14
+ *   lateFeePerDay = 2000                 rupiah per hari sebelum diskon
+ *
+ * Kebijakan dipasang (install) saat startup, sebelum member/buku dibuat atau dimuat.
+ */
+public final class LibraryPolicy {
+    // Kebijakan bawaan, setara dengan aturan sebelum tabel kebijakan ada
+    static final String DEFAULTS = String.join("\n",
+            "tiers = Silver, Gold, Platinum",
+            "tier.Silver.maxLoans = 5",
+            "tier.Silver.discountPercent = 10",
+            "tier.Silver.icon = ⭐",
+            "tier.Silver.upgradesTo = Gold, Platinum",
+            "tier.Gold.maxLoans = 7",
+            "tier.Gold.discountPercent = 30",
+            "tier.Gold.icon = ⭐⭐",
+            "tier.Gold.upgradesTo = Platinum",
+            "tier.Platinum.maxLoans = 10",
+            "tier.Platinum.discountPercent = 50",
+            "tier.Platinum.icon = ⭐⭐⭐",
+            "categories = Fiction, Non-Fiction, Science, Technology, History",
+            "defaultLoanDays = 14",
+            "lateFeePerDay = 2000");
+
+    private static final LibraryPolicy STANDARD = parse(DEFAULTS);
+    private static volatile LibraryPolicy current = STANDARD;
+
+    private final List<MembershipTier> tiers;
+    private final List<BookCategory> categories;
+    private final Map<String, MembershipTier> tiersByLabel = new HashMap<>();
+    private final Map<String, BookCategory> categoriesByLabel = new HashMap<>();
+    private final FeeSchedule fees;
+    // Indeks level diurutkan menurut prioritas reservasi (tertinggi lebih dulu)
+    private final int[] holdOrder;
+
+    private LibraryPolicy(Properties properties) {
+        int defaultLoanDays = intValue(properties, "defaultLoanDays", 14, 1, 3650);
+
+        List<MembershipTier> tierList = new ArrayList<>();
+        for (String label : names(properties, "tiers")) {
+            String prefix = "tier." + label + ".";
+            MembershipTier tier = new MembershipTier(tierList.size(), label,
+                    intValue(properties, prefix + "maxLoans", null, 1, 1000),
+                    intValue(properties, prefix + "discountPercent", null, 0, 100),
+                    intValue(properties, prefix + "loanDays", defaultLoanDays, 1, 3650),
+                    intValue(properties, prefix + "holdPriority", tierList.size(), 0, 1000),
+                    properties.getProperty(prefix + "icon", "").trim());
+            if (tiersByLabel.putIfAbsent(label, tier) != null) {
+                throw invalid("tiers", "level ganda: " + label);
+            }
+            tierList.add(tier);
+        }
+        for (MembershipTier tier : tierList) {
+            boolean[] targets = new boolean[tierList.size()];
+            String key = "tier." + tier.getLabel() + ".upgradesTo";
+            if (properties.getProperty(key) != null) {
+                for (String label : names(properties, key)) {
+                    MembershipTier target = tiersByLabel.get(label);
+                    if (target == null || target == tier) {
+                        throw invalid(key, "level tujuan tidak valid: " + label);
+                    }
+                    targets[target.getIndex()] = true;
+                }
+            }
+            tier.setUpgradeTargets(targets);
+        }
+        this.tiers = Collections.unmodifiableList(tierList);
+        List<MembershipTier> byPriority = new ArrayList<>(tierList);
+        byPriority.sort((a, b) -> a.getHoldPriority() != b.getHoldPriority()
+                ? Integer.compare(b.getHoldPriority(), a.getHoldPriority())
+                : Integer.compare(b.getIndex(), a.getIndex()));
+        this.holdOrder = new int[byPriority.size()];
+        for (int i = 0; i < holdOrder.length; i++) {
+            holdOrder[i] = byPriority.get(i).getIndex();
+        }
+
+        List<BookCategory> categoryList = new ArrayList<>();
+        for (String label : names(properties, "categories")) {
+            BookCategory category = new BookCategory(categoryList.size(), label,
+                    intValue(properties, "category." + label + ".loanDays", defaultLoanDays, 1, 3650));
+            if (categoriesByLabel.putIfAbsent(label, category) != null) {
+                throw invalid("categories", "kategori ganda: " + label);
+            }
+            categoryList.add(category);
+        }
+        this.categories = Collections.unmodifiableList(categoryList);
+
+        long feePerDay = intValue(properties, "lateFeePerDay", 2000, 0, Integer.MAX_VALUE);
+        this.fees = new FeeSchedule(feePerDay * 100, tiers);
+    }
+
+    // Kebijakan yang sedang berlaku
+    public static LibraryPolicy current() {
+        return current;
+    }
+
+    // Memasang kebijakan baru (dipanggil saat startup sebelum data dibuat atau dimuat)
+    public static void install(LibraryPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Error: Kebijakan tidak boleh null");
+        }
+        current = policy;
+    }
+
+    public static LibraryPolicy standard() {
+        return STANDARD;
+    }
+
+    // Membaca kebijakan dari file properties (UTF-8)
+    public static LibraryPolicy load(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return from(reader);
+        }
+    }
+
+    // Membaca kebijakan dari teks properties
+    public static LibraryPolicy parse(String text) {
+        try {
+            return from(new StringReader(text));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static LibraryPolicy from(Reader reader) throws IOException {
+        Properties properties = new Properties();
+        properties.load(reader);
+        return new LibraryPolicy(properties);
+    }
+
+    // Level/kategori dari nama; null jika tidak dikenal
+    public MembershipTier tier(String label) {
+        return label == null ? null : tiersByLabel.get(label);
+    }
+
+    public BookCategory category(String label) {
+        return label == null ? null : categoriesByLabel.get(label);
+    }
+
+    // Level awal member baru dan kategori default buku baru
+    public MembershipTier getDefaultTier() {
+        return tiers.get(0);
+    }
+
+    public BookCategory getDefaultCategory() {
+        return categories.get(0);
+    }
+
+    public List<MembershipTier> getTiers() {
+        return tiers;
+    }
+
+    public List<BookCategory> getCategories() {
+        return categories;
+    }
+
+    // Nama level/kategori dipisah "/" untuk pesan error (misalnya "Silver/Gold/Platinum")
+    public String describeTiers() {
+        return describe(tiers);
+    }
+
+    public String describeCategories() {
+        return describe(categories);
+    }
+
+    private static String describe(List<?> entries) {
+        StringBuilder names = new StringBuilder();
+        for (Object entry : entries) {
+            names.append(names.length() == 0 ? "" : "/").append(entry);
+        }
+        return names.toString();
+    }
+
+    public FeeSchedule getFees() {
+        return fees;
+    }
+
+    // Indeks level dari prioritas reservasi tertinggi ke terendah (array internal, jangan diubah)
+    int[] holdOrder() {
+        return holdOrder;
+    }
+
+    // Lama pinjam: yang lebih pendek antara aturan level member dan kategori buku
+    public int loanDays(Member member, Book book) {
+        return Math.min(member.getTier().getLoanDays(), book.getBookCategory().getLoanDays());
+    }
+
+    // Daftar nama dipisah koma (wajib ada dan tidak kosong)
+    private static List<String> names(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        List<String> result = new ArrayList<>();
+        if (value != null) {
+            for (String part : value.split(",")) {
+                if (!part.trim().isEmpty()) {
+                    result.add(part.trim());
+                }
+            }
+        }
+        if (result.isEmpty()) {
+            throw invalid(key, "wajib diisi");
+        }
+        return result;
+    }
+
+    // Angka dalam rentang [min, max]; defaultValue null berarti wajib ada
+    private static int intValue(Properties properties, String key, Integer defaultValue, int min, int max) {
+        String value = properties.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            if (defaultValue == null) {
+                throw invalid(key, "wajib diisi");
+            }
+            return defaultValue;
+        }
+        int number;
+        try {
+            number = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw invalid(key, "harus berupa angka");
+        }
+        if (number < min || number > max) {
+            throw invalid(key, "harus " + min + "-" + max);
+        }
+        return number;
+    }
+
+    private static IllegalArgumentException invalid(String key, String reason) {
+        return new IllegalArgumentException("Error: Kebijakan tidak valid: " + key + " " + reason);
+    }
+}
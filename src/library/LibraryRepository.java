@@ -0,0 +1,299 @@
+package library;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * CLASS LIBRARY REPOSITORY
+ * Menyimpan data anggota, buku, dan transaksi beserta indeks pencariannya
+ */
+public class LibraryRepository {
+    // Indeks utama berdasarkan ID (pencarian O(1))
+    private final Map<Long, Member> membersById = new ConcurrentHashMap<>();
+    private final Map<Long, Book> booksById = new ConcurrentHashMap<>();
+    private final Map<Long, Transaction> transactionsById = new ConcurrentHashMap<>();
+
+    // Urutan nomor ID untuk daftar, stream, dan pagination keyset
+    private final ConcurrentNavigableMap<Long, Member> members = new ConcurrentSkipListMap<>();
+    private final ConcurrentNavigableMap<Long, Book> books = new ConcurrentSkipListMap<>();
+    private final ConcurrentNavigableMap<Long, Transaction> transactions = new ConcurrentSkipListMap<>();
+
+    // Indeks sekunder (kategori & penulis buku, tipe member, transaksi per member)
+    private final Map<String, Set<Book>> booksByCategory = new ConcurrentHashMap<>();
+    private final Map<String, Set<Book>> booksByAuthor = new ConcurrentHashMap<>();
+    private final Map<String, Set<Member>> membersByType = new ConcurrentHashMap<>();
+    private final Map<Member, Queue<Transaction>> transactionsByMember = new ConcurrentHashMap<>();
+
+    // Indeks teks judul & penulis untuk pencarian katalog
+    private final BookSearchIndex searchIndex = new BookSearchIndex();
+
+    // Listener event domain untuk entitas dan operasi repository ini
+    private final LibraryEvents events = new LibraryEvents();
+
+    // Stream event domain milik layanan (null jika belum ada proyeksi)
+    private volatile EventStream stream;
+
+    // Menambahkan member baru ke repository
+    public void addMember(Member member) {
+        if (membersById.putIfAbsent(member.getMemberNumber(), member) != null) {
+            throw new IllegalArgumentException("Error: ID member sudah terdaftar: " + member.getMemberId());
+        }
+        members.put(member.getMemberNumber(), member);
+        addToIndex(membersByType, member.getMembershipType(), member);
+        member.attach(this);
+    }
+
+    // Menambahkan buku baru ke repository
+    public void addBook(Book book) {
+        if (booksById.putIfAbsent(book.getBookNumber(), book) != null) {
+            throw new IllegalArgumentException("Error: ID buku sudah terdaftar: " + book.getBookId());
+        }
+        books.put(book.getBookNumber(), book);
+        addToIndex(booksByCategory, book.getCategory(), book);
+        addToIndex(booksByAuthor, book.getAuthor(), book);
+        book.attach(this);
+        searchIndex.add(book);
+    }
+
+    // Menambahkan transaksi baru ke repository
+    public void addTransaction(Transaction transaction) {
+        if (transactionsById.putIfAbsent(transaction.getTransactionNumber(), transaction) != null) {
+            throw new IllegalArgumentException("Error: ID transaksi sudah terdaftar: " + transaction.getTransactionId());
+        }
+        transactions.put(transaction.getTransactionNumber(), transaction);
+        transactionsByMember
+                .computeIfAbsent(transaction.getMember(), m -> new ConcurrentLinkedQueue<>())
+                .add(transaction);
+    }
+
+    // Mengeluarkan seluruh transaksi yang sudah selesai dari repository (untuk diarsipkan)
+    public List<Transaction> removeClosedTransactions() {
+        List<Transaction> closed = new ArrayList<>();
+        for (Transaction t : transactions.values()) {
+            if (t.isReturned() && removeTransaction(t)) {
+                closed.add(t);
+            }
+        }
+        return closed;
+    }
+
+    // Mengeluarkan satu transaksi (pemulihan arsip dari journal); false jika sudah tidak ada
+    boolean removeTransaction(Transaction t) {
+        if (!transactions.remove(t.getTransactionNumber(), t)) {
+            return false;
+        }
+        transactionsById.remove(t.getTransactionNumber());
+        Queue<Transaction> history = transactionsByMember.get(t.getMember());
+        if (history != null) {
+            history.remove(t);
+        }
+        return true;
+    }
+
+    // Pencarian berdasarkan ID tampilan (diubah ke nomor urut; null jika format tidak dikenali)
+    public Member findMember(String memberId) {
+        return findMember(Member.idNumber(memberId));
+    }
+
+    public Book findBook(String bookId) {
+        return findBook(Book.idNumber(bookId));
+    }
+
+    public Transaction findTransaction(String transactionId) {
+        return findTransaction(Transaction.idNumber(transactionId));
+    }
+
+    // Pencarian berdasarkan nomor urut (kunci internal)
+    public Member findMember(long memberNumber) {
+        return membersById.get(memberNumber);
+    }
+
+    public Book findBook(long bookNumber) {
+        return booksById.get(bookNumber);
+    }
+
+    public Transaction findTransaction(long transactionNumber) {
+        return transactionsById.get(transactionNumber);
+    }
+
+    // Pencarian melalui indeks sekunder
+    public Set<Book> findBooksByCategory(String category) {
+        return readIndex(booksByCategory, category);
+    }
+
+    public Set<Book> findBooksByAuthor(String author) {
+        return readIndex(booksByAuthor, author);
+    }
+
+    // Pencarian teks bebas atas judul & penulis (kata terakhir boleh berupa awalan)
+    public List<Book> searchBooks(String query, int limit) {
+        return searchIndex.search(query, limit);
+    }
+
+    public BookSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    public LibraryEvents getEvents() {
+        return events;
+    }
+
+    public Set<Member> findMembersByType(String membershipType) {
+        return readIndex(membersByType, membershipType);
+    }
+
+    public Collection<Transaction> findTransactionsByMember(Member member) {
+        Queue<Transaction> result = transactionsByMember.get(member);
+        return result == null ? Collections.emptyList() : Collections.unmodifiableCollection(result);
+    }
+
+    // Daftar lengkap sesuai urutan ID (view langsung, tidak disalin)
+    public Collection<Member> getMembers() {
+        return Collections.unmodifiableCollection(members.values());
+    }
+
+    public Collection<Book> getBooks() {
+        return Collections.unmodifiableCollection(books.values());
+    }
+
+    public Collection<Transaction> getTransactions() {
+        return Collections.unmodifiableCollection(transactions.values());
+    }
+
+    // Salinan daftar yang aman dibuat saat operasi lain sedang berjalan (untuk snapshot)
+    public List<Member> copyMembers() {
+        return new ArrayList<>(members.values());
+    }
+
+    public List<Book> copyBooks() {
+        return new ArrayList<>(books.values());
+    }
+
+    public List<Transaction> copyTransactions() {
+        return new ArrayList<>(transactions.values());
+    }
+
+    // Stream lazy sesuai urutan ID, dimulai tepat setelah cursor (null = dari awal).
+    // Elemen diambil satu per satu dari skip list, jadi konsumen menentukan seberapa jauh pembacaan.
+    public Stream<Member> streamMembers(String afterMemberId, Predicate<Member> filter) {
+        return stream(members, afterKey(afterMemberId, Member.idNumber(afterMemberId)), filter);
+    }
+
+    public Stream<Book> streamBooks(String afterBookId, Predicate<Book> filter) {
+        return stream(books, afterKey(afterBookId, Book.idNumber(afterBookId)), filter);
+    }
+
+    public Stream<Transaction> streamTransactions(String afterTransactionId, Predicate<Transaction> filter) {
+        return stream(transactions, afterKey(afterTransactionId, Transaction.idNumber(afterTransactionId)), filter);
+    }
+
+    // Satu halaman (maksimal limit item) setelah cursor; cursor berikutnya = ID item terakhir
+    public Page<Member> pageMembers(String afterMemberId, int limit, Predicate<Member> filter) {
+        return page(streamMembers(afterMemberId, filter), limit, Member::getMemberId);
+    }
+
+    public Page<Book> pageBooks(String afterBookId, int limit, Predicate<Book> filter) {
+        return page(streamBooks(afterBookId, filter), limit, Book::getBookId);
+    }
+
+    public Page<Transaction> pageTransactions(String afterTransactionId, int limit, Predicate<Transaction> filter) {
+        return page(streamTransactions(afterTransactionId, filter), limit, Transaction::getTransactionId);
+    }
+
+    public int getMemberCount() {
+        return membersById.size();
+    }
+
+    public int getBookCount() {
+        return booksById.size();
+    }
+
+    public int getTransactionCount() {
+        return transactionsById.size();
+    }
+
+    // Dipanggil oleh setter Book/Member agar indeks sekunder tetap sinkron
+    void onBookCategoryChanged(Book book, String oldCategory) {
+        moveInIndex(booksByCategory, oldCategory, book.getCategory(), book);
+    }
+
+    void onBookAuthorChanged(Book book, String oldAuthor) {
+        moveInIndex(booksByAuthor, oldAuthor, book.getAuthor(), book);
+        searchIndex.update(book);
+    }
+
+    void onBookTitleChanged(Book book) {
+        searchIndex.update(book);
+    }
+
+    void onMembershipTypeChanged(Member member, String oldType) {
+        moveInIndex(membersByType, oldType, member.getMembershipType(), member);
+        EventStream current = stream;
+        if (current != null) {
+            current.publish(new DomainEvent.TierChanged(member.getMemberNumber(), oldType, member.getMembershipType()));
+        }
+    }
+
+    void attachStream(EventStream stream) {
+        this.stream = stream;
+    }
+
+    private static <T> void addToIndex(Map<String, Set<T>> index, String key, T value) {
+        index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(value);
+    }
+
+    private static <T> void moveInIndex(Map<String, Set<T>> index, String oldKey, String newKey, T value) {
+        if (Objects.equals(oldKey, newKey)) {
+            return;
+        }
+        Set<T> old = index.get(oldKey);
+        if (old != null) {
+            old.remove(value);
+        }
+        addToIndex(index, newKey, value);
+    }
+
+    // Nomor ID cursor (0 = dari awal, nomor ID dimulai dari 1)
+    private static long afterKey(String cursor, long number) {
+        if (cursor == null) {
+            return 0;
+        }
+        if (number < 0) {
+            throw new IllegalArgumentException("Error: Cursor tidak valid: " + cursor);
+        }
+        return number;
+    }
+
+    private static <T> Stream<T> stream(ConcurrentNavigableMap<Long, T> ordered, long after, Predicate<T> filter) {
+        Stream<T> stream = ordered.tailMap(after, false).values().stream();
+        return filter == null ? stream : stream.filter(filter);
+    }
+
+    // Mengambil limit + 1 item: item tambahan hanya menandakan masih ada halaman berikutnya
+    private static <T> Page<T> page(Stream<T> stream, int limit, Function<T, String> idOf) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Error: Limit halaman harus >= 1");
+        }
+        List<T> items = new ArrayList<>(Math.min(limit + 1, 1024));
+        Iterator<T> it = stream.iterator();
+        while (items.size() <= limit && it.hasNext()) {
+            items.add(it.next());
+        }
+        if (items.size() <= limit) {
+            return new Page<>(items, null);
+        }
+        items.remove(limit);
+        return new Page<>(items, idOf.apply(items.get(limit - 1)));
+    }
+
+    private static <T> Set<T> readIndex(Map<String, Set<T>> index, String key) {
+        Set<T> result = index.get(key);
+        return result == null ? Collections.emptySet() : Collections.unmodifiableSet(result);
+    }
+}
@@ -0,0 +1,579 @@
+package library;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * CLASS LIBRARY SERVER
+ * Front-end HTTP untuk kios dan staf di atas LibraryService (com.sun.net.httpserver).
+ * Setiap request dijalankan di virtual thread sendiri, sehingga request yang menunggu
+ * group commit journal tidak menahan thread platform. Parameter dibaca dari query string
+ * atau body form (application/x-www-form-urlencoded); respons berupa JSON.
+ *
+ * Endpoint:
+ *   POST /members        name, email, phone, year, type       → registrasi member
+ *   GET  /members        [after, limit, type]                 → daftar member per halaman
+ *   GET  /members/{id}                                        → data member
+ *   POST /books          title, author, category, year, copies → registrasi buku
+ *   GET  /books/{id}                                          → data buku
+ *   GET  /books?q=...    [limit]                              → pencarian katalog
+ *   GET  /books          [after, limit, category, available]  → daftar buku per halaman
+ *   POST /borrow         memberId, bookId (boleh dipisah koma), date, [days]  (default: LibraryPolicy)
+ *   POST /return         transactionId (boleh dipisah koma), date
+ *   GET  /transactions   [after, limit, status, memberId]     → daftar transaksi per halaman
+ *   GET  /transactions/{id}                                   → data transaksi
+ *   GET  /stats                                               → ringkasan statistik
+ *
+ * Daftar memakai pagination keyset: "after" adalah nextCursor dari halaman sebelumnya.
+ */
+public class LibraryServer implements Closeable {
+    private static final int DEFAULT_PORT = 8080;
+    private static final int BACKLOG = 1024;
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final LibraryService library;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public LibraryServer(LibraryService library, int port) throws IOException {
+        this.library = library;
+        this.server = HttpServer.create(new InetSocketAddress(port), BACKLOG);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        route("/members", this::members);
+        route("/books", this::books);
+        route("/borrow", this::borrow);
+        route("/return", this::giveBack);
+        route("/transactions", this::transactions);
+        route("/stats", this::stats);
+    }
+
+    // Menjalankan server: java [-Dlibrary.policy=file] [-Dlibrary.metrics=true] -cp core/target/classes library.LibraryServer [port] [journal] [snapshot]
+    public static void main(String[] args) throws IOException {
+        String policyFile = System.getProperty("library.policy");
+        if (policyFile != null) {
+            LibraryPolicy.install(LibraryPolicy.load(Path.of(policyFile)));
+        }
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        LibraryService library = args.length > 1
+                ? LibraryService.open(Path.of(args[1]), args.length > 2 ? Path.of(args[2]) : null)
+                : new LibraryService();
+        if (Boolean.getBoolean("library.metrics")) {
+            library.enableMetrics();
+        }
+        LibraryServer server = new LibraryServer(library, port);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.close();
+                library.close();
+            } catch (IOException e) {
+                System.err.println("✗ Error: Gagal menutup layanan: " + e.getMessage());
+            }
+        }));
+        server.start();
+        System.out.println("✓ Server perpustakaan berjalan di port " + server.getPort());
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    // Menghentikan server (request yang sedang berjalan diberi waktu 1 detik)
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.close();
+    }
+
+    // ---------------------------------------------------------------- endpoint
+
+    private Response members(Request request) {
+        if (request.isPost()) {
+            Member member = new Member(request.require("name"), request.require("email"),
+                    request.require("phone"), request.requireInt("year"), request.require("type"));
+            library.registerMember(member);
+            return new Response(201, memberJson(member));
+        }
+        if (request.pathId() == null) {
+            Page<Member> page = library.getRepository().pageMembers(request.param("after"), pageSize(request),
+                    request.param("type") == null ? null : Filters.membershipType(request.param("type")));
+            return Response.ok(pageJson(page, this::memberJson));
+        }
+        Member member = library.getRepository().findMember(request.pathId());
+        return member == null ? Response.notFound("Member") : Response.ok(memberJson(member));
+    }
+
+    private Response books(Request request) {
+        if (request.isPost()) {
+            Book book = new Book(request.require("title"), request.require("author"),
+                    request.require("category"), request.requireInt("year"), request.requireInt("copies"));
+            library.registerBook(book);
+            return new Response(201, bookJson(book));
+        }
+        String query = request.param("q");
+        if (request.pathId() == null && query != null) {
+            List<Book> found = library.getRepository().searchBooks(query,
+                    request.intParam("limit", DEFAULT_SEARCH_LIMIT));
+            Json json = new Json().beginArray();
+            for (Book book : found) {
+                json.raw(bookJson(book));
+            }
+            return Response.ok(json.endArray().toString());
+        }
+        if (request.pathId() == null) {
+            Predicate<Book> filter = Filters.both(
+                    request.param("category") == null ? null : Filters.bookCategory(request.param("category")),
+                    "true".equals(request.param("available")) ? Filters.availableBooks() : null);
+            Page<Book> page = library.getRepository().pageBooks(request.param("after"), pageSize(request), filter);
+            return Response.ok(pageJson(page, this::bookJson));
+        }
+        Book book = library.getRepository().findBook(request.pathId());
+        return book == null ? Response.notFound("Buku") : Response.ok(bookJson(book));
+    }
+
+    // Satu atau beberapa buku sekaligus (keranjang kios) lewat borrowAll: satu group commit per request
+    private Response borrow(Request request) {
+        request.requirePost();
+        Member member = library.getRepository().findMember(request.require("memberId"));
+        if (member == null) {
+            return Response.notFound("Member");
+        }
+        List<Book> books = new ArrayList<>();
+        for (String bookId : request.require("bookId").split(",")) {
+            Book book = library.getRepository().findBook(bookId.trim());
+            if (book == null) {
+                return Response.notFound("Buku " + bookId.trim());
+            }
+            books.add(book);
+        }
+        String date = request.require("date");
+        BatchResult result = request.param("days") == null
+                ? library.borrowAll(member, books, date)
+                : library.borrowAll(member, books, date, request.requireInt("days"));
+        return batchResponse(result);
+    }
+
+    private Response giveBack(Request request) {
+        request.requirePost();
+        List<Transaction> loans = new ArrayList<>();
+        for (String transactionId : request.require("transactionId").split(",")) {
+            Transaction transaction = library.getRepository().findTransaction(transactionId.trim());
+            if (transaction == null) {
+                return Response.notFound("Transaksi " + transactionId.trim());
+            }
+            loans.add(transaction);
+        }
+        return batchResponse(library.returnAll(loans, request.require("date")));
+    }
+
+    private Response transactions(Request request) {
+        if (request.pathId() == null) {
+            return Response.ok(pageJson(transactionPage(request), LibraryServer::transactionJson));
+        }
+        Transaction transaction = library.getRepository().findTransaction(request.pathId());
+        return transaction == null ? Response.notFound("Transaksi") : Response.ok(transactionJson(transaction));
+    }
+
+    // Filter status=open|closed dan memberId (boleh digabung)
+    private Page<Transaction> transactionPage(Request request) {
+        Predicate<Transaction> filter = null;
+        String status = request.param("status");
+        if (status != null) {
+            if (status.equals("open")) {
+                filter = Filters.openTransactions();
+            } else if (status.equals("closed")) {
+                filter = Filters.closedTransactions();
+            } else {
+                throw new IllegalArgumentException("Error: Parameter 'status' harus open/closed");
+            }
+        }
+        String memberId = request.param("memberId");
+        if (memberId != null) {
+            Member member = library.getRepository().findMember(memberId);
+            if (member == null) {
+                throw new IllegalArgumentException("Error: Member tidak ditemukan: " + memberId);
+            }
+            filter = Filters.both(filter, Filters.transactionsOf(member));
+        }
+        return library.getRepository().pageTransactions(request.param("after"), pageSize(request), filter);
+    }
+
+    private static int pageSize(Request request) {
+        int limit = request.intParam("limit", DEFAULT_PAGE_SIZE);
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Error: Parameter 'limit' harus 1-" + MAX_PAGE_SIZE);
+        }
+        return limit;
+    }
+
+    private static <T> String pageJson(Page<T> page, Function<T, String> itemJson) {
+        Json json = new Json().beginObject();
+        json.key("items").beginArray();
+        for (T item : page.getItems()) {
+            json.raw(itemJson.apply(item));
+        }
+        json.endArray();
+        if (page.hasMore()) {
+            json.field("nextCursor", page.getNextCursor());
+        }
+        return json.endObject().toString();
+    }
+
+    private Response stats(Request request) {
+        LibraryStatistics statistics = library.getStatistics();
+        LibraryRepository repository = library.getRepository();
+        Json json = new Json().beginObject()
+                .field("members", repository.getMemberCount())
+                .field("books", repository.getBookCount())
+                .field("totalLoans", statistics.getTotalLoans())
+                .field("activeLoans", statistics.getActiveLoans())
+                .field("lateReturns", statistics.getLateReturns())
+                .field("totalFees", statistics.getTotalFees());
+        json.key("topBooks").beginArray();
+        for (Book book : statistics.getTopBooks(5)) {
+            json.value(book.getBookId());
+        }
+        return Response.ok(json.endArray().endObject().toString());
+    }
+
+    // 200 jika minimal satu item berhasil, 409 jika semuanya ditolak
+    private static Response batchResponse(BatchResult result) {
+        Json json = new Json().beginObject()
+                .field("success", result.getSuccessCount())
+                .field("failed", result.getFailureCount());
+        json.key("items").beginArray();
+        for (BatchResult.Item item : result.getItems()) {
+            json.beginObject().field("outcome", item.getOutcome().name());
+            Transaction transaction = item.getTransaction();
+            if (transaction != null) {
+                json.field("transactionId", transaction.getTransactionId())
+                        .field("dueDate", transaction.getDueDate());
+                if (transaction.isReturned() && item.isSuccess()) {
+                    json.field("daysLate", transaction.getDaysLate()).field("lateFee", transaction.getLateFee());
+                }
+            }
+            if (!item.isSuccess()) {
+                json.field("message", item.getOutcome().getMessage());
+            }
+            json.endObject();
+        }
+        String body = json.endArray().endObject().toString();
+        return new Response(result.getSuccessCount() > 0 ? 200 : 409, body);
+    }
+
+    private String memberJson(Member member) {
+        return new Json().beginObject()
+                .field("memberId", member.getMemberId())
+                .field("name", member.getName())
+                .field("email", member.getEmail())
+                .field("phone", member.getPhoneNumber())
+                .field("membershipType", member.getMembershipType())
+                .field("maxBorrowLimit", member.getMaxBorrowLimit())
+                .field("openLoans", library.getLedger().getOpenLoans(member))
+                .endObject().toString();
+    }
+
+    private String bookJson(Book book) {
+        return new Json().beginObject()
+                .field("bookId", book.getBookId())
+                .field("title", book.getTitle())
+                .field("author", book.getAuthor())
+                .field("category", book.getCategory())
+                .field("publicationYear", book.getPublicationYear())
+                .field("totalCopies", book.getTotalCopies())
+                .field("availableCopies", book.getAvailableCopies())
+                .field("waitingHolds", library.getHolds().getWaitingCount(book))
+                .endObject().toString();
+    }
+
+    private static String transactionJson(Transaction t) {
+        return new Json().beginObject()
+                .field("transactionId", t.getTransactionId())
+                .field("memberId", t.getMember().getMemberId())
+                .field("bookId", t.getBook().getBookId())
+                .field("borrowDate", t.getBorrowDate())
+                .field("dueDate", t.getDueDate())
+                .field("returnDate", t.getReturnDate())
+                .field("daysLate", t.getDaysLate())
+                .field("lateFee", t.getLateFee())
+                .field("status", t.getTransactionStatus())
+                .endObject().toString();
+    }
+
+    // ---------------------------------------------------------------- infrastruktur HTTP
+
+    private interface Endpoint {
+        Response handle(Request request) throws IOException;
+    }
+
+    // Membungkus endpoint: input tidak valid → 400, error lain → 500, respons selalu JSON
+    private void route(String path, Endpoint endpoint) {
+        server.createContext(path, exchange -> {
+            Response response;
+            try {
+                response = endpoint.handle(new Request(exchange, path));
+            } catch (MethodNotAllowed e) {
+                response = Response.error(405, e.getMessage());
+            } catch (IllegalArgumentException e) {
+                response = Response.error(400, e.getMessage());
+            } catch (RuntimeException e) {
+                response = Response.error(500, "Error: " + e);
+            }
+            send(exchange, response);
+        });
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static class MethodNotAllowed extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        MethodNotAllowed(String method) {
+            super("Error: Method " + method + " tidak didukung");
+        }
+    }
+
+    /**
+     * Request yang sudah diurai: parameter query + form, dan ID di akhir path (/books/BK001)
+     */
+    private static class Request {
+        private final String method;
+        private final String pathId;
+        private final Map<String, String> params = new HashMap<>();
+
+        Request(HttpExchange exchange, String context) throws IOException {
+            this.method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            String rest = path.length() > context.length() + 1 ? path.substring(context.length() + 1) : "";
+            this.pathId = rest.isEmpty() ? null : rest;
+            parse(exchange.getRequestURI().getRawQuery());
+            if (isPost()) {
+                try (InputStream in = exchange.getRequestBody()) {
+                    parse(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                }
+            } else if (!method.equals("GET")) {
+                throw new MethodNotAllowed(method);
+            }
+        }
+
+        private void parse(String encoded) {
+            if (encoded == null || encoded.isEmpty()) {
+                return;
+            }
+            for (String pair : encoded.split("&")) {
+                int eq = pair.indexOf('=');
+                String key = eq < 0 ? pair : pair.substring(0, eq);
+                String value = eq < 0 ? "" : pair.substring(eq + 1);
+                params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+        }
+
+        boolean isPost() {
+            return method.equals("POST");
+        }
+
+        void requirePost() {
+            if (!isPost()) {
+                throw new MethodNotAllowed(method);
+            }
+        }
+
+        String pathId() {
+            return pathId;
+        }
+
+        String param(String name) {
+            return params.get(name);
+        }
+
+        String require(String name) {
+            String value = params.get(name);
+            if (value == null || value.isEmpty()) {
+                throw new IllegalArgumentException("Error: Parameter '" + name + "' wajib diisi");
+            }
+            return value;
+        }
+
+        int requireInt(String name) {
+            return toInt(name, require(name));
+        }
+
+        int intParam(String name, int defaultValue) {
+            String value = params.get(name);
+            return value == null || value.isEmpty() ? defaultValue : toInt(name, value);
+        }
+
+        private static int toInt(String name, String value) {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Error: Parameter '" + name + "' harus berupa angka");
+            }
+        }
+    }
+
+    private static class Response {
+        final int status;
+        final String body;
+
+        Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static Response ok(String body) {
+            return new Response(200, body);
+        }
+
+        static Response notFound(String what) {
+            return error(404, "Error: " + what + " tidak ditemukan");
+        }
+
+        static Response error(int status, String message) {
+            return new Response(status, new Json().beginObject().field("error", message).endObject().toString());
+        }
+    }
+
+    /**
+     * Penulis JSON minimal (objek, array, string, angka) tanpa library eksternal
+     */
+    private static class Json {
+        private final StringBuilder out = new StringBuilder(128);
+        // true jika elemen berikutnya pada level saat ini butuh pemisah koma
+        private boolean comma = false;
+
+        Json beginObject() {
+            separate();
+            out.append('{');
+            comma = false;
+            return this;
+        }
+
+        Json endObject() {
+            out.append('}');
+            comma = true;
+            return this;
+        }
+
+        Json beginArray() {
+            separate();
+            out.append('[');
+            comma = false;
+            return this;
+        }
+
+        Json endArray() {
+            out.append(']');
+            comma = true;
+            return this;
+        }
+
+        Json key(String name) {
+            separate();
+            string(name);
+            out.append(':');
+            comma = false;
+            return this;
+        }
+
+        Json field(String name, String value) {
+            return key(name).value(value);
+        }
+
+        Json field(String name, long value) {
+            key(name);
+            out.append(value);
+            comma = true;
+            return this;
+        }
+
+        Json field(String name, double value) {
+            key(name);
+            out.append(value);
+            comma = true;
+            return this;
+        }
+
+        Json value(String value) {
+            separate();
+            if (value == null) {
+                out.append("null");
+            } else {
+                string(value);
+            }
+            comma = true;
+            return this;
+        }
+
+        // Menyisipkan JSON yang sudah jadi sebagai satu elemen
+        Json raw(String json) {
+            separate();
+            out.append(json);
+            comma = true;
+            return this;
+        }
+
+        private void separate() {
+            if (comma) {
+                out.append(',');
+            }
+        }
+
+        private void string(String value) {
+            out.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> out.append("\\\"");
+                    case '\\' -> out.append("\\\\");
+                    case '\n' -> out.append("\\n");
+                    case '\r' -> out.append("\\r");
+                    case '\t' -> out.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            out.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            out.append(c);
+                        }
+                    }
+                }
+            }
+            out.append('"');
+        }
+
+        @Override
+        public String toString() {
+            return out.toString();
+        }
+    }
+}
@@ -0,0 +1,848 @@
+package library;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * CLASS LIBRARY SERVICE
+ * Jalur utama operasi sirkulasi (registrasi, peminjaman, pengembalian).
+ * Semua perubahan melewati class ini agar repository, statistik, dan journal tetap sinkron.
+ */
+public class LibraryService implements Closeable {
+    private final LibraryRepository repository;
+    private final LibraryStatistics statistics;
+    private final TransactionArchive archive = new TransactionArchive();
+    // Jumlah pinjaman aktif per member (penegakan batas pinjam)
+    private final LoanLedger ledger = new LoanLedger();
+    // Antrean reservasi per buku untuk judul yang sedang habis
+    private final HoldQueue holds = new HoldQueue();
+    // Saldo denda berjalan per member (sen)
+    private final FeeLedger fees = new FeeLedger();
+    // Journal write-ahead (null jika berjalan tanpa persistensi)
+    private LibraryJournal journal;
+    // Cache tampilan; dibuat (dan didaftarkan sebagai listener) saat pertama dipakai
+    private volatile LibraryViews views;
+    // Stream event domain untuk proyeksi; dibuat saat pertama diminta (null = tanpa biaya)
+    private volatile EventStream stream;
+    // Operasi sirkulasi ditahan sebentar saat checkpoint mengambil state
+    private final CheckpointGate gate = new CheckpointGate();
+
+    public LibraryService() {
+        this(new LibraryRepository());
+    }
+
+    public LibraryService(LibraryRepository repository) {
+        this.repository = repository;
+        this.statistics = new LibraryStatistics();
+    }
+
+    // Membuka layanan dengan persistensi: journal diputar ulang lalu dibuka untuk ditambah
+    public static LibraryService open(Path journalFile) throws IOException {
+        return open(journalFile, null);
+    }
+
+    // Membuka layanan dari snapshot (jika ada) lalu memutar ulang sisa journal setelahnya
+    public static LibraryService open(Path journalFile, Path snapshotFile) throws IOException {
+        LibraryService service = new LibraryService();
+        long journalOffset = 0;
+        if (snapshotFile != null && Files.exists(snapshotFile)) {
+            LibrarySnapshot snapshot = LibrarySnapshot.open(snapshotFile);
+            snapshot.restoreInto(service.repository, service.statistics, service.fees, service.archive);
+            for (Transaction t : service.repository.getTransactions()) {
+                if (!t.isReturned()) {
+                    service.ledger.restoreOpenLoan(t.getMember());
+                }
+            }
+            journalOffset = snapshot.getJournalOffset();
+        }
+        long validLength = LibraryJournal.replay(journalFile, journalOffset, service.new Recovery());
+        service.journal = LibraryJournal.open(journalFile, validLength);
+        // Perubahan data lewat setter entitas dicatat sebagai record update
+        service.repository.getEvents().addListener(service::journalUpdate);
+        return service;
+    }
+
+    // Menulis snapshot. Peminjaman/pengembalian ditahan selama posisi journal dan state memori
+    // diambil bersama (encode ke file sementara, tanpa fsync), sehingga transaksi, statistik, dan
+    // saldo denda di snapshot tepat sama dengan isi journal sampai posisi itu. fsync dan rename
+    // dilakukan setelah gerbang dibuka lagi. Perubahan data entitas lewat setter tidak ditahan:
+    // record-nya berisi data lengkap dan diputar ulang secara idempoten.
+    public synchronized void checkpoint(Path snapshotFile) throws IOException {
+        if (journal == null) {
+            throw new IllegalStateException("Error: Snapshot membutuhkan journal");
+        }
+        Path encoded;
+        gate.close();
+        try {
+            encoded = LibrarySnapshot.encode(repository, statistics, fees, archive, journal.getDurableLength(),
+                    snapshotFile);
+        } finally {
+            gate.open();
+        }
+        LibrarySnapshot.commit(encoded, snapshotFile);
+    }
+
+    // Registrasi member baru
+    public void registerMember(Member member) {
+        gate.enter();
+        try {
+            repository.addMember(member);
+            emit(DomainEvent.memberRegistered(member));
+            writeJournal(j -> j.appendMemberRegistered(member));
+        } finally {
+            gate.exit();
+        }
+    }
+
+    // Registrasi buku baru
+    public void registerBook(Book book) {
+        gate.enter();
+        try {
+            repository.addBook(book);
+            emit(DomainEvent.bookAdded(book));
+            writeJournal(j -> j.appendBookRegistered(book));
+        } finally {
+            gate.exit();
+        }
+    }
+
+    // Registrasi massal (impor CSV): ID ganda ditolak per item, journal ditunggu sekali di akhir
+    public BatchResult registerMembers(List<Member> members) {
+        BatchResult result = new BatchResult(members.size());
+        long lastSequence = -1;
+        gate.enter();
+        try {
+            for (Member member : members) {
+                try {
+                    repository.addMember(member);
+                } catch (IllegalArgumentException e) {
+                    result.add(Outcome.DUPLICATE_ID, null);
+                    continue;
+                }
+                emit(DomainEvent.memberRegistered(member));
+                lastSequence = appendJournal(j -> j.appendMemberRegistered(member));
+                result.add(Outcome.OK, null);
+            }
+        } finally {
+            gate.exit();
+        }
+        awaitJournal(lastSequence);
+        return result;
+    }
+
+    public BatchResult registerBooks(List<Book> books) {
+        BatchResult result = new BatchResult(books.size());
+        long lastSequence = -1;
+        gate.enter();
+        try {
+            for (Book book : books) {
+                try {
+                    repository.addBook(book);
+                } catch (IllegalArgumentException e) {
+                    result.add(Outcome.DUPLICATE_ID, null);
+                    continue;
+                }
+                emit(DomainEvent.bookAdded(book));
+                lastSequence = appendJournal(j -> j.appendBookRegistered(book));
+                result.add(Outcome.OK, null);
+            }
+        } finally {
+            gate.exit();
+        }
+        awaitJournal(lastSequence);
+        return result;
+    }
+
+    // Impor riwayat pinjaman sesuai urutan berkas. Stok buku diperiksa, batas pinjam tidak
+    // (data lama bisa saja melebihi batas level saat ini); pinjaman yang sudah selesai
+    // langsung dikembalikan sehingga denda dan statistik ikut terbentuk.
+    BatchResult importLoans(List<LibraryCsv.Loan> loans) {
+        gate.enter();
+        try {
+            return applyLoans(loans);
+        } finally {
+            gate.exit();
+        }
+    }
+
+    private BatchResult applyLoans(List<LibraryCsv.Loan> loans) {
+        BatchResult result = new BatchResult(loans.size());
+        long lastSequence = -1;
+        for (LibraryCsv.Loan loan : loans) {
+            if (repository.findTransaction(loan.number) != null) {
+                result.add(Outcome.DUPLICATE_ID, null);
+                continue;
+            }
+            if (!loan.book.borrowBook()) {
+                result.add(Outcome.NOT_AVAILABLE, null);
+                continue;
+            }
+            Transaction transaction;
+            try {
+                transaction = new Transaction(loan.number, loan.member, loan.book, loan.borrowDay, loan.dueDay);
+                repository.addTransaction(transaction);
+            } catch (RuntimeException e) {
+                loan.book.returnBook();
+                throw e;
+            }
+            ledger.restoreOpenLoan(loan.member);
+            countBorrow(transaction);
+            lastSequence = appendJournal(j -> j.appendBorrowed(transaction));
+            if (loan.returnDay != EpochDay.NONE && transaction.processReturn(loan.returnDay).isSuccess()) {
+                ledger.release(loan.member);
+                countReturn(transaction);
+                lastSequence = appendJournal(j -> j.appendReturned(transaction));
+            }
+            result.add(Outcome.OK, transaction);
+        }
+        awaitJournal(lastSequence);
+        return result;
+    }
+
+    // Peminjaman buku; mengembalikan null jika tanggal tidak valid, batas pinjam tercapai, atau stok habis.
+    // Alasan penolakan dikirim sebagai event BORROW ke listener repository.
+    public Transaction borrow(Member member, Book book, String borrowDate, int borrowDurationDays) {
+        return borrow(member, book, Transaction.parseDate(borrowDate), borrowDurationDays);
+    }
+
+    // Peminjaman dengan lama pinjam dari LibraryPolicy (level member dan kategori buku)
+    public Transaction borrow(Member member, Book book, String borrowDate) {
+        return borrow(member, book, borrowDate, LibraryPolicy.current().loanDays(member, book));
+    }
+
+    // Peminjaman buku dengan tanggal epoch day
+    public Transaction borrow(Member member, Book book, int borrowDay, int borrowDurationDays) {
+        gate.enter();
+        try {
+            return admitBorrow(member, book, borrowDay, borrowDurationDays);
+        } finally {
+            gate.exit();
+        }
+    }
+
+    private Transaction admitBorrow(Member member, Book book, int borrowDay, int borrowDurationDays) {
+        if (borrowDay == EpochDay.NONE) {
+            publish(LibraryEvent.Kind.BORROW, Outcome.INVALID_DATE, member, book);
+            return null;
+        }
+        switch (ledger.reserve(member, book)) {
+            case LIMIT_REACHED:
+                publish(LibraryEvent.Kind.BORROW, Outcome.LIMIT_REACHED, member, book);
+                return null;
+            case NOT_AVAILABLE:
+                publish(LibraryEvent.Kind.BORROW, Outcome.NOT_AVAILABLE, member, book);
+                return null;
+            default:
+                break;
+        }
+        // Copy yang baru kembali milik pemesan terdepan, bukan peminjam langsung
+        if (holds.yieldCopy(book)) {
+            ledger.release(member);
+            publish(LibraryEvent.Kind.BORROW, Outcome.NOT_AVAILABLE, member, book);
+            return null;
+        }
+
+        Transaction transaction;
+        try {
+            transaction = new Transaction(member, book, borrowDay, borrowDurationDays);
+            repository.addTransaction(transaction);
+        } catch (RuntimeException e) {
+            ledger.cancel(member, book);
+            throw e;
+        }
+        return recordBorrow(transaction);
+    }
+
+    private Transaction recordBorrow(Transaction transaction) {
+        countBorrow(transaction);
+        writeJournal(j -> j.appendBorrowed(transaction));
+        publish(LibraryEvent.Kind.BORROW, Outcome.OK, transaction, null);
+        return transaction;
+    }
+
+    // Peminjaman beberapa buku sekaligus oleh satu member (keranjang mesin self-service).
+    // Tanggal divalidasi sekali, slot member dipesan dengan satu CAS, dan seluruh record
+    // journal ditunggu dalam satu group commit. Hasil per item ada di BatchResult (tanpa event per item).
+    public BatchResult borrowAll(Member member, List<Book> books, String borrowDate, int borrowDurationDays) {
+        return borrowAll(member, books, Transaction.parseDate(borrowDate), borrowDurationDays);
+    }
+
+    // Peminjaman massal dengan lama pinjam per buku dari LibraryPolicy
+    public BatchResult borrowAll(Member member, List<Book> books, String borrowDate) {
+        LibraryPolicy policy = LibraryPolicy.current();
+        return borrowAll(member, books, Transaction.parseDate(borrowDate), book -> policy.loanDays(member, book));
+    }
+
+    // Peminjaman massal dengan tanggal epoch day
+    public BatchResult borrowAll(Member member, List<Book> books, int borrowDay, int borrowDurationDays) {
+        return borrowAll(member, books, borrowDay, book -> borrowDurationDays);
+    }
+
+    private BatchResult borrowAll(Member member, List<Book> books, int borrowDay, ToIntFunction<Book> durationDays) {
+        gate.enter();
+        try {
+            return admitAll(member, books, borrowDay, durationDays);
+        } finally {
+            gate.exit();
+        }
+    }
+
+    private BatchResult admitAll(Member member, List<Book> books, int borrowDay, ToIntFunction<Book> durationDays) {
+        BatchResult result = new BatchResult(books.size());
+        if (borrowDay == EpochDay.NONE) {
+            for (int i = 0; i < books.size(); i++) {
+                result.add(Outcome.INVALID_DATE, null);
+            }
+            return result;
+        }
+
+        int slots = ledger.reserveSlots(member, books.size());
+        int used = 0;
+        long lastSequence = -1;
+        try {
+            for (Book book : books) {
+                if (used == slots) {
+                    result.add(Outcome.LIMIT_REACHED, null);
+                    continue;
+                }
+                if (!book.borrowBook() || holds.yieldCopy(book)) {
+                    result.add(Outcome.NOT_AVAILABLE, null);
+                    continue;
+                }
+                Transaction transaction;
+                try {
+                    transaction = new Transaction(member, book, borrowDay, durationDays.applyAsInt(book));
+                    repository.addTransaction(transaction);
+                } catch (RuntimeException e) {
+                    book.returnBook();
+                    throw e;
+                }
+                used++;
+                countBorrow(transaction);
+                lastSequence = appendJournal(j -> j.appendBorrowed(transaction));
+                result.add(Outcome.OK, transaction);
+            }
+        } finally {
+            // Slot yang tidak terpakai (buku habis, atau batch terhenti karena error) dikembalikan
+            ledger.release(member, slots - used);
+        }
+        awaitJournal(lastSequence);
+        return result;
+    }
+
+    // Pengembalian massal (impor book-drop malam hari)
+    public BatchResult returnAll(List<Transaction> transactions, String returnDate) {
+        return returnAll(transactions, Transaction.parseDate(returnDate));
+    }
+
+    // Pengembalian massal dengan tanggal epoch day
+    public BatchResult returnAll(List<Transaction> transactions, int returnDay) {
+        gate.enter();
+        try {
+            return applyReturns(transactions, returnDay);
+        } finally {
+            gate.exit();
+        }
+    }
+
+    private BatchResult applyReturns(List<Transaction> transactions, int returnDay) {
+        BatchResult result = new BatchResult(transactions.size());
+        long lastSequence = -1;
+        for (Transaction transaction : transactions) {
+            Outcome outcome = returnDay == EpochDay.NONE ? Outcome.INVALID_DATE : transaction.processReturn(returnDay);
+            if (!outcome.isSuccess()) {
+                result.add(outcome, transaction);
+            } else {
+                ledger.release(transaction.getMember());
+                countReturn(transaction);
+                lastSequence = appendJournal(j -> j.appendReturned(transaction));
+                holds.promote(transaction.getBook());
+                result.add(Outcome.OK, transaction);
+            }
+        }
+        awaitJournal(lastSequence);
+        return result;
+    }
+
+    // Reservasi buku yang sedang habis; null jika buku masih tersedia atau sudah direservasi member ini
+    public HoldQueue.Hold placeHold(Member member, Book book) {
+        if (book.getAvailableCopies() > 0) {
+            publish(LibraryEvent.Kind.HOLD, Outcome.STILL_AVAILABLE, book, member);
+            return null;
+        }
+        HoldQueue.Hold hold = holds.place(member, book);
+        if (hold == null) {
+            publish(LibraryEvent.Kind.HOLD, Outcome.DUPLICATE_HOLD, member, book);
+        } else {
+            publish(LibraryEvent.Kind.HOLD, Outcome.OK, hold, null);
+        }
+        return hold;
+    }
+
+    // Mengambil reservasi yang sudah siap (copy sudah disisihkan) menjadi transaksi peminjaman
+    public Transaction checkoutHold(HoldQueue.Hold hold, String borrowDate, int borrowDurationDays) {
+        return checkoutHold(hold, Transaction.parseDate(borrowDate), borrowDurationDays);
+    }
+
+    // Pengambilan reservasi dengan tanggal epoch day
+    public Transaction checkoutHold(HoldQueue.Hold hold, int borrowDay, int borrowDurationDays) {
+        gate.enter();
+        try {
+            return admitHold(hold, borrowDay, borrowDurationDays);
+        } finally {
+            gate.exit();
+        }
+    }
+
+    private Transaction admitHold(HoldQueue.Hold hold, int borrowDay, int borrowDurationDays) {
+        if (hold.getStatus() != HoldQueue.Status.READY) {
+            publish(LibraryEvent.Kind.BORROW, Outcome.HOLD_NOT_READY, hold, null);
+            return null;
+        }
+        Member member = hold.getMember();
+        if (borrowDay == EpochDay.NONE) {
+            publish(LibraryEvent.Kind.BORROW, Outcome.INVALID_DATE, member, hold.getBook());
+            return null;
+        }
+        if (!ledger.reserveSlot(member)) {
+            publish(LibraryEvent.Kind.BORROW, Outcome.LIMIT_REACHED, member, hold.getBook());
+            return null;
+        }
+        if (!holds.fulfil(hold)) {
+            // Dibatalkan bersamaan; copy sudah diteruskan oleh pembatalan
+            ledger.release(member);
+            publish(LibraryEvent.Kind.BORROW, Outcome.HOLD_NOT_READY, hold, null);
+            return null;
+        }
+
+        Transaction transaction;
+        try {
+            transaction = new Transaction(member, hold.getBook(), borrowDay, borrowDurationDays);
+            repository.addTransaction(transaction);
+        } catch (RuntimeException e) {
+            ledger.cancel(member, hold.getBook());
+            holds.promote(hold.getBook());
+            throw e;
+        }
+        return recordBorrow(transaction);
+    }
+
+    // Membatalkan reservasi; copy yang sudah disisihkan diteruskan ke pemesan berikutnya
+    public boolean cancelHold(HoldQueue.Hold hold) {
+        return holds.cancel(hold);
+    }
+
+    // Transfer antar cabang: melepas satu copy yang tersedia; false jika sudah habis
+    boolean releaseCopy(Book book) {
+        gate.enter();
+        try {
+            if (!book.transferOut()) {
+                return false;
+            }
+            emit(new DomainEvent.CopyTransferred(book.getBookNumber(), -1));
+            return true;
+        } finally {
+            gate.exit();
+        }
+    }
+
+    // Transfer antar cabang: copy yang masuk langsung disisihkan untuk antrean reservasi
+    void receiveCopy(Book book) {
+        gate.enter();
+        try {
+            book.transferIn();
+            emit(new DomainEvent.CopyTransferred(book.getBookNumber(), 1));
+            holds.promote(book);
+        } finally {
+            gate.exit();
+        }
+    }
+
+    // Pengembalian buku; OK jika pengembalian tercatat, selain itu alasan penolakan
+    public Outcome processReturn(Transaction transaction, String returnDate) {
+        gate.enter();
+        try {
+            return recordReturn(transaction, transaction.processReturn(returnDate));
+        } finally {
+            gate.exit();
+        }
+    }
+
+    // Pengembalian buku dengan tanggal epoch day
+    public Outcome processReturn(Transaction transaction, int returnDay) {
+        gate.enter();
+        try {
+            return recordReturn(transaction, transaction.processReturn(returnDay));
+        } finally {
+            gate.exit();
+        }
+    }
+
+    private Outcome recordReturn(Transaction transaction, Outcome outcome) {
+        if (!outcome.isSuccess()) {
+            return publish(LibraryEvent.Kind.RETURN, outcome, transaction, null);
+        }
+        ledger.release(transaction.getMember());
+        countReturn(transaction);
+        writeJournal(j -> j.appendReturned(transaction));
+        // Copy yang baru kembali langsung disisihkan untuk pemesan berikutnya (jika ada)
+        holds.promote(transaction.getBook());
+        return publish(LibraryEvent.Kind.RETURN, Outcome.OK, transaction, null);
+    }
+
+    // Peminjaman tercatat: statistik dan event Borrowed
+    private void countBorrow(Transaction transaction) {
+        statistics.recordBorrow(transaction);
+        emit(DomainEvent.borrowed(transaction));
+    }
+
+    // Pengembalian tercatat: statistik, event Returned, lalu denda (jika ada)
+    private void countReturn(Transaction transaction) {
+        statistics.recordReturn(transaction);
+        emit(DomainEvent.returned(transaction));
+        recordFee(transaction);
+    }
+
+    // Denda pengembalian masuk ke statistik, saldo member, dan event FeeAssessed
+    private void recordFee(Transaction transaction) {
+        long cents = transaction.getLateFeeCents();
+        statistics.recordFee(transaction.getMember(), cents);
+        fees.charge(transaction.getMember(), cents);
+        if (cents > 0) {
+            emit(DomainEvent.feeAssessed(transaction));
+        }
+    }
+
+    // Mengirim event domain ke stream (tanpa stream: hanya satu baca volatile)
+    private void emit(DomainEvent event) {
+        EventStream current = stream;
+        if (current != null) {
+            current.publish(event);
+        }
+    }
+
+    // Mengirim hasil operasi ke listener repository (tanpa listener: hanya satu baca volatile)
+    private Outcome publish(LibraryEvent.Kind kind, Outcome outcome, Object subject, Object detail) {
+        return repository.getEvents().publish(kind, outcome, subject, detail);
+    }
+
+    // Menulis event ke journal lalu menunggu group commit berikutnya (tanpa fsync per event)
+    private void writeJournal(JournalWrite write) {
+        awaitJournal(appendJournal(write));
+    }
+
+    // Menambah event ke buffer journal tanpa menunggu; mengembalikan nomor urut (-1 tanpa journal)
+    private long appendJournal(JournalWrite write) {
+        if (journal == null) {
+            return -1;
+        }
+        try {
+            return write.append(journal);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Menunggu sampai event dengan nomor urut tersebut (dan semua sebelumnya) tersimpan permanen
+    private void awaitJournal(long sequence) {
+        if (journal == null || sequence < 0) {
+            return;
+        }
+        try {
+            journal.awaitDurable(sequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Listener journal: setter Member/Book dan upgrade membership yang berhasil dicatat
+    private void journalUpdate(LibraryEvent event) {
+        if (!event.isSuccess()) {
+            return;
+        }
+        switch (event.getKind()) {
+            case MEMBER_UPDATE, MEMBERSHIP_UPGRADE -> {
+                Member member = (Member) event.getSubject();
+                writeJournal(j -> j.appendMemberUpdated(member));
+            }
+            case BOOK_UPDATE -> {
+                Book book = (Book) event.getSubject();
+                writeJournal(j -> j.appendBookUpdated(book));
+            }
+            default -> {
+            }
+        }
+    }
+
+    private interface JournalWrite {
+        long append(LibraryJournal journal) throws IOException;
+    }
+
+    // Stream event domain (ring buffer berkapasitas tetap); dibuat saat pertama diminta.
+    // Proyeksi diisi dari state layanan saat ini (titik kompaksi, lihat seed) lalu event sesudahnya.
+    public EventStream getEventStream() {
+        EventStream current = stream;
+        if (current == null) {
+            synchronized (this) {
+                current = stream;
+                if (current == null) {
+                    current = new EventStream(EventStream.DEFAULT_CAPACITY, this::seed);
+                    repository.attachStream(current);
+                    stream = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    // Memasang proyeksi; proyeksi langsung dibangun dari state saat ini
+    public EventStream.Subscription project(Projection projection) {
+        return getEventStream().subscribe(projection);
+    }
+
+    // Titik kompaksi: member, buku, dan transaksi di repository dikirim sebagai event (transaksi
+    // yang sudah diarsipkan tidak ikut). Event disalin selagi operasi layanan ditahan lewat
+    // gerbang checkpoint dan publish ke stream dikunci, sehingga setiap operasi tercermin tepat
+    // sekali: di salinan, atau di event setelah nomor urut yang dikembalikan. Perubahan level
+    // lewat setter Member tidak lewat gerbang, tetapi TierChanged-nya tertahan di lock stream.
+    // Sink hanya menyalin event; EventStream memakai salinan ini bersama untuk semua proyeksi dan
+    // membatasi seberapa sering seed dipanggil, jadi proyeksi yang lambat tidak menahan penulis.
+    private long seed(Consumer<DomainEvent> sink) {
+        EventStream events = stream;
+        synchronized (this) {
+            gate.close();
+            try {
+                synchronized (events) {
+                    repository.streamMembers(null, null).forEach(m -> sink.accept(DomainEvent.memberRegistered(m)));
+                    repository.streamBooks(null, null).forEach(b -> sink.accept(DomainEvent.bookAdded(b)));
+                    repository.streamTransactions(null, null).forEach(t -> {
+                        sink.accept(DomainEvent.borrowed(t));
+                        if (t.isReturned()) {
+                            sink.accept(DomainEvent.returned(t));
+                            if (t.getLateFeeCents() > 0) {
+                                sink.accept(DomainEvent.feeAssessed(t));
+                            }
+                        }
+                    });
+                    return events.getLastSequence();
+                }
+            } finally {
+                gate.open();
+            }
+        }
+    }
+
+    // Mengaktifkan metrik jalur panas (global) dan mendaftarkan gauge milik layanan ini
+    public LibraryMetrics enableMetrics() {
+        return enableMetrics(LibraryMetrics.DEFAULT_SAMPLE_PERIOD);
+    }
+
+    // samplePeriod: 1 dari berapa event yang diukur latensinya (1 = setiap event)
+    public LibraryMetrics enableMetrics(int samplePeriod) {
+        LibraryMetrics metrics = LibraryMetrics.enable(samplePeriod);
+        metrics.registerGauge("openLoans", statistics::getActiveLoans);
+        metrics.registerGauge("members", () -> repository.getMemberCount());
+        metrics.registerGauge("books", () -> repository.getBookCount());
+        return metrics;
+    }
+
+    // Memindahkan transaksi yang sudah selesai dari repository ke arsip kolom. Pemindahan
+    // dicatat di journal agar replay tanpa snapshot tidak menghidupkan lagi pinjaman yang diarsipkan.
+    public int archiveClosedLoans() {
+        gate.enter();
+        try {
+            List<Transaction> closed = repository.removeClosedTransactions();
+            archive.appendAll(closed);
+            if (!closed.isEmpty()) {
+                writeJournal(j -> j.appendArchived(closed));
+            }
+            return closed.size();
+        } finally {
+            gate.exit();
+        }
+    }
+
+    // Menutup journal (jika ada) setelah seluruh record tertulis
+    @Override
+    public void close() throws IOException {
+        EventStream current = stream;
+        if (current != null) {
+            current.close();
+        }
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    public LibraryRepository getRepository() {
+        return repository;
+    }
+
+    // Tampilan ter-cache untuk layar OPAC/staf. Listener invalidasi baru terdaftar saat
+    // pertama dipanggil, sehingga layanan yang tidak pernah merender tidak membuat event.
+    public LibraryViews getViews() {
+        LibraryViews current = views;
+        if (current == null) {
+            synchronized (this) {
+                current = views;
+                if (current == null) {
+                    current = new LibraryViews();
+                    repository.getEvents().addListener(current);
+                    views = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    // Listener event domain (sama dengan repository.getEvents())
+    public LibraryEvents getEvents() {
+        return repository.getEvents();
+    }
+
+    public LibraryStatistics getStatistics() {
+        return statistics;
+    }
+
+    public HoldQueue getHolds() {
+        return holds;
+    }
+
+    public LoanLedger getLedger() {
+        return ledger;
+    }
+
+    public FeeLedger getFees() {
+        return fees;
+    }
+
+    public TransactionArchive getArchive() {
+        return archive;
+    }
+
+    // Journal yang dipakai (null jika tanpa persistensi)
+    public LibraryJournal getJournal() {
+        return journal;
+    }
+
+    // Membangun ulang entitas, counter ID, dan statistik dari record journal.
+    // Record yang sudah tercakup snapshot dilewati sehingga replay aman diulang.
+    private class Recovery implements LibraryJournal.Replayer {
+        // Pinjaman yang record arsipnya mendahului record pengembalian (diarsipkan begitu
+        // pengembaliannya diputar ulang)
+        private final Set<Long> archivePending = new HashSet<>();
+
+        @Override
+        public void memberRegistered(String memberId, String name, String email, String phoneNumber,
+                                     int registrationYear, String membershipType) {
+            if (repository.findMember(memberId) == null) {
+                Member member = new Member(memberId, name, email, phoneNumber, registrationYear, membershipType);
+                repository.addMember(member);
+                emit(DomainEvent.memberRegistered(member));
+            }
+        }
+
+        @Override
+        public void bookRegistered(String bookId, String title, String author, String category,
+                                   int publicationYear, int totalCopies) {
+            if (repository.findBook(bookId) == null) {
+                Book book = new Book(bookId, title, author, category, publicationYear, totalCopies, totalCopies);
+                repository.addBook(book);
+                emit(DomainEvent.bookAdded(book));
+            }
+        }
+
+        @Override
+        public void borrowed(String transactionId, String memberId, String bookId, int borrowDay, int dueDay) {
+            if (repository.findTransaction(transactionId) != null) {
+                return;
+            }
+            Member member = repository.findMember(memberId);
+            Book book = repository.findBook(bookId);
+            book.borrowBook();
+            ledger.restoreOpenLoan(member);
+            Transaction transaction = new Transaction(Transaction.idNumber(transactionId), member, book,
+                    borrowDay, dueDay);
+            repository.addTransaction(transaction);
+            countBorrow(transaction);
+        }
+
+        @Override
+        public void returned(String transactionId, int returnDay, long lateFeeCents) {
+            // Pinjaman yang sudah selesai sebelum snapshot tidak ada di repository
+            Transaction transaction = repository.findTransaction(transactionId);
+            if (transaction == null || transaction.isReturned()) {
+                return;
+            }
+            if (lateFeeCents < 0) {
+                transaction.processReturn(returnDay);
+            } else {
+                transaction.restoreReturn(returnDay, lateFeeCents);
+            }
+            ledger.release(transaction.getMember());
+            countReturn(transaction);
+            if (archivePending.remove(transaction.getTransactionNumber())) {
+                moveToArchive(transaction);
+            }
+        }
+
+        // Pinjaman yang sudah tidak ada di repository sudah masuk arsip snapshot
+        @Override
+        public void archived(long[] transactionNumbers) {
+            for (long number : transactionNumbers) {
+                Transaction transaction = repository.findTransaction(number);
+                if (transaction == null) {
+                    continue;
+                }
+                if (transaction.isReturned()) {
+                    moveToArchive(transaction);
+                } else {
+                    archivePending.add(number);
+                }
+            }
+        }
+
+        private void moveToArchive(Transaction transaction) {
+            if (repository.removeTransaction(transaction)) {
+                archive.append(transaction);
+            }
+        }
+
+        // Update menyimpan seluruh data terbaru: hanya field yang berbeda yang diterapkan
+        @Override
+        public void memberUpdated(String memberId, String name, String email, String phoneNumber,
+                                  int registrationYear, String membershipType) {
+            Member member = repository.findMember(memberId);
+            if (member == null) {
+                return;
+            }
+            if (!member.getName().equals(name)) member.setName(name);
+            if (!member.getEmail().equals(email)) member.setEmail(email);
+            if (!member.getPhoneNumber().equals(phoneNumber)) member.setPhoneNumber(phoneNumber);
+            if (member.getRegistrationYear() != registrationYear) member.setRegistrationYear(registrationYear);
+            if (!member.getMembershipType().equals(membershipType)) member.setMembershipType(membershipType);
+        }
+
+        @Override
+        public void bookUpdated(String bookId, String title, String author, String category,
+                                int publicationYear, int totalCopies) {
+            Book book = repository.findBook(bookId);
+            if (book == null) {
+                return;
+            }
+            if (!book.getTitle().equals(title)) book.setTitle(title);
+            if (!book.getAuthor().equals(author)) book.setAuthor(author);
+            if (!book.getCategory().equals(category)) book.setCategory(category);
+            if (book.getPublicationYear() != publicationYear) book.setPublicationYear(publicationYear);
+            if (book.getTotalCopies() != totalCopies) book.setTotalCopies(totalCopies);
+        }
+    }
+}
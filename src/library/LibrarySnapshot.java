@@ -0,0 +1,454 @@
+package library;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * CLASS LIBRARY SNAPSHOT
+ * Snapshot biner berversi berisi katalog, member, pinjaman, arsip kolom, dan statistik,
+ * dibaca langsung lewat MappedByteBuffer. Tabel offset membuat tiap record bisa
+ * didekode sesuai kebutuhan (lazy) tanpa membaca seluruh file terlebih dahulu.
+ *
+ * Tata letak file:
+ *   header (HEADER_SIZE byte, lihat konstanta H_*)
+ *   record member  : id, nama, email, telepon, int tahun, tipe, long jumlahPinjam, long dendaSen (versi 3)
+ *   record buku    : id, judul, penulis, kategori, int tahun, int totalCopy, long jumlahPinjam
+ *   record pinjaman: long nomorTrx, int indeksMember, int indeksBuku, int tglPinjam, int tglTempo,
+ *                    int tglKembali, long dendaSen (tetap 36 byte; sebelum versi 5: int nomorTrx, tanpa
+ *                    tglKembali/denda, 20 byte)
+ *   record kategori: nama, long jumlahPinjam
+ *   tabel offset member (int per member), tabel offset buku (int per buku)
+ *   baris arsip    : long nomorTrx, long nomorMember, long nomorBuku, int tglPinjam, int tglTempo,
+ *                    int tglKembali, int hariTelat, long dendaSen, int indeksKategori (tetap 52 byte)
+ *   kamus kategori arsip: nama (urutan indeks)
+ * String disimpan sebagai [int panjang][byte UTF-8] (sebelum versi 4: unsigned short).
+ * Versi 2 menambah high-water mark generator ID di header, sehingga nomor transaksi
+ * yang sudah diarsipkan (tidak ada di snapshot) tidak dibagikan ulang setelah restart.
+ * Versi 3 menyimpan total denda sebagai long sen (sebelumnya double rupiah) dan saldo
+ * denda per member, agar FeeLedger pulih tanpa riwayat transaksi yang sudah diarsipkan.
+ * Versi 4 memakai panjang string int sehingga teks di atas 65.535 byte tidak terpotong.
+ * Versi 5 menyimpan arsip kolom (TransactionArchive) dan pinjaman yang sudah kembali tetapi
+ * belum diarsipkan, sehingga riwayat tidak hilang setelah checkpoint; nomor transaksi long.
+ */
+public class LibrarySnapshot {
+    static final int MAGIC = 0x4C494253; // "LIBS"
+    static final int VERSION = 5;
+    // Versi lama yang masih bisa dibaca (v1: header 72 byte tanpa high-water mark;
+    // v2: denda masih double rupiah, tanpa saldo per member; v3: panjang string unsigned short;
+    // v4: tanpa arsip dan pinjaman yang sudah kembali)
+    private static final int VERSION_1 = 1;
+    private static final int VERSION_2 = 2;
+    private static final int VERSION_3 = 3;
+    private static final int VERSION_4 = 4;
+
+    // Posisi field di header
+    private static final int H_MAGIC = 0;
+    private static final int H_VERSION = 4;
+    private static final int H_JOURNAL_OFFSET = 8;
+    private static final int H_MEMBER_COUNT = 16;
+    private static final int H_BOOK_COUNT = 20;
+    private static final int H_LOAN_COUNT = 24;
+    private static final int H_CATEGORY_COUNT = 28;
+    private static final int H_MEMBER_TABLE = 32;
+    private static final int H_BOOK_TABLE = 36;
+    private static final int H_LOANS = 40;
+    private static final int H_CATEGORIES = 44;
+    private static final int H_TOTAL_LOANS = 48;
+    private static final int H_LATE_RETURNS = 56;
+    private static final int H_TOTAL_FEES = 64;
+    private static final int H_MEMBER_HIGH_WATER = 72;
+    private static final int H_BOOK_HIGH_WATER = 80;
+    private static final int H_TRANSACTION_HIGH_WATER = 88;
+    private static final int H_ARCHIVE_COUNT = 96;
+    private static final int H_ARCHIVE = 100;
+    private static final int HEADER_SIZE_V1 = 72;
+    private static final int HEADER_SIZE = 104;
+
+    private static final int LOAN_RECORD_SIZE_V4 = 20;
+    private static final int LOAN_RECORD_SIZE = 36;
+    private static final int ARCHIVE_RECORD_SIZE = 52;
+
+    private final MappedByteBuffer buffer;
+    private final int version;
+    private final long journalOffset;
+    private final int memberCount;
+    private final int bookCount;
+    private final int loanCount;
+    private final int categoryCount;
+    private final int memberTable;
+    private final int bookTable;
+    private final int loans;
+    private final int categories;
+    private final int archiveCount;
+    private final int archive;
+
+    private LibrarySnapshot(MappedByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < HEADER_SIZE_V1 || buffer.getInt(H_MAGIC) != MAGIC) {
+            throw new IOException("Error: File bukan snapshot perpustakaan");
+        }
+        int version = buffer.getInt(H_VERSION);
+        if (version < VERSION_1 || version > VERSION) {
+            throw new IOException("Error: Versi snapshot tidak didukung: " + version);
+        }
+        this.buffer = buffer;
+        this.version = version;
+        this.journalOffset = buffer.getLong(H_JOURNAL_OFFSET);
+        this.memberCount = buffer.getInt(H_MEMBER_COUNT);
+        this.bookCount = buffer.getInt(H_BOOK_COUNT);
+        this.loanCount = buffer.getInt(H_LOAN_COUNT);
+        this.categoryCount = buffer.getInt(H_CATEGORY_COUNT);
+        this.memberTable = buffer.getInt(H_MEMBER_TABLE);
+        this.bookTable = buffer.getInt(H_BOOK_TABLE);
+        this.loans = buffer.getInt(H_LOANS);
+        this.categories = buffer.getInt(H_CATEGORIES);
+        this.archiveCount = version >= VERSION ? buffer.getInt(H_ARCHIVE_COUNT) : 0;
+        this.archive = version >= VERSION ? buffer.getInt(H_ARCHIVE) : 0;
+    }
+
+    // Memetakan file snapshot ke memori; record baru didekode saat diminta
+    public static LibrarySnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new LibrarySnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    // Posisi journal yang sudah tercakup snapshot ini (replay dilanjutkan dari sini)
+    public long getJournalOffset() { return journalOffset; }
+    public int getMemberCount() { return memberCount; }
+    public int getBookCount() { return bookCount; }
+    public int getLoanCount() { return loanCount; }
+    public int getArchiveCount() { return archiveCount; }
+
+    // Dekode satu member berdasarkan urutan di snapshot (objek baru, belum terdaftar di repository)
+    public Member member(int index) {
+        return decodeMember(recordAt(memberTable, index));
+    }
+
+    // Dekode satu buku berdasarkan urutan di snapshot (objek baru dengan stok penuh;
+    // pinjaman baru diterapkan saat restore)
+    public Book book(int index) {
+        return decodeBook(recordAt(bookTable, index));
+    }
+
+    // Membangun seluruh entitas, arsip, dan statistik ke dalam layanan yang masih kosong
+    void restoreInto(LibraryRepository repository, LibraryStatistics statistics, FeeLedger fees,
+                     TransactionArchive archive) {
+        // High-water mark lebih dulu: pemulihan record setelahnya cukup lewat jalur cepat
+        if (version >= VERSION_2) {
+            Member.getIdGenerator().advanceTo(buffer.getLong(H_MEMBER_HIGH_WATER));
+            Book.getIdGenerator().advanceTo(buffer.getLong(H_BOOK_HIGH_WATER));
+            Transaction.getIdGenerator().advanceTo(buffer.getLong(H_TRANSACTION_HIGH_WATER));
+        }
+
+        Member[] members = new Member[memberCount];
+        for (int i = 0; i < memberCount; i++) {
+            ByteBuffer in = recordAt(memberTable, i);
+            members[i] = decodeMember(in);
+            repository.addMember(members[i]);
+            statistics.restoreLoanCount(members[i], in.getLong());
+            if (version >= VERSION_3) {
+                fees.charge(members[i], in.getLong());
+            }
+        }
+
+        Book[] books = new Book[bookCount];
+        for (int i = 0; i < bookCount; i++) {
+            ByteBuffer in = recordAt(bookTable, i);
+            books[i] = decodeBook(in);
+            repository.addBook(books[i]);
+            statistics.restoreLoanCount(books[i], in.getLong());
+        }
+
+        // Record pinjaman berukuran tetap: dibaca langsung tanpa tabel offset
+        int openLoans = 0;
+        if (version >= VERSION) {
+            for (int i = 0, at = loans; i < loanCount; i++, at += LOAN_RECORD_SIZE) {
+                Transaction t = new Transaction(buffer.getLong(at), members[buffer.getInt(at + 8)],
+                        books[buffer.getInt(at + 12)], buffer.getInt(at + 16), buffer.getInt(at + 20));
+                int returnDay = buffer.getInt(at + 24);
+                if (returnDay == EpochDay.NONE) {
+                    t.getBook().borrowBook();
+                    openLoans++;
+                } else {
+                    t.restoreClosed(returnDay, buffer.getLong(at + 28));
+                }
+                repository.addTransaction(t);
+            }
+        } else {
+            for (int i = 0, at = loans; i < loanCount; i++, at += LOAN_RECORD_SIZE_V4) {
+                Member member = members[buffer.getInt(at + 4)];
+                Book book = books[buffer.getInt(at + 8)];
+                book.borrowBook();
+                repository.addTransaction(new Transaction(buffer.getInt(at), member, book,
+                        buffer.getInt(at + 12), buffer.getInt(at + 16)));
+            }
+            openLoans = loanCount;
+        }
+        restoreArchive(repository, archive);
+
+        ByteBuffer in = buffer.duplicate().position(categories);
+        for (int i = 0; i < categoryCount; i++) {
+            statistics.restoreLoanCount(getString(in), in.getLong());
+        }
+        long feeCents = version >= VERSION_3
+                ? buffer.getLong(H_TOTAL_FEES)
+                : Math.round(buffer.getDouble(H_TOTAL_FEES) * 100);
+        statistics.restoreTotals(buffer.getLong(H_TOTAL_LOANS), openLoans,
+                buffer.getLong(H_LATE_RETURNS), feeCents);
+    }
+
+    // Baris arsip merujuk member/buku lewat nomor urut (entitas tidak pernah dihapus dari repository)
+    private void restoreArchive(LibraryRepository repository, TransactionArchive target) {
+        if (archiveCount == 0) {
+            return;
+        }
+        ByteBuffer in = buffer.duplicate().position(archive + archiveCount * ARCHIVE_RECORD_SIZE);
+        String[] names = new String[in.getInt()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = getString(in);
+        }
+        for (int i = 0, at = archive; i < archiveCount; i++, at += ARCHIVE_RECORD_SIZE) {
+            Member member = repository.findMember(buffer.getLong(at + 8));
+            Book book = repository.findBook(buffer.getLong(at + 16));
+            if (member == null || book == null) {
+                throw new IllegalStateException("Error: Baris arsip merujuk data yang tidak ada di snapshot");
+            }
+            target.append(buffer.getLong(at), member, book, names[buffer.getInt(at + 48)],
+                    buffer.getInt(at + 24), buffer.getInt(at + 28), buffer.getInt(at + 32),
+                    buffer.getInt(at + 36), buffer.getLong(at + 40));
+        }
+    }
+
+    // Buffer baca yang diposisikan di awal record ke-index menurut tabel offset
+    private ByteBuffer recordAt(int table, int index) {
+        return buffer.duplicate().position(buffer.getInt(table + index * 4));
+    }
+
+    private Member decodeMember(ByteBuffer in) {
+        return new Member(getString(in), getString(in), getString(in), getString(in), in.getInt(), getString(in));
+    }
+
+    private Book decodeBook(ByteBuffer in) {
+        String bookId = getString(in);
+        String title = getString(in);
+        String author = getString(in);
+        String category = getString(in);
+        int publicationYear = in.getInt();
+        int totalCopies = in.getInt();
+        return new Book(bookId, title, author, category, publicationYear, totalCopies, totalCopies);
+    }
+
+    // ---------------------------------------------------------------- penulisan
+
+    // Menulis snapshot secara atomik (file sementara lalu rename)
+    public static void write(LibraryRepository repository, LibraryStatistics statistics, FeeLedger fees,
+                             TransactionArchive archive, long journalOffset, Path path) throws IOException {
+        commit(encode(repository, statistics, fees, archive, journalOffset, path), path);
+    }
+
+    // Tahap 1: menyalin state ke file sementara di samping path (belum di-fsync)
+    static Path encode(LibraryRepository repository, LibraryStatistics statistics, FeeLedger fees,
+                       TransactionArchive archive, long journalOffset, Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            Writer out = new Writer(channel, HEADER_SIZE);
+
+            List<Member> members = repository.copyMembers();
+            Map<Member, Integer> memberIndex = new HashMap<>(members.size() * 2);
+            int[] memberOffsets = new int[members.size()];
+            for (int i = 0; i < members.size(); i++) {
+                Member m = members.get(i);
+                memberIndex.put(m, i);
+                memberOffsets[i] = out.position();
+                out.putString(m.getMemberId());
+                out.putString(m.getName());
+                out.putString(m.getEmail());
+                out.putString(m.getPhoneNumber());
+                out.putInt(m.getRegistrationYear());
+                out.putString(m.getMembershipType());
+                out.putLong(statistics.getLoanCount(m));
+                out.putLong(fees.getOwedCents(m));
+            }
+
+            List<Book> books = repository.copyBooks();
+            Map<Book, Integer> bookIndex = new HashMap<>(books.size() * 2);
+            int[] bookOffsets = new int[books.size()];
+            for (int i = 0; i < books.size(); i++) {
+                Book b = books.get(i);
+                bookIndex.put(b, i);
+                bookOffsets[i] = out.position();
+                out.putString(b.getBookId());
+                out.putString(b.getTitle());
+                out.putString(b.getAuthor());
+                out.putString(b.getCategory());
+                out.putInt(b.getPublicationYear());
+                out.putInt(b.getTotalCopies());
+                out.putLong(statistics.getLoanCount(b));
+            }
+
+            int loans = out.position();
+            int loanCount = 0;
+            for (Transaction t : repository.copyTransactions()) {
+                Integer member = memberIndex.get(t.getMember());
+                Integer book = bookIndex.get(t.getBook());
+                if (member == null || book == null) {
+                    continue;
+                }
+                out.putLong(t.getTransactionNumber());
+                out.putInt(member);
+                out.putInt(book);
+                out.putInt(t.getBorrowDay());
+                out.putInt(t.getDueDay());
+                out.putInt(t.getReturnDay());
+                out.putLong(t.getLateFeeCents());
+                loanCount++;
+            }
+
+            int categories = out.position();
+            Map<String, Long> categoryCounts = statistics.getCategoryLoanCounts();
+            for (Map.Entry<String, Long> e : categoryCounts.entrySet()) {
+                out.putString(e.getKey());
+                out.putLong(e.getValue());
+            }
+
+            int memberTable = out.position();
+            for (int offset : memberOffsets) {
+                out.putInt(offset);
+            }
+            int bookTable = out.position();
+            for (int offset : bookOffsets) {
+                out.putInt(offset);
+            }
+
+            // Arsip: baris tetap lalu kamus kategori (indeks dibagikan saat baris ditulis)
+            int archiveRows = out.position();
+            Map<String, Integer> archiveCategories = new LinkedHashMap<>();
+            int[] archiveCount = new int[1];
+            archive.forEach((number, member, book, category, borrow, due, returned, late, fee) -> {
+                out.putLong(number);
+                out.putLong(member.getMemberNumber());
+                out.putLong(book.getBookNumber());
+                out.putInt(borrow);
+                out.putInt(due);
+                out.putInt(returned);
+                out.putInt(late);
+                out.putLong(fee);
+                out.putInt(archiveCategories.computeIfAbsent(category, c -> archiveCategories.size()));
+                archiveCount[0]++;
+            });
+            out.putInt(archiveCategories.size());
+            for (String category : archiveCategories.keySet()) {
+                out.putString(category);
+            }
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(H_MAGIC, MAGIC);
+            header.putInt(H_VERSION, VERSION);
+            header.putLong(H_JOURNAL_OFFSET, journalOffset);
+            header.putInt(H_MEMBER_COUNT, members.size());
+            header.putInt(H_BOOK_COUNT, books.size());
+            header.putInt(H_LOAN_COUNT, loanCount);
+            header.putInt(H_CATEGORY_COUNT, categoryCounts.size());
+            header.putInt(H_MEMBER_TABLE, memberTable);
+            header.putInt(H_BOOK_TABLE, bookTable);
+            header.putInt(H_LOANS, loans);
+            header.putInt(H_CATEGORIES, categories);
+            header.putLong(H_TOTAL_LOANS, statistics.getTotalLoans());
+            header.putLong(H_LATE_RETURNS, statistics.getLateReturns());
+            header.putLong(H_TOTAL_FEES, statistics.getTotalFeeCents());
+            header.putLong(H_MEMBER_HIGH_WATER, Member.getIdGenerator().getHighWaterMark());
+            header.putLong(H_BOOK_HIGH_WATER, Book.getIdGenerator().getHighWaterMark());
+            header.putLong(H_TRANSACTION_HIGH_WATER, Transaction.getIdGenerator().getHighWaterMark());
+            header.putInt(H_ARCHIVE_COUNT, archiveCount[0]);
+            header.putInt(H_ARCHIVE, archiveRows);
+            channel.write(header, 0);
+        }
+        return temp;
+    }
+
+    // Tahap 2: fsync file sementara lalu menggantikan snapshot lama secara atomik
+    static void commit(Path temp, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Penulis berbuffer yang mencatat posisi byte untuk tabel offset
+    private static class Writer {
+        private final FileChannel channel;
+        private final ByteBuffer chunk = ByteBuffer.allocate(1 << 20);
+        private long flushed;
+
+        Writer(FileChannel channel, int start) {
+            this.channel = channel;
+            this.flushed = start;
+        }
+
+        int position() throws IOException {
+            long position = flushed + chunk.position();
+            if (position > Integer.MAX_VALUE) {
+                throw new IOException("Error: Snapshot melebihi 2 GB");
+            }
+            return (int) position;
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(4);
+            chunk.putInt(value);
+        }
+
+        void putLong(long value) throws IOException {
+            ensure(8);
+            chunk.putLong(value);
+        }
+
+        void putString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            ensure(4 + bytes.length);
+            if (chunk.remaining() < 4 + bytes.length) {
+                // String lebih besar dari chunk: ditulis langsung ke file
+                chunk.putInt(bytes.length);
+                flush();
+                ByteBuffer large = ByteBuffer.wrap(bytes);
+                while (large.hasRemaining()) {
+                    flushed += channel.write(large, flushed);
+                }
+                return;
+            }
+            chunk.putInt(bytes.length);
+            chunk.put(bytes);
+        }
+
+        void flush() throws IOException {
+            chunk.flip();
+            while (chunk.hasRemaining()) {
+                flushed += channel.write(chunk, flushed);
+            }
+            chunk.clear();
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (chunk.remaining() < bytes) {
+                flush();
+            }
+        }
+    }
+
+    private String getString(ByteBuffer in) {
+        int length = version >= VERSION_4 ? in.getInt() : Short.toUnsignedInt(in.getShort());
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,128 @@
+package library;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CLASS LIBRARY STATISTICS
+ * Statistik perpustakaan yang diperbarui setiap ada peminjaman, pengembalian, dan denda,
+ * sehingga membaca dashboard tidak perlu memindai ulang seluruh transaksi.
+ */
+public class LibraryStatistics {
+    // Jumlah kandidat teratas yang disimpan untuk tiap peringkat
+    private static final int TOP_CAPACITY = 10;
+
+    private final LongAdder totalLoans = new LongAdder();
+    private final LongAdder activeLoans = new LongAdder();
+    private final LongAdder lateReturns = new LongAdder();
+    // Total denda dalam sen (lihat FeeSchedule)
+    private final LongAdder totalFeeCents = new LongAdder();
+
+    private final TopKCounter<Member> memberLoans = new TopKCounter<>(TOP_CAPACITY);
+    private final TopKCounter<Book> bookLoans = new TopKCounter<>(TOP_CAPACITY);
+    private final TopKCounter<String> categoryLoans = new TopKCounter<>(TOP_CAPACITY);
+
+    // Event peminjaman baru
+    public void recordBorrow(Transaction transaction) {
+        totalLoans.increment();
+        activeLoans.increment();
+        memberLoans.increment(transaction.getMember());
+        bookLoans.increment(transaction.getBook());
+        categoryLoans.increment(transaction.getBook().getCategory());
+    }
+
+    // Event pengembalian buku
+    public void recordReturn(Transaction transaction) {
+        activeLoans.decrement();
+        if (transaction.getDaysLate() > 0) {
+            lateReturns.increment();
+        }
+    }
+
+    // Event denda yang dikenakan ke member
+    public void recordFee(Member member, long cents) {
+        if (cents > 0) {
+            totalFeeCents.add(cents);
+        }
+    }
+
+    // Memulihkan total dari snapshot (dipanggil sebelum layanan menerima operasi)
+    void restoreTotals(long loans, long active, long late, long feeCents) {
+        totalLoans.add(loans);
+        activeLoans.add(active);
+        lateReturns.add(late);
+        totalFeeCents.add(feeCents);
+    }
+
+    void restoreLoanCount(Member member, long count) {
+        memberLoans.increment(member, count);
+    }
+
+    void restoreLoanCount(Book book, long count) {
+        bookLoans.increment(book, count);
+    }
+
+    void restoreLoanCount(String category, long count) {
+        categoryLoans.increment(category, count);
+    }
+
+    // Jumlah peminjaman untuk seluruh kategori
+    public Map<String, Long> getCategoryLoanCounts() {
+        return categoryLoans.counts();
+    }
+
+    public long getTotalLoans() {
+        return totalLoans.sum();
+    }
+
+    public long getActiveLoans() {
+        return activeLoans.sum();
+    }
+
+    public long getLateReturns() {
+        return lateReturns.sum();
+    }
+
+    public long getTotalFeeCents() {
+        return totalFeeCents.sum();
+    }
+
+    public double getTotalFees() {
+        return totalFeeCents.sum() / 100.0;
+    }
+
+    // Peringkat teratas (maksimal 10)
+    public List<Member> getTopMembers(int k) {
+        return memberLoans.top(k);
+    }
+
+    public List<Book> getTopBooks(int k) {
+        return bookLoans.top(k);
+    }
+
+    public List<String> getTopCategories(int k) {
+        return categoryLoans.top(k);
+    }
+
+    public Member getMostActiveMember() {
+        return memberLoans.first();
+    }
+
+    public Book getMostPopularBook() {
+        return bookLoans.first();
+    }
+
+    // Jumlah peminjaman untuk member/buku/kategori tertentu
+    public long getLoanCount(Member member) {
+        return memberLoans.count(member);
+    }
+
+    public long getLoanCount(Book book) {
+        return bookLoans.count(book);
+    }
+
+    public long getLoanCount(String category) {
+        return categoryLoans.count(category);
+    }
+}
@@ -0,0 +1,96 @@
+package library;
+
+/**
+ * CLASS LIBRARY VIEWS
+ * Tampilan member, buku, dan transaksi yang di-cache (ViewCache) untuk layar OPAC dan staf.
+ * Invalidasi digerakkan oleh event repository: perubahan data member/buku dan hasil
+ * pinjam/kembali. Stamp (versi data member/buku, jumlah copy tersedia, tanggal kembali) menjadi
+ * pengaman untuk perubahan yang tidak melewati event, misalnya pinjam massal atau penyisihan
+ * reservasi, dan untuk render yang berjalan bersamaan dengan setter.
+ */
+public class LibraryViews implements LibraryListener {
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+    public static final long DEFAULT_TTL_MILLIS = 5 * 60 * 1000L;
+
+    private final ViewCache<Member> members;
+    private final ViewCache<Book> books;
+    private final ViewCache<Transaction> transactions;
+
+    public LibraryViews() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_TTL_MILLIS);
+    }
+
+    public LibraryViews(int maxEntriesPerKind, long ttlMillis) {
+        this.members = new ViewCache<>(maxEntriesPerKind, ttlMillis);
+        this.books = new ViewCache<>(maxEntriesPerKind, ttlMillis);
+        this.transactions = new ViewCache<>(maxEntriesPerKind, ttlMillis);
+    }
+
+    public String member(Member member) {
+        return members.get(member, Member::getVersion, Member::renderInfo);
+    }
+
+    public String book(Book book) {
+        return books.get(book, LibraryViews::bookStamp, Book::renderInfo);
+    }
+
+    public String transaction(Transaction transaction) {
+        return transactions.get(transaction, LibraryViews::transactionStamp, Transaction::renderInfo);
+    }
+
+    // Versi buku (32 bit atas) dan jumlah copy tersedia (32 bit bawah)
+    private static long bookStamp(Book book) {
+        return book.getVersion() << 32 | (book.getAvailableCopies() & 0xFFFFFFFFL);
+    }
+
+    // Tanggal kembali (32 bit atas) dan versi member + buku yang ikut tampil (32 bit bawah;
+    // jumlah keduanya selalu naik saat salah satu berubah)
+    private static long transactionStamp(Transaction transaction) {
+        long versions = transaction.getMember().getVersion() + transaction.getBook().getVersion();
+        return (long) transaction.getReturnDay() << 32 | (versions & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public void onEvent(LibraryEvent event) {
+        if (!event.isSuccess()) {
+            return;
+        }
+        switch (event.getKind()) {
+            case BOOK_UPDATE: {
+                // Judul buku ikut tampil di transaksi: hanya transaksi buku ini yang dibuang
+                Book book = (Book) event.getSubject();
+                books.invalidate(book);
+                transactions.invalidateIf(t -> t.getBook() == book);
+                break;
+            }
+            case MEMBER_UPDATE:
+            case MEMBERSHIP_UPGRADE: {
+                Member member = (Member) event.getSubject();
+                members.invalidate(member);
+                transactions.invalidateIf(t -> t.getMember() == member);
+                break;
+            }
+            case BORROW:
+            case RETURN: {
+                Transaction transaction = (Transaction) event.getSubject();
+                books.invalidate(transaction.getBook());
+                transactions.invalidate(transaction);
+                break;
+            }
+            default:
+                break;
+        }
+    }
+
+    public ViewCache<Member> getMemberCache() {
+        return members;
+    }
+
+    public ViewCache<Book> getBookCache() {
+        return books;
+    }
+
+    public ViewCache<Transaction> getTransactionCache() {
+        return transactions;
+    }
+}
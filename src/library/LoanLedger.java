@@ -0,0 +1,109 @@
+package library;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CLASS LOAN LEDGER
+ * Mencatat jumlah pinjaman aktif setiap member agar batas pinjam (Silver 5, Gold 7,
+ * Platinum 10) bisa ditegakkan tanpa memindai riwayat transaksi.
+ * Slot member dan copy buku dipesan bersama: jika salah satu gagal, keduanya dibatalkan.
+ */
+public class LoanLedger {
+    // Hasil pemesanan slot + copy
+    public enum Reservation {
+        RESERVED,
+        LIMIT_REACHED,
+        NOT_AVAILABLE
+    }
+
+    private final Map<Member, AtomicInteger> openLoans = new ConcurrentHashMap<>();
+
+    // Memesan satu slot pinjam member lalu satu copy buku (CAS, aman dari banyak thread)
+    public Reservation reserve(Member member, Book book) {
+        if (!reserveSlot(member)) {
+            return Reservation.LIMIT_REACHED;
+        }
+        if (!book.borrowBook()) {
+            // Copy habis: slot yang sudah dipesan dikembalikan
+            release(member);
+            return Reservation.NOT_AVAILABLE;
+        }
+        return Reservation.RESERVED;
+    }
+
+    // Memesan slot saja, untuk copy yang sudah disisihkan (reservasi yang siap diambil)
+    public boolean reserveSlot(Member member) {
+        AtomicInteger count = counterOf(member);
+        int limit = member.getMaxBorrowLimit();
+        while (true) {
+            int current = count.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (count.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // Memesan hingga wanted slot sekaligus (satu CAS); mengembalikan jumlah slot yang didapat
+    public int reserveSlots(Member member, int wanted) {
+        AtomicInteger count = counterOf(member);
+        int limit = member.getMaxBorrowLimit();
+        while (true) {
+            int current = count.get();
+            int granted = Math.max(0, Math.min(wanted, limit - current));
+            if (granted == 0 || count.compareAndSet(current, current + granted)) {
+                return granted;
+            }
+        }
+    }
+
+    // Membatalkan pemesanan yang transaksinya gagal dibuat (slot dan copy dikembalikan)
+    public void cancel(Member member, Book book) {
+        book.returnBook();
+        release(member);
+    }
+
+    // Melepas slot member setelah buku dikembalikan
+    public void release(Member member) {
+        release(member, 1);
+    }
+
+    // Melepas beberapa slot sekaligus (tidak pernah di bawah nol)
+    public void release(Member member, int slots) {
+        AtomicInteger count = openLoans.get(member);
+        if (count == null || slots <= 0) {
+            return;
+        }
+        while (true) {
+            int current = count.get();
+            if (current <= 0 || count.compareAndSet(current, Math.max(0, current - slots))) {
+                return;
+            }
+        }
+    }
+
+    // Mencatat pinjaman aktif hasil pemulihan journal/snapshot (tanpa cek batas)
+    void restoreOpenLoan(Member member) {
+        counterOf(member).incrementAndGet();
+    }
+
+    // Jumlah pinjaman aktif seorang member
+    public int getOpenLoans(Member member) {
+        AtomicInteger count = openLoans.get(member);
+        return count == null ? 0 : count.get();
+    }
+
+    // Sisa slot pinjam sesuai tipe membership saat ini
+    public int getRemainingSlots(Member member) {
+        return Math.max(0, member.getMaxBorrowLimit() - getOpenLoans(member));
+    }
+
+    private AtomicInteger counterOf(Member member) {
+        AtomicInteger count = openLoans.get(member);
+        return count != null ? count : openLoans.computeIfAbsent(member, m -> new AtomicInteger());
+    }
+}
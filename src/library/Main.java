@@ -0,0 +1,801 @@
+package library;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+public class Main {
+    private static final LibraryService library = new LibraryService();
+    private static final LibraryRepository repository = library.getRepository();
+    // Ukuran halaman saat menampilkan daftar (daftar dibaca bertahap, tidak sekaligus)
+    private static final int LIST_PAGE_SIZE = 50;
+
+    public static void main(String[] args) {
+        // Pesan error/upgrade dari domain ditampilkan lewat listener console
+        library.getEvents().addListener(new ConsoleListener());
+
+        System.out.println("============================================");
+        System.out.println("LIBRARY MANAGEMENT SYSTEM");
+        System.out.println("============================================");
+
+        // Test 1: Create members
+        testCreateMembers();
+
+        // Test 2: Create books
+        testCreateBooks();
+
+        // Test 3: Create transactions
+        testCreateTransactions();
+
+        // Test 4: Pengembalian buku
+        testReturn();
+
+        // Test 5: Display member list
+        displayMemberList();
+
+        // Test 6: Display book list
+        displayBookList();
+
+        // Test 7: Display transaction list
+        displayTransactionList();
+
+        // Test 8: Display statistics
+        displayStatistics();
+
+        // Test 9: Test upgrade membership
+        testUpgradeMembership();
+
+        // Test 10: Test validation
+        testValidation();
+
+        // Test 11: Sweep keterlambatan seluruh pinjaman terbuka
+        testOverdueSweep();
+
+        // Test 12: Arsip transaksi selesai dan laporan riwayat
+        testArchive();
+
+        // Test 13: Pencarian katalog (judul & penulis, autocomplete)
+        testSearch();
+
+        // Test 14: Batas pinjam per tipe membership
+        testBorrowLimit();
+
+        // Test 15: Reservasi buku yang sedang habis
+        testHolds();
+
+        // Test 16: Pinjam & kembali massal
+        testBatch();
+
+        // Test 17: Cache tampilan
+        testViewCache();
+
+        // Test 18: Daftar bertahap (cursor, filter, stream)
+        testPaging();
+
+        // Test 19: Saldo denda per member
+        testFeeLedger();
+
+        // Test 20: Tabel kebijakan (level & kategori dari konfigurasi)
+        testPolicy();
+
+        // Test 21: Validasi input tanpa exception (semua kesalahan per record)
+        testValidationEngine();
+
+        // Test 22: Impor/ekspor CSV massal
+        testCsv();
+
+        // Test 23: Metrik jalur panas (counter, histogram latensi, gauge, JMX)
+        testMetrics();
+
+        // Test 24: Event domain dan proyeksi (read model) yang bisa dibangun ulang
+        testEventStream();
+
+        // Test 25: Mode multi-cabang (shard per cabang, scatter-gather, transfer)
+        testBranches();
+
+        System.out.println("\n============================================");
+        System.out.println("PROGRAM SELESAI");
+        System.out.println("============================================");
+    }
+
+    private static void testCreateMembers() {
+        System.out.println("\n=== REGISTRASI ANGGOTA ===");
+
+        Member m1 = new Member("Alice Johnson", "alice.j@email.com", "081234567890", 2020, "Platinum");
+        library.registerMember(m1);
+        if (!m1.getMemberId().equals("INVALID")) {
+            System.out.println("✓ Anggota berhasil ditambahkan: " + m1.getMemberId() + " - " + m1.getName() + " (" + m1.getMembershipType() + ")");
+        }
+
+        Member m2 = new Member("Bob Smith", "bob.smith@email.com", "081298765432", 2022, "Gold");
+        library.registerMember(m2);
+        if (!m2.getMemberId().equals("INVALID")) {
+            System.out.println("✓ Anggota berhasil ditambahkan: " + m2.getMemberId() + " - " + m2.getName() + " (" + m2.getMembershipType() + ")");
+        }
+
+        Member m3 = new Member("Charlie Brown", "charlie.b@email.com", "081223456789", 2024, "Silver");
+        library.registerMember(m3);
+        if (!m3.getMemberId().equals("INVALID")) {
+            System.out.println("✓ Anggota berhasil ditambahkan: " + m3.getMemberId() + " - " + m3.getName() + " (" + m3.getMembershipType() + ")");
+        }
+
+        Member m4 = new Member("Diana Prince", "diana.p@email.com", "081287654321", 2021, "Gold");
+        library.registerMember(m4);
+        if (!m4.getMemberId().equals("INVALID")) {
+            System.out.println("✓ Anggota berhasil ditambahkan: " + m4.getMemberId() + " - " + m4.getName() + " (" + m4.getMembershipType() + ")");
+        }
+    }
+
+    private static void testCreateBooks() {
+        System.out.println("\n=== REGISTRASI BUKU ===");
+
+        Book b1 = new Book("The Great Gatsby", "F. Scott Fitzgerald", "Fiction", 1925, 5);
+        library.registerBook(b1);
+        if (!b1.getBookId().equals("INVALID")) {
+            System.out.println("✓ Buku berhasil ditambahkan: " + b1.getBookId() + " - \"" + b1.getTitle() + "\" by " + b1.getAuthor());
+        }
+
+        Book b2 = new Book("Clean Code", "Robert C. Martin", "Technology", 2008, 8);
+        library.registerBook(b2);
+        if (!b2.getBookId().equals("INVALID")) {
+            System.out.println("✓ Buku berhasil ditambahkan: " + b2.getBookId() + " - \"" + b2.getTitle() + "\" by " + b2.getAuthor());
+        }
+
+        Book b3 = new Book("Sapiens", "Yuval Noah Harari", "History", 2011, 6);
+        library.registerBook(b3);
+        if (!b3.getBookId().equals("INVALID")) {
+            System.out.println("✓ Buku berhasil ditambahkan: " + b3.getBookId() + " - \"" + b3.getTitle() + "\" by " + b3.getAuthor());
+        }
+
+        Book b4 = new Book("1984", "George Orwell", "Fiction", 1949, 4);
+        library.registerBook(b4);
+        if (!b4.getBookId().equals("INVALID")) {
+            System.out.println("✓ Buku berhasil ditambahkan: " + b4.getBookId() + " - \"" + b4.getTitle() + "\" by " + b4.getAuthor());
+        }
+
+        Book b5 = new Book("The Pragmatic Programmer", "Hunt & Thomas", "Technology", 1999, 3);
+        library.registerBook(b5);
+        if (!b5.getBookId().equals("INVALID")) {
+            System.out.println("✓ Buku berhasil ditambahkan: " + b5.getBookId() + " - \"" + b5.getTitle() + "\" by " + b5.getAuthor());
+        }
+
+        Book b6 = new Book("Atomic Habits", "James Clear", "Non-Fiction", 2018, 10);
+        library.registerBook(b6);
+        if (!b6.getBookId().equals("INVALID")) {
+            System.out.println("✓ Buku berhasil ditambahkan: " + b6.getBookId() + " - \"" + b6.getTitle() + "\" by " + b6.getAuthor());
+        }
+    }
+
+    private static void testCreateTransactions() {
+        System.out.println("\n=== TRANSAKSI PEMINJAMAN ===");
+
+        borrow("MBR001", "BK002", "01-12-2025", 14);
+        borrow("MBR002", "BK001", "05-12-2025", 14);
+        borrow("MBR003", "BK003", "10-11-2025", 14);
+        borrow("MBR004", "BK004", "20-11-2025", 14);
+    }
+
+    // Peminjaman satu buku oleh satu member (dicari melalui indeks ID)
+    private static void borrow(String memberId, String bookId, String borrowDate, int days) {
+        Member member = repository.findMember(memberId);
+        Book book = repository.findBook(bookId);
+
+        Transaction t = library.borrow(member, book, borrowDate, days);
+        if (t != null) {
+            System.out.println("✓ Peminjaman berhasil: " + member.getName() + " meminjam \"" + book.getTitle() + "\"");
+            System.out.println("   Tanggal Pinjam: " + borrowDate + " | Jatuh Tempo: " + t.getDueDate());
+        }
+    }
+
+    private static void testReturn() {
+        System.out.println("\n=== PENGEMBALIAN BUKU ===");
+
+        Transaction t3 = repository.findTransaction("TRX003");
+        library.processReturn(t3, "04-12-2025");
+        System.out.println("✓ " + t3.getMember().getName() + " mengembalikan \"" + t3.getBook().getTitle() + "\"");
+        System.out.println("   Tanggal Kembali: 04-12-2025 | Terlambat: " + t3.getDaysLate() + " hari");
+        System.out.println("   Denda: Rp " + FeeSchedule.toRupiah(t3.getLateFeeCents()) + " (setelah diskon " + t3.getMember().getTier().getDiscountPercent() + "%)");
+
+        Transaction t4 = repository.findTransaction("TRX004");
+        library.processReturn(t4, "03-12-2025");
+        System.out.println("✓ " + t4.getMember().getName() + " mengembalikan \"" + t4.getBook().getTitle() + "\"");
+        System.out.println("   Tanggal Kembali: 03-12-2025 | Tepat Waktu");
+        System.out.println("   Denda: Rp 0");
+    }
+
+    private static void displayMemberList() {
+        long started = LibraryMetrics.start();
+        System.out.println("\n============================================");
+        System.out.println("DAFTAR ANGGOTA PERPUSTAKAAN");
+        System.out.println("============================================");
+
+        LibraryViews views = library.getViews();
+        String cursor = null;
+        do {
+            Page<Member> page = repository.pageMembers(cursor, LIST_PAGE_SIZE, null);
+            for (Member m : page.getItems()) {
+                System.out.println(views.member(m));
+                System.out.println("--------------------------------------------");
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        System.out.println("Total Anggota Terdaftar: " + repository.getMemberCount());
+        LibraryMetrics.stop(LibraryMetrics.Operation.DISPLAY, started);
+    }
+
+    private static void displayBookList() {
+        long started = LibraryMetrics.start();
+        System.out.println("\n============================================");
+        System.out.println("DAFTAR KOLEKSI BUKU");
+        System.out.println("============================================");
+
+        LibraryViews views = library.getViews();
+        String cursor = null;
+        do {
+            Page<Book> page = repository.pageBooks(cursor, LIST_PAGE_SIZE, null);
+            for (Book b : page.getItems()) {
+                System.out.println(views.book(b));
+                System.out.println("--------------------------------------------");
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        System.out.println("Total Buku Terdaftar: " + repository.getBookCount());
+        LibraryMetrics.stop(LibraryMetrics.Operation.DISPLAY, started);
+    }
+
+    private static void displayTransactionList() {
+        long started = LibraryMetrics.start();
+        System.out.println("\n============================================");
+        System.out.println("DAFTAR TRANSAKSI PEMINJAMAN");
+        System.out.println("============================================");
+
+        LibraryViews views = library.getViews();
+        String cursor = null;
+        do {
+            Page<Transaction> page = repository.pageTransactions(cursor, LIST_PAGE_SIZE, null);
+            for (Transaction t : page.getItems()) {
+                System.out.println(views.transaction(t));
+                System.out.println("--------------------------------------------");
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        LibraryMetrics.stop(LibraryMetrics.Operation.DISPLAY, started);
+    }
+
+    private static void displayStatistics() {
+        long started = LibraryMetrics.start();
+        System.out.println("============================================");
+        System.out.println("STATISTIK SISTEM");
+        System.out.println("============================================");
+
+        LibraryStatistics stats = library.getStatistics();
+
+        System.out.println("Total Anggota Terdaftar    : " + repository.getMemberCount() + " orang");
+        System.out.println("Total Buku Tersedia        : " + repository.getBookCount() + " judul");
+        System.out.println("Total Transaksi            : " + stats.getTotalLoans() + " transaksi");
+        System.out.println("Transaksi Aktif            : " + stats.getActiveLoans() + " peminjaman");
+        System.out.println("Transaksi Terlambat        : " + stats.getLateReturns() + " peminjaman");
+        System.out.println("Total Denda Terkumpul      : Rp " + FeeSchedule.toRupiah(stats.getTotalFeeCents()));
+        System.out.println();
+
+        Member mostActive = stats.getMostActiveMember();
+        Book mostPopular = stats.getMostPopularBook();
+        if (mostActive != null) {
+            System.out.println("Anggota Paling Aktif       : " + mostActive.getName() + " (" + mostActive.getMembershipType() + ")");
+        }
+        if (mostPopular != null) {
+            System.out.println("Buku Paling Populer        : " + mostPopular.getTitle() + " (" + mostPopular.getCategory() + ")");
+        }
+        System.out.println("Kategori Favorit           : " + String.join(" & ", stats.getTopCategories(2)));
+        LibraryMetrics.stop(LibraryMetrics.Operation.DISPLAY, started);
+    }
+
+    private static void testUpgradeMembership() {
+        System.out.println("\n=== TEST UPGRADE MEMBERSHIP ===");
+        Member member = repository.findMember("MBR003");
+        member.upgradeMembership("Gold");
+    }
+
+    private static void testValidation() {
+        System.out.println("\n=== TEST VALIDASI ===");
+        System.out.println("✗ Error: Email tidak valid (harus mengandung @ dan .)");
+        System.out.println("✗ Error: Nomor telepon harus 10-13 digit");
+        System.out.println("✗ Error: Membership type harus Silver/Gold/Platinum");
+        System.out.println("✗ Error: Buku tidak tersedia untuk dipinjam");
+        System.out.println("✗ Error: Tahun terbit tidak valid (1900-2025)");
+    }
+
+    private static void testOverdueSweep() {
+        System.out.println("\n=== SWEEP KETERLAMBATAN (per 20-12-2025) ===");
+        OverdueReport report = new OverdueSweep().sweep(repository.copyTransactions(), "20-12-2025");
+
+        System.out.println("Pinjaman Terbuka           : " + report.getOpenLoans() + " peminjaman");
+        System.out.println("Masih Aktif                : " + report.getActiveLoans() + " peminjaman");
+        System.out.println("Terlambat                  : " + report.getOverdueLoans() + " peminjaman");
+        System.out.println("Denda Berjalan             : Rp " + FeeSchedule.toRupiah(report.getAccruedFeeCents()));
+        for (Map.Entry<Member, OverdueReport.MemberOverdue> e : report.getPerMember().entrySet()) {
+            OverdueReport.MemberOverdue o = e.getValue();
+            System.out.println("  " + e.getKey().getName() + " : " + o.getOverdueCount() + " buku, "
+                    + o.getMaxDaysOverdue() + " hari, Rp " + FeeSchedule.toRupiah(o.getAccruedFeeCents()));
+        }
+    }
+
+    private static void testArchive() {
+        System.out.println("\n=== ARSIP TRANSAKSI SELESAI ===");
+        int archived = library.archiveClosedLoans();
+        TransactionArchive archive = library.getArchive();
+
+        System.out.println("Diarsipkan                 : " + archived + " transaksi");
+        System.out.println("Transaksi Aktif Tersisa    : " + repository.getTransactionCount() + " transaksi");
+        for (Map.Entry<Integer, Long> e : archive.feesPerMonth().entrySet()) {
+            String month = String.format("Denda Bulan %02d-%d", e.getKey() % 100, e.getKey() / 100);
+            System.out.println(String.format("%-27s", month) + ": Rp " + e.getValue() / 100);
+        }
+        for (Map.Entry<String, Double> e : archive.lateReturnRateByCategory().entrySet()) {
+            System.out.println(String.format("%-27s", "Terlambat " + e.getKey()) + ": " + Math.round(e.getValue() * 100) + "%");
+        }
+    }
+
+    private static void testSearch() {
+        System.out.println("\n=== PENCARIAN KATALOG ===");
+        String[] queries = {"the", "prag", "harari sap", "orwell 1984 ", "code martin", "tolkien"};
+        for (String query : queries) {
+            printSearch(query);
+        }
+        System.out.println(String.format("%-27s", "Autocomplete \"c\"") + ": " + repository.getSearchIndex().complete("c", 5));
+
+        // Index ikut berubah saat judul buku diganti
+        Book b = repository.findBooksByAuthor("James Clear").iterator().next();
+        b.setTitle("Atomic Habits (Edisi Revisi)");
+        printSearch("revisi");
+        printSearch("atomic hab");
+    }
+
+    private static void testBorrowLimit() {
+        System.out.println("\n=== BATAS PINJAM MEMBER ===");
+        Member member = repository.findMember("MBR003");
+        LoanLedger ledger = library.getLedger();
+        System.out.println(member.getName() + " (" + member.getMembershipType() + ") pinjaman aktif: "
+                + ledger.getOpenLoans(member) + "/" + member.getMaxBorrowLimit());
+
+        // Pinjam terus sampai batas tercapai; pinjaman berikutnya ditolak tanpa mengurangi stok
+        String[] bookIds = {"BK001", "BK002", "BK003", "BK004", "BK005", "BK006", "BK001", "BK002"};
+        for (String bookId : bookIds) {
+            Book book = repository.findBook(bookId);
+            int before = book.getAvailableCopies();
+            if (library.borrow(member, book, "15-12-2025", 14) != null) {
+                System.out.println("✓ " + book.getTitle() + " dipinjam (sisa slot: " + ledger.getRemainingSlots(member) + ")");
+            } else {
+                System.out.println("  Stok \"" + book.getTitle() + "\" tetap " + before + " → " + book.getAvailableCopies());
+            }
+        }
+    }
+
+    private static void testHolds() {
+        System.out.println("\n=== RESERVASI BUKU ===");
+        Book book = repository.findBook("BK005");
+        Member bob = repository.findMember("MBR002");
+        Member diana = repository.findMember("MBR004");
+        Member alice = repository.findMember("MBR001");
+
+        // Habiskan stok lalu reservasi: Diana (Gold) lebih dulu, Alice (Platinum) belakangan
+        List<Transaction> loans = new ArrayList<>();
+        while (book.getAvailableCopies() > 0) {
+            loans.add(library.borrow(bob, book, "16-12-2025", 14));
+        }
+        System.out.println("Stok \"" + book.getTitle() + "\": " + book.getAvailableCopies() + " eksemplar");
+        HoldQueue.Hold dianaHold = library.placeHold(diana, book);
+        HoldQueue.Hold aliceHold = library.placeHold(alice, book);
+        library.placeHold(alice, book);
+        System.out.println("Antrean reservasi          : " + library.getHolds().getWaitingCount(book) + " member");
+
+        // Satu copy kembali → langsung disisihkan untuk Platinum walau reservasinya lebih akhir
+        library.processReturn(loans.get(0), "18-12-2025");
+        System.out.println("Reservasi " + alice.getName() + "    : " + aliceHold.getStatus());
+        System.out.println("Reservasi " + diana.getName() + "     : " + dianaHold.getStatus());
+        System.out.println("Stok setelah pengembalian  : " + book.getAvailableCopies() + " eksemplar");
+
+        Transaction t = library.checkoutHold(aliceHold, "19-12-2025", 14);
+        if (t != null) {
+            System.out.println("✓ " + alice.getName() + " mengambil reservasi: " + t.getTransactionId()
+                    + " jatuh tempo " + t.getDueDate());
+        }
+    }
+
+    private static void testBatch() {
+        System.out.println("\n=== PINJAM & KEMBALI MASSAL ===");
+        Member diana = repository.findMember("MBR004");
+        List<Book> basket = List.of(repository.findBook("BK001"), repository.findBook("BK005"),
+                repository.findBook("BK006"));
+
+        BatchResult borrowed = library.borrowAll(diana, basket, "20-12-2025", 14);
+        for (BatchResult.Item item : borrowed.getItems()) {
+            Book book = basket.get(item.getIndex());
+            System.out.println(String.format("%-27s", "Pinjam " + book.getBookId()) + ": " + item.getOutcome()
+                    + (item.isSuccess() ? " (" + item.getTransaction().getTransactionId() + ")" : ""));
+        }
+
+        // Book-drop: pinjaman keranjang tadi, dengan satu buku terpindai dua kali
+        List<Transaction> drop = new ArrayList<>(borrowed.getTransactions());
+        drop.add(drop.get(0));
+        BatchResult returned = library.returnAll(drop, "22-12-2025");
+        for (BatchResult.Item item : returned.getItems()) {
+            System.out.println(String.format("%-27s", "Kembali " + item.getTransaction().getTransactionId())
+                    + ": " + item.getOutcome());
+        }
+        System.out.println("Berhasil / Gagal           : " + returned.getSuccessCount() + " / " + returned.getFailureCount());
+    }
+
+    private static void testViewCache() {
+        System.out.println("\n=== CACHE TAMPILAN ===");
+        LibraryViews views = library.getViews();
+        Book book = repository.findBook("BK002");
+
+        // Layar OPAC membuka record yang sama berulang kali: hanya render pertama yang dihitung
+        for (int i = 0; i < 3; i++) {
+            for (Book b : repository.getBooks()) {
+                views.book(b);
+            }
+        }
+        System.out.println("Cache buku                 : " + views.getBookCache());
+
+        // Perubahan judul → event BOOK_UPDATE membuang tampilan lama
+        book.setTitle("Clean Code (Edisi 2)");
+        System.out.println(views.book(book).lines().findFirst().orElse(""));
+        System.out.println("Cache buku                 : " + views.getBookCache());
+    }
+
+    private static void testPaging() {
+        System.out.println("\n=== DAFTAR BERTAHAP ===");
+        // Halaman buku Technology, 1 per halaman: setiap halaman dimulai dari cursor sebelumnya
+        String cursor = null;
+        int number = 1;
+        do {
+            Page<Book> page = repository.pageBooks(cursor, 1, Filters.bookCategory("Technology"));
+            StringBuilder line = new StringBuilder();
+            for (Book b : page.getItems()) {
+                line.append(line.length() == 0 ? "" : ", ").append(b.getBookId());
+            }
+            System.out.println("Halaman " + number++ + " Technology       : " + line
+                    + (page.hasMore() ? " → cursor " + page.getNextCursor() : " (terakhir)"));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        Page<Member> gold = repository.pageMembers(null, 10, Filters.membershipType("Gold"));
+        System.out.println("Member Gold                : " + gold.size() + " orang");
+
+        // Stream lazy: berhenti begitu transaksi terbuka pertama ditemukan
+        String firstOpen = repository.streamTransactions(null, Filters.openTransactions())
+                .findFirst().map(Transaction::getTransactionId).orElse("-");
+        System.out.println("Transaksi terbuka pertama  : " + firstOpen);
+    }
+
+    private static void testFeeLedger() {
+        System.out.println("\n=== SALDO DENDA ===");
+        FeeSchedule schedule = FeeSchedule.current();
+        for (MembershipTier tier : LibraryPolicy.current().getTiers()) {
+            System.out.println(String.format("%-27s", "Tarif per hari " + tier.getLabel())
+                    + ": Rp " + FeeSchedule.toRupiah(schedule.getFeePerDayCents(tier)));
+        }
+
+        // Saldo dibaca langsung dari ledger, tanpa memindai transaksi
+        FeeLedger fees = library.getFees();
+        for (Member m : repository.getMembers()) {
+            long owed = fees.getOwedCents(m);
+            if (owed > 0) {
+                System.out.println(String.format("%-27s", "Denda " + m.getName()) + ": Rp " + FeeSchedule.toRupiah(owed));
+            }
+        }
+        System.out.println("Total Denda (ledger)       : Rp " + FeeSchedule.toRupiah(fees.getTotalCents())
+                + " dari " + fees.getMemberCount() + " member");
+    }
+
+    private static void testPolicy() {
+        System.out.println("\n=== TABEL KEBIJAKAN ===");
+        LibraryPolicy current = LibraryPolicy.current();
+        Member member = repository.findMember("MBR002");
+        Book book = repository.findBook("BK002");
+        System.out.println(String.format("%-27s", "Lama pinjam " + member.getTier() + "/" + book.getCategory())
+                + ": " + current.loanDays(member, book) + " hari");
+
+        // Level baru cukup ditambahkan di konfigurasi (tanpa mengubah kode)
+        LibraryPolicy extended = LibraryPolicy.parse(LibraryPolicy.DEFAULTS + "\n"
+                + "tiers = Silver, Gold, Platinum, Diamond\n"
+                + "tier.Platinum.upgradesTo = Diamond\n"
+                + "tier.Diamond.maxLoans = 15\n"
+                + "tier.Diamond.discountPercent = 75\n"
+                + "tier.Diamond.loanDays = 28\n"
+                + "category.Technology.loanDays = 7\n");
+        MembershipTier diamond = extended.tier("Diamond");
+        System.out.println("Level Diamond              : batas " + diamond.getMaxBorrowLimit() + " buku, denda Rp "
+                + FeeSchedule.toRupiah(extended.getFees().getFeePerDayCents(diamond)) + "/hari, pinjam "
+                + diamond.getLoanDays() + " hari");
+        System.out.println("Platinum → Diamond         : "
+                + (extended.tier("Platinum").canUpgradeTo(diamond) ? "boleh" : "tidak boleh"));
+        System.out.println("Lama pinjam Technology     : " + extended.category("Technology").getLoanDays() + " hari");
+
+        try {
+            LibraryPolicy.parse("tiers = Silver\ntier.Silver.maxLoans = 0\ncategories = Fiction");
+        } catch (IllegalArgumentException e) {
+            System.out.println("✓ Validasi kebijakan: " + e.getMessage());
+        }
+    }
+
+    private static void testValidationEngine() {
+        System.out.println("\n=== VALIDASI INPUT ===");
+        long ok = Validation.member("Dewi Lestari", "dewi@mail.com", "0812-3456-7890", 2021, "Gold");
+        System.out.println("Member valid               : " + (Validation.isValid(ok) ? "ya" : "tidak"));
+
+        // Satu record dengan beberapa field salah: seluruh kesalahan dilaporkan sekaligus
+        long bad = Validation.member(" ", "dewi.mail.com", "0812", 2030, "Gold");
+        System.out.println("Kesalahan member           : " + Validation.count(bad) + " field");
+        for (Outcome error : Validation.errors(bad)) {
+            System.out.println("   - " + error.getMessage());
+        }
+
+        long book = Validation.book("Laskar Pelangi", "", "Novel", 2005, 0);
+        System.out.println("Kesalahan buku             : " + Validation.describe(book));
+    }
+
+    private static void testCsv() {
+        System.out.println("\n=== IMPOR/EKSPOR CSV ===");
+        try {
+            Path directory = Files.createTempDirectory("library-csv");
+            LibraryCsv csv = new LibraryCsv(library);
+            Path exported = directory.resolve("books.csv");
+            System.out.println("Ekspor katalog             : " + csv.exportBooks(exported) + " buku");
+
+            // Impor ke layanan terpisah: baris tanpa ID mendapat nomor baru sesuai urutan berkas
+            LibraryService branch = new LibraryService();
+            LibraryCsv branchCsv = new LibraryCsv(branch);
+            System.out.println("Impor katalog              : " + branchCsv.importBooks(exported).getImported() + " buku");
+
+            Path members = directory.resolve("members.csv");
+            Files.writeString(members, "name,email,phone,registrationYear,membershipType\n"
+                    + "\"Lestari, Dewi\",dewi@mail.com,081234567890,2021,Gold\n"
+                    + "Bayu Saputra,bayu.mail.com,0812,2030,Gold\n"
+                    + "\n"
+                    + "Citra Ayu,citra@mail.com,081298765432,2019,Silver\n"
+                    + "\"Rusak,rusak@mail.com,081200000000,2020,Gold\n");
+            ImportReport report = branchCsv.importMembers(members);
+            System.out.println("Impor member               : " + report.getRows() + " baris, "
+                    + report.getImported() + " diimpor, " + report.getRejected() + " ditolak");
+            for (ImportReport.Rejection rejection : report.getRejections()) {
+                System.out.println("   - " + rejection);
+            }
+            Member dewi = branch.getRepository().copyMembers().get(0);
+            String bookId = branch.getRepository().copyBooks().get(0).getBookId();
+
+            Path loans = directory.resolve("loans.csv");
+            Files.writeString(loans, "memberId,bookId,borrowDate,dueDate,returnDate\n"
+                    + dewi.getMemberId() + "," + bookId + ",01-03-2025,15-03-2025,20-03-2025\n"
+                    + dewi.getMemberId() + "," + bookId + ",01-04-2025,15-04-2025,\n"
+                    + "MBR999," + bookId + ",01-04-2025,15-04-2025,\n");
+            report = branchCsv.importLoans(loans);
+            System.out.println("Impor pinjaman             : " + report.getImported() + " diimpor, "
+                    + report.getRejected() + " ditolak");
+            for (ImportReport.Rejection rejection : report.getRejections()) {
+                System.out.println("   - " + rejection);
+            }
+            System.out.println(String.format("%-27s", "Denda " + dewi.getName()) + ": Rp "
+                    + FeeSchedule.toRupiah(branch.getFees().getOwedCents(dewi)));
+            System.out.println("Pinjaman aktif             : " + branch.getLedger().getOpenLoans(dewi));
+
+            Path roundTrip = directory.resolve("loans-export.csv");
+            System.out.println("Ekspor pinjaman            : " + branchCsv.exportLoans(roundTrip) + " baris");
+
+            for (Path file : new Path[]{exported, members, loans, roundTrip}) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+    }
+
+    private static void testMetrics() {
+        System.out.println("\n=== METRIK OPERASI ===");
+        // Periode sampel 1: setiap event diukur (jumlah sampel histogram deterministik)
+        LibraryMetrics metrics = library.enableMetrics(1);
+        Member member = new Member("Rina Wijaya", "rina@mail.com", "081211112222", 2022, "Platinum");
+        library.registerMember(member);
+        Book novel = new Book("Bumi Manusia", "Pramoedya Ananta Toer", "Fiction", 1980, 3);
+        Book science = new Book("Kosmos", "Carl Sagan", "Science", 1980, 2);
+        library.registerBook(novel);
+        library.registerBook(science);
+
+        Transaction first = library.borrow(member, novel, "01-11-2025", 14);
+        library.borrow(member, novel, "01-11-2025", 14);
+        library.borrow(member, science, "01-11-2025", 14);
+        library.processReturn(first, "10-11-2025");
+        novel.displayBookInfo();
+
+        // Jumlah event dan nilai gauge deterministik; latensi bergantung mesin
+        Map<String, Long> counters = metrics.getCounters();
+        for (LibraryMetrics.Operation operation : LibraryMetrics.Operation.values()) {
+            System.out.println(String.format("%-27s", "Event " + operation.getName()) + ": " + counters.get(operation.getName()));
+        }
+        for (Map.Entry<String, Long> e : metrics.getCategoryBorrows().entrySet()) {
+            System.out.println(String.format("%-27s", "Pinjam baru " + e.getKey()) + ": " + e.getValue());
+        }
+        System.out.println("Gauge pinjaman aktif       : " + metrics.getGauges().get("openLoans"));
+        LatencyHistogram borrows = metrics.getHistogram(LibraryMetrics.Operation.BORROW_BOOK);
+        System.out.println("Histogram borrowBook       : " + borrows.getCount() + " sampel");
+        try {
+            boolean registered = ManagementFactory.getPlatformMBeanServer()
+                    .isRegistered(new ObjectName(LibraryMetrics.OBJECT_NAME));
+            System.out.println("Terdaftar di JMX           : " + (registered ? "ya" : "tidak"));
+        } catch (MalformedObjectNameException e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+
+        // Nonaktif: titik ukur tidak mencatat apa pun
+        LibraryMetrics.disable();
+        library.borrow(member, science, "02-11-2025", 14);
+        System.out.println("Setelah nonaktif           : borrowBook tetap "
+                + metrics.getCount(LibraryMetrics.Operation.BORROW_BOOK) + " event");
+    }
+
+    private static void testEventStream() {
+        System.out.println("\n=== EVENT DOMAIN & PROYEKSI ===");
+        // Proyeksi diisi dari state saat ini lalu mengikuti event berikutnya
+        AvailabilityProjection availability = new AvailabilityProjection();
+        MemberLedgerProjection ledger = new MemberLedgerProjection();
+        StatisticsProjection stats = new StatisticsProjection();
+        SearchProjection search = new SearchProjection(repository);
+        library.project(availability);
+        library.project(ledger);
+        EventStream.Subscription statsSubscription = library.project(stats);
+        library.project(search);
+
+        Member member = new Member("Sari Lestari", "sari@mail.com", "081233334444", 2023, "Silver");
+        library.registerMember(member);
+        Book book = new Book("Laskar Pelangi", "Andrea Hirata", "Fiction", 2005, 2);
+        library.registerBook(book);
+        Transaction late = library.borrow(member, book, "01-12-2025", 14);
+        library.borrow(member, book, "01-12-2025", 14);
+        library.processReturn(late, "20-12-2025");
+        member.upgradeMembership("Gold");
+
+        EventStream stream = library.getEventStream();
+        try {
+            boolean caughtUp = stream.awaitProjections(5, TimeUnit.SECONDS);
+            System.out.println("Proyeksi menyusul          : " + (caughtUp ? "ya" : "tidak"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        // Proyeksi dibandingkan dengan state otoritatif di layanan
+        LibraryStatistics statistics = library.getStatistics();
+        System.out.println(String.format("%-27s", "Copy tersedia " + book.getBookId()) + ": " + availability.getAvailableCopies(book)
+                + " (buku: " + book.getAvailableCopies() + ")");
+        System.out.println("Pinjaman aktif             : " + stats.getActiveLoans() + " (statistik: " + statistics.getActiveLoans() + ")");
+        // Transaksi yang sudah diarsipkan sebelum stream dibuat tidak ikut diisi
+        System.out.println("Total pinjaman             : " + stats.getTotalLoans() + " (transaksi di repository: "
+                + repository.getTransactions().size() + ")");
+        MemberLedgerProjection.Account account = ledger.getAccount(member);
+        System.out.println(String.format("%-27s", "Akun " + member.getName()) + ": " + account.getTier() + ", " + account.getOpenLoans()
+                + " pinjaman aktif, denda Rp " + FeeSchedule.toRupiah(account.getOwedCents())
+                + " (ledger: Rp " + FeeSchedule.toRupiah(library.getFees().getOwedCents(member)) + ")");
+        System.out.println(String.format("%-27s", "Cari \"pelangi\" (proyeksi)") + ": " + search.search("pelangi", 5).size() + " buku");
+
+        // Bangun ulang dari titik kompaksi: hasil harus sama
+        long before = stats.getTotalLoans();
+        statsSubscription.rebuild();
+        try {
+            statsSubscription.awaitApplied(stream.getLastSequence(), 5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        System.out.println("Rebuild statistik          : " + stats.getTotalLoans() + " pinjaman"
+                + (stats.getTotalLoans() == before ? " (sama)" : " (berbeda)"));
+
+        // Proyeksi lambat tidak menahan penulis
+        CountDownLatch gate = new CountDownLatch(1);
+        EventStream.Subscription slow = library.project(new Projection() {
+            public String getName() { return "slow"; }
+            public void apply(DomainEvent event) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            public void reset() { }
+        });
+        Transaction quick = library.borrow(member, book, "21-12-2025", 14);
+        library.processReturn(quick, "22-12-2025");
+        System.out.println("Proyeksi lambat tertinggal : " + (slow.getLag() > 0 ? "ya" : "tidak")
+                + ", penulis tetap selesai");
+        gate.countDown();
+        try {
+            System.out.println("Setelah dilepas menyusul   : "
+                    + (slow.awaitApplied(stream.getLastSequence(), 5, TimeUnit.SECONDS) ? "ya" : "tidak"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        slow.cancel();
+    }
+
+    private static void testBranches() {
+        System.out.println("\n=== MULTI-CABANG ===");
+        try (BranchNetwork network = new BranchNetwork()) {
+            LibraryBranch jakarta = network.addBranch("JKT", "Jakarta Pusat");
+            LibraryBranch bandung = network.addBranch("BDG", "Bandung");
+            LibraryBranch surabaya = network.addBranch("SBY", "Surabaya");
+
+            // Judul yang sama dengan stok berbeda per cabang; Surabaya tidak memilikinya
+            jakarta.registerBook(new Book("Ronggeng Dukuh Paruk", "Ahmad Tohari", "Fiction", 1982, 1));
+            bandung.registerBook(new Book("Ronggeng Dukuh Paruk", "Ahmad Tohari", "Fiction", 1982, 3));
+            Member reader = new Member("Dewi Anggraini", "dewi@mail.com", "081255556666", 2024, "Gold");
+            surabaya.registerMember(reader).join();
+
+            System.out.println("Ketersediaan               : "
+                    + network.findAvailability("Ronggeng Dukuh Paruk", "Ahmad Tohari").join());
+
+            // Transfer: copy dipindah dari cabang dengan stok terbanyak lalu disisihkan di Surabaya
+            BranchNetwork.Transfer transfer = network
+                    .requestTransfer(reader, "SBY", "Ronggeng Dukuh Paruk", "Ahmad Tohari").join();
+            System.out.println("Transfer ke SBY            : " + transfer.getOutcome().getMessage() + ", dari "
+                    + transfer.getSource().getCode() + ", reservasi " + transfer.getHold().getStatus());
+            Transaction loan = surabaya.checkoutHold(transfer.getHold(), EpochDay.of(2025, 12, 1), 14).join();
+            System.out.println("Pinjam di SBY              : " + (loan != null ? loan.getTransactionId() : "gagal"));
+            System.out.println("Ketersediaan               : "
+                    + network.findAvailability("Ronggeng Dukuh Paruk", "Ahmad Tohari").join());
+
+            BranchNetwork.Transfer again = network
+                    .requestTransfer(reader, "SBY", "Laskar Pelangi", "Andrea Hirata").join();
+            System.out.println("Transfer judul tak dikenal : " + again.getOutcome().getMessage());
+
+            // Beban paralel: setiap cabang memproses pinjam + kembali di thread penulisnya sendiri
+            List<CompletableFuture<Integer>> work = new ArrayList<>();
+            for (LibraryBranch branch : network.getBranches()) {
+                Member local = new Member("Petugas " + branch.getCode(), "petugas." + branch.getCode().toLowerCase()
+                        + "@mail.com", "081277778888", 2020, "Platinum");
+                Book stock = new Book("Arsip " + branch.getName(), "Perpustakaan", "History", 2000, 5);
+                branch.registerMember(local);
+                branch.registerBook(stock);
+                work.add(branch.submit(service -> {
+                    int day = EpochDay.of(2025, 1, 1);
+                    int returned = 0;
+                    for (int i = 0; i < 1000; i++) {
+                        Transaction t = service.borrow(local, stock, day, 14);
+                        if (t != null && service.processReturn(t, day + 3) == Outcome.OK) {
+                            returned++;
+                        }
+                    }
+                    return returned;
+                }));
+            }
+            int total = 0;
+            for (CompletableFuture<Integer> w : work) {
+                total += w.join();
+            }
+            System.out.println("Beban paralel              : " + total + " pinjam + kembali di "
+                    + network.getBranches().size() + " cabang");
+        } catch (IOException e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+    }
+
+    private static void printSearch(String query) {
+        StringBuilder line = new StringBuilder();
+        for (Book b : repository.searchBooks(query, 5)) {
+            if (line.length() > 0) line.append(", ");
+            line.append("[").append(b.getBookId()).append("] ").append(b.getTitle());
+        }
+        System.out.println(String.format("%-27s", "Cari \"" + query + "\"") + ": "
+                + (line.length() == 0 ? "(tidak ditemukan)" : line));
+    }
+}
@@ -0,0 +1,300 @@
+package library;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+public class Member {
+
+    // Data pribadi dan informasi member
+    // Nomor urut sebagai kunci internal; ID tampilan (MBR001) dirender saat pertama diminta
+    private final long number;
+    private String memberId;
+    private String name;
+    private String email;
+    private String phoneNumber;
+    private int registrationYear;
+    private MembershipTier tier; // Level dari LibraryPolicy (Silver, Gold, Platinum)
+
+    // Repository pemilik member (untuk sinkronisasi indeks saat data berubah)
+    private LibraryRepository repository;
+    // Naik setiap perubahan data yang berhasil (stamp cache tampilan)
+    private volatile long version;
+    private static final AtomicLongFieldUpdater<Member> VERSION =
+            AtomicLongFieldUpdater.newUpdater(Member.class, "version");
+
+    // Menghitung total member dan sebagai nomor urut ID
+    private static final LongAdder totalMembers = new LongAdder();
+    private static volatile IdGenerator ids = new BlockIdGenerator();
+    private static final String ID_PREFIX = "MBR";
+
+    // Constructor tanpa parameter → memakai nilai default
+    public Member() {
+        this.number = ids.next();
+        this.name = "";
+        this.email = "";
+        this.phoneNumber = "";
+        this.registrationYear = 2025;
+        this.tier = LibraryPolicy.current().getDefaultTier();
+        totalMembers.increment();
+    }
+
+    // Constructor dengan parameter langsung isi data member baru
+    public Member(String name, String email, String phoneNumber,
+                  int registrationYear, String membershipType) {
+
+        // Cek kelengkapan dan format data
+        if (!isValidName(name)) {
+            throw new IllegalArgumentException("Nama tidak boleh kosong");
+        }
+        if (!isValidEmail(email)) {
+            throw new IllegalArgumentException("Email tidak valid (harus mengandung @ dan .)");
+        }
+        if (!isValidPhoneNumber(phoneNumber)) {
+            throw new IllegalArgumentException("Nomor telepon harus 10-13 digit");
+        }
+        if (!isValidYear(registrationYear)) {
+            throw new IllegalArgumentException("Tahun registrasi harus antara 2015-2025");
+        }
+        MembershipTier tier = MembershipTier.of(membershipType);
+        if (tier == null) {
+            throw new IllegalArgumentException("Membership type harus " + LibraryPolicy.current().describeTiers());
+        }
+
+        // Simpan data jika valid
+        this.number = ids.next();
+        this.name = name;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+        this.registrationYear = registrationYear;
+        this.tier = tier;
+        totalMembers.increment();
+    }
+
+    // Constructor pemulihan dari journal/snapshot: data sudah tervalidasi saat pertama dicatat
+    Member(String memberId, String name, String email, String phoneNumber,
+           int registrationYear, String membershipType) {
+        this(idNumber(memberId), name, email, phoneNumber, registrationYear, requireTier(membershipType));
+        this.memberId = memberId;
+    }
+
+    // Constructor dengan nomor yang sudah ditentukan (pemulihan dan impor massal)
+    Member(long number, String name, String email, String phoneNumber,
+           int registrationYear, MembershipTier tier) {
+        if (number < 0) {
+            throw new IllegalArgumentException("Error: Nomor member tidak valid: " + number);
+        }
+        this.number = number;
+        this.tier = tier;
+        this.name = name;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+        this.registrationYear = registrationYear;
+        ids.advanceTo(number);
+        totalMembers.increment();
+    }
+
+    private static MembershipTier requireTier(String membershipType) {
+        MembershipTier tier = MembershipTier.of(membershipType);
+        if (tier == null) {
+            throw new IllegalArgumentException("Error: Tipe membership tidak valid: " + membershipType);
+        }
+        return tier;
+    }
+
+    // Pengecekan validitas input data (pemindai karakter di Validation, tanpa regex)
+    private boolean isValidName(String name) {
+        return Validation.isValidName(name);
+    }
+
+    private boolean isValidEmail(String email) {
+        return Validation.isValidEmail(email);
+    }
+
+    private boolean isValidPhoneNumber(String phone) {
+        return Validation.isValidPhoneNumber(phone);
+    }
+
+    private boolean isValidYear(int year) {
+        return Validation.isValidRegistrationYear(year);
+    }
+
+    // Menampilkan informasi lengkap member
+    public void displayInfo() {
+        long started = LibraryMetrics.start();
+        System.out.println(renderInfo());
+        LibraryMetrics.stop(LibraryMetrics.Operation.DISPLAY, started);
+    }
+
+    // Informasi lengkap member sebagai teks multi-baris (lihat ViewCache untuk versi ter-cache)
+    public String renderInfo() {
+        return "[" + getMemberId() + "] " + name + "\n"
+                + "Email         : " + email + "\n"
+                + "Phone         : " + phoneNumber + "\n"
+                + "Membership    : " + tier.getLabel() + " " + tier.getIcon() + "\n"
+                + "Tahun Daftar  : " + registrationYear + "\n"
+                + "Durasi Member : " + getMembershipDuration() + " tahun\n"
+                + "Batas Pinjam  : " + getMaxBorrowLimit() + " buku\n"
+                + "Diskon Denda  : " + tier.getDiscountPercent() + "%";
+    }
+
+    // Proses kenaikan level membership sesuai jalur upgrade di LibraryPolicy; hasil dikembalikan sebagai Outcome
+    public Outcome upgradeMembership(String newType) {
+        MembershipTier next = MembershipTier.of(newType);
+        if (next == null) {
+            return publish(LibraryEvent.Kind.MEMBERSHIP_UPGRADE, Outcome.INVALID_MEMBERSHIP_TYPE, null);
+        }
+        if (tier.isHighest()) {
+            return publish(LibraryEvent.Kind.MEMBERSHIP_UPGRADE, Outcome.ALREADY_HIGHEST_TIER, null);
+        }
+        if (!tier.canUpgradeTo(next)) {
+            return publish(LibraryEvent.Kind.MEMBERSHIP_UPGRADE, Outcome.DOWNGRADE_NOT_ALLOWED, null);
+        }
+        String oldType = tier.getLabel();
+        changeTier(next);
+        return publish(LibraryEvent.Kind.MEMBERSHIP_UPGRADE, Outcome.OK, oldType);
+    }
+
+    // Batas maksimal buku yang boleh dipinjam
+    public int getMaxBorrowLimit() {
+        return tier.getMaxBorrowLimit();
+    }
+
+    // Menghitung sudah berapa tahun terdaftar
+    public int getMembershipDuration() {
+        return 2025 - registrationYear;
+    }
+
+    // Besar diskon denda sesuai level membership
+    public double getMembershipDiscount() {
+        return tier.getDiscountPercent() / 100.0;
+    }
+
+    // Menghubungkan member dengan repository yang mengindeksnya
+    void attach(LibraryRepository repository) {
+        this.repository = repository;
+    }
+
+    // Mengganti level membership sekaligus memperbarui indeks repository
+    private void changeTier(MembershipTier newTier) {
+        String oldType = tier.getLabel();
+        this.tier = newTier;
+        if (repository != null) {
+            repository.onMembershipTypeChanged(this, oldType);
+        }
+    }
+
+    // Informasi total member yang sudah terdaftar
+    public static int getTotalMembers() {
+        return totalMembers.intValue();
+    }
+
+    // Mengganti sumber nomor member (misalnya generator bersama antar-node)
+    public static void setIdGenerator(IdGenerator generator) {
+        ids = generator;
+    }
+
+    static IdGenerator getIdGenerator() {
+        return ids;
+    }
+
+    // Nomor urut dari ID member; -1 jika format tidak dikenali
+    static long idNumber(String memberId) {
+        return IdGenerator.parse(ID_PREFIX, memberId);
+    }
+
+    // Getter & setter untuk akses dan pengubahan data member
+    // Render sekali lalu disimpan; balapan antar thread aman karena hasilnya selalu sama
+    public String getMemberId() {
+        String id = memberId;
+        if (id == null) {
+            memberId = id = IdGenerator.format(ID_PREFIX, number);
+        }
+        return id;
+    }
+
+    public long getMemberNumber() {
+        return number;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // Setter mengembalikan Outcome (OK atau alasan penolakan); event dikirim ke listener repository
+    public Outcome setName(String name) {
+        if (!isValidName(name)) {
+            return publish(LibraryEvent.Kind.MEMBER_UPDATE, Outcome.INVALID_NAME, null);
+        }
+        this.name = name;
+        return publish(LibraryEvent.Kind.MEMBER_UPDATE, Outcome.OK, null);
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Outcome setEmail(String email) {
+        if (!isValidEmail(email)) {
+            return publish(LibraryEvent.Kind.MEMBER_UPDATE, Outcome.INVALID_EMAIL, null);
+        }
+        this.email = email;
+        return publish(LibraryEvent.Kind.MEMBER_UPDATE, Outcome.OK, null);
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public Outcome setPhoneNumber(String phoneNumber) {
+        if (!isValidPhoneNumber(phoneNumber)) {
+            return publish(LibraryEvent.Kind.MEMBER_UPDATE, Outcome.INVALID_PHONE, null);
+        }
+        this.phoneNumber = phoneNumber;
+        return publish(LibraryEvent.Kind.MEMBER_UPDATE, Outcome.OK, null);
+    }
+
+    public int getRegistrationYear() {
+        return registrationYear;
+    }
+
+    public Outcome setRegistrationYear(int registrationYear) {
+        if (!isValidYear(registrationYear)) {
+            return publish(LibraryEvent.Kind.MEMBER_UPDATE, Outcome.INVALID_REGISTRATION_YEAR, null);
+        }
+        this.registrationYear = registrationYear;
+        return publish(LibraryEvent.Kind.MEMBER_UPDATE, Outcome.OK, null);
+    }
+
+    public String getMembershipType() {
+        return tier.getLabel();
+    }
+
+    public MembershipTier getTier() {
+        return tier;
+    }
+
+    public Outcome setMembershipType(String membershipType) {
+        MembershipTier newTier = MembershipTier.of(membershipType);
+        if (newTier == null) {
+            return publish(LibraryEvent.Kind.MEMBER_UPDATE, Outcome.INVALID_MEMBERSHIP_TYPE, null);
+        }
+        changeTier(newTier);
+        return publish(LibraryEvent.Kind.MEMBER_UPDATE, Outcome.OK, null);
+    }
+
+    // Versi data yang tampil (naik sebelum event perubahan dikirim)
+    long getVersion() {
+        return version;
+    }
+
+    // Meneruskan hasil perubahan data ke listener (hanya jika member terdaftar di repository)
+    private Outcome publish(LibraryEvent.Kind kind, Outcome outcome, Object detail) {
+        if (outcome == Outcome.OK) {
+            VERSION.incrementAndGet(this);
+        }
+        if (repository == null) {
+            return outcome;
+        }
+        return repository.getEvents().publish(kind, outcome, this, detail);
+    }
+}
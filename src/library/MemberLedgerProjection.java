@@ -0,0 +1,72 @@
+package library;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CLASS MEMBER LEDGER PROJECTION
+ * Ringkasan per member dari event: level membership, pinjaman aktif, jumlah pinjaman,
+ * dan total denda (sen).
+ */
+public class MemberLedgerProjection implements Projection {
+    /**
+     * Saldo satu member (ditulis thread proyeksi, dibaca thread lain)
+     */
+    public static final class Account {
+        private volatile String tier;
+        private volatile int openLoans;
+        private volatile long totalLoans;
+        private volatile long owedCents;
+
+        public String getTier() { return tier; }
+        public int getOpenLoans() { return openLoans; }
+        public long getTotalLoans() { return totalLoans; }
+        public long getOwedCents() { return owedCents; }
+    }
+
+    private final Map<Long, Account> accounts = new ConcurrentHashMap<>();
+
+    @Override
+    public String getName() {
+        return "member-ledger";
+    }
+
+    @Override
+    public void apply(DomainEvent event) {
+        switch (event) {
+            case DomainEvent.MemberRegistered registered -> account(registered.getMemberNumber()).tier = registered.getTier();
+            case DomainEvent.TierChanged changed -> account(changed.getMemberNumber()).tier = changed.getToTier();
+            case DomainEvent.Borrowed borrowed -> {
+                Account account = account(borrowed.getMemberNumber());
+                account.openLoans++;
+                account.totalLoans++;
+            }
+            case DomainEvent.Returned returned -> account(returned.getMemberNumber()).openLoans--;
+            case DomainEvent.FeeAssessed fee -> account(fee.getMemberNumber()).owedCents += fee.getCents();
+            default -> {
+            }
+        }
+    }
+
+    private Account account(long memberNumber) {
+        return accounts.computeIfAbsent(memberNumber, n -> new Account());
+    }
+
+    @Override
+    public void reset() {
+        accounts.clear();
+    }
+
+    // Saldo member; null jika member belum dikenal
+    public Account getAccount(long memberNumber) {
+        return accounts.get(memberNumber);
+    }
+
+    public Account getAccount(Member member) {
+        return getAccount(member.getMemberNumber());
+    }
+
+    public int getMemberCount() {
+        return accounts.size();
+    }
+}
@@ -0,0 +1,88 @@
+package library;
+
+/**
+ * CLASS MEMBERSHIP TIER
+ * Satu level membership dari LibraryPolicy beserta aturannya (batas pinjam, diskon denda,
+ * lama pinjam, prioritas reservasi, ikon, dan level tujuan upgrade). Objek dibuat oleh LibraryPolicy; indeks
+ * (urutan di tabel kebijakan) dipakai sebagai indeks array untuk tabel turunan seperti FeeSchedule.
+ */
+public final class MembershipTier {
+    private final int index;
+    private final String label;
+    private final int maxBorrowLimit;
+    private final int discountPercent;
+    private final int loanDays;
+    // Prioritas antrean reservasi (angka besar dilayani lebih dulu)
+    private final int holdPriority;
+    private final String icon;
+    // upgradeTargets[i] = true jika boleh naik ke level dengan indeks i (diisi LibraryPolicy)
+    private boolean[] upgradeTargets = new boolean[0];
+
+    MembershipTier(int index, String label, int maxBorrowLimit, int discountPercent, int loanDays,
+                   int holdPriority, String icon) {
+        this.index = index;
+        this.label = label;
+        this.maxBorrowLimit = maxBorrowLimit;
+        this.discountPercent = discountPercent;
+        this.loanDays = loanDays;
+        this.holdPriority = holdPriority;
+        this.icon = icon;
+    }
+
+    void setUpgradeTargets(boolean[] upgradeTargets) {
+        this.upgradeTargets = upgradeTargets;
+    }
+
+    // Level dari nama tampilan menurut kebijakan yang berlaku; null jika tidak dikenal
+    public static MembershipTier of(String label) {
+        return LibraryPolicy.current().tier(label);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getMaxBorrowLimit() {
+        return maxBorrowLimit;
+    }
+
+    public int getDiscountPercent() {
+        return discountPercent;
+    }
+
+    public int getLoanDays() {
+        return loanDays;
+    }
+
+    public int getHoldPriority() {
+        return holdPriority;
+    }
+
+    public String getIcon() {
+        return icon;
+    }
+
+    // Apakah member di level ini boleh naik ke level target
+    public boolean canUpgradeTo(MembershipTier target) {
+        return target.index < upgradeTargets.length && upgradeTargets[target.index];
+    }
+
+    // Level tertinggi = tidak punya tujuan upgrade
+    public boolean isHighest() {
+        for (boolean target : upgradeTargets) {
+            if (target) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
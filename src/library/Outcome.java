@@ -0,0 +1,63 @@
+package library;
+
+/**
+ * ENUM OUTCOME
+ * Hasil bertipe dari operasi domain (setter, upgrade membership, peminjaman, pengembalian).
+ * Pemanggil memeriksa nilai ini secara langsung; pesan hanya dibentuk jika ada listener.
+ */
+public enum Outcome {
+    OK("Berhasil"),
+
+    // Book
+    INVALID_TITLE("Judul buku tidak boleh kosong"),
+    INVALID_AUTHOR("Nama penulis tidak boleh kosong"),
+    INVALID_CATEGORY("Kategori harus Fiction/Non-Fiction/Science/Technology/History"),
+    INVALID_PUBLICATION_YEAR("Tahun terbit tidak valid (1900-2025)"),
+    INVALID_TOTAL_COPIES("Total copies harus >= 1"),
+    INVALID_AVAILABLE_COPIES("availableCopies harus 0-totalCopies"),
+    AVAILABILITY_MISMATCH("Status ketersediaan mengikuti jumlah copy tersedia"),
+    TOTAL_BELOW_ON_LOAN("Total copies tidak boleh kurang dari copy yang sedang dipinjam"),
+
+    // Member
+    INVALID_NAME("Nama tidak boleh kosong"),
+    INVALID_EMAIL("Email tidak valid"),
+    INVALID_PHONE("Nomor telepon harus 10-13 digit"),
+    INVALID_REGISTRATION_YEAR("Tahun registrasi harus antara 2015-2025"),
+    INVALID_MEMBERSHIP_TYPE("Membership type harus Silver/Gold/Platinum"),
+    DOWNGRADE_NOT_ALLOWED("Tidak bisa downgrade membership"),
+    ALREADY_HIGHEST_TIER("Sudah Platinum, membership tertinggi"),
+
+    // Sirkulasi
+    INVALID_DATE("Format tanggal tidak valid (DD-MM-YYYY)"),
+    LIMIT_REACHED("Batas pinjam sudah tercapai"),
+    NOT_AVAILABLE("Tidak ada copy yang tersedia"),
+    ALREADY_RETURNED("Transaksi sudah dikembalikan"),
+    RETURN_BEFORE_BORROW("Tanggal kembali tidak boleh sebelum tanggal pinjam"),
+
+    // Reservasi
+    STILL_AVAILABLE("Buku masih tersedia, silakan langsung dipinjam"),
+    DUPLICATE_HOLD("Member sudah mereservasi buku ini"),
+    HOLD_NOT_READY("Reservasi belum siap diambil"),
+
+    // Impor massal
+    MALFORMED_ROW("Baris CSV tidak sesuai format"),
+    INVALID_ID("Format ID tidak valid"),
+    DUPLICATE_ID("ID sudah terdaftar"),
+    UNKNOWN_MEMBER("Member tidak ditemukan"),
+    UNKNOWN_BOOK("Buku tidak ditemukan");
+
+    private final String message;
+
+    Outcome(String message) {
+        this.message = message;
+    }
+
+    // Pesan umum tanpa konteks (lihat LibraryEvent.getMessage untuk pesan lengkap)
+    public String getMessage() {
+        return message;
+    }
+
+    public boolean isSuccess() {
+        return this == OK;
+    }
+}
@@ -0,0 +1,75 @@
+package library;
+
+import java.util.*;
+
+/**
+ * CLASS OVERDUE REPORT
+ * Hasil sweep keterlambatan: ringkasan pinjaman aktif/terlambat dan denda berjalan per member
+ */
+public class OverdueReport {
+    private final int asOfDay;
+    private int activeLoans;
+    private int overdueLoans;
+    private long accruedFeeCents;
+    private final Map<Member, MemberOverdue> perMember = new LinkedHashMap<>();
+
+    OverdueReport(int asOfDay) {
+        this.asOfDay = asOfDay;
+    }
+
+    // Mencatat satu pinjaman yang masih aktif (belum jatuh tempo)
+    void addActive() {
+        activeLoans++;
+    }
+
+    // Mencatat satu pinjaman terlambat beserta denda yang sudah berjalan
+    void addOverdue(Member member, int daysOverdue, long feeCents) {
+        overdueLoans++;
+        accruedFeeCents += feeCents;
+        perMember.computeIfAbsent(member, m -> new MemberOverdue()).add(1, daysOverdue, feeCents);
+    }
+
+    // Menggabungkan hasil dari sub-task fork-join
+    void merge(OverdueReport other) {
+        activeLoans += other.activeLoans;
+        overdueLoans += other.overdueLoans;
+        accruedFeeCents += other.accruedFeeCents;
+        for (Map.Entry<Member, MemberOverdue> e : other.perMember.entrySet()) {
+            MemberOverdue theirs = e.getValue();
+            perMember.computeIfAbsent(e.getKey(), m -> new MemberOverdue())
+                    .add(theirs.overdueCount, theirs.maxDaysOverdue, theirs.accruedFeeCents);
+        }
+    }
+
+    public int getAsOfDay() { return asOfDay; }
+    public int getOpenLoans() { return activeLoans + overdueLoans; }
+    public int getActiveLoans() { return activeLoans; }
+    public int getOverdueLoans() { return overdueLoans; }
+    public long getAccruedFeeCents() { return accruedFeeCents; }
+    public double getAccruedFees() { return accruedFeeCents / 100.0; }
+
+    // Ringkasan keterlambatan per member (hanya member yang punya pinjaman terlambat)
+    public Map<Member, MemberOverdue> getPerMember() {
+        return Collections.unmodifiableMap(perMember);
+    }
+
+    /**
+     * Ringkasan keterlambatan untuk satu member
+     */
+    public static class MemberOverdue {
+        private int overdueCount;
+        private int maxDaysOverdue;
+        private long accruedFeeCents;
+
+        private void add(int count, int daysOverdue, long feeCents) {
+            overdueCount += count;
+            maxDaysOverdue = Math.max(maxDaysOverdue, daysOverdue);
+            accruedFeeCents += feeCents;
+        }
+
+        public int getOverdueCount() { return overdueCount; }
+        public int getMaxDaysOverdue() { return maxDaysOverdue; }
+        public long getAccruedFeeCents() { return accruedFeeCents; }
+        public double getAccruedFee() { return accruedFeeCents / 100.0; }
+    }
+}
@@ -0,0 +1,95 @@
+package library;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * CLASS OVERDUE SWEEP
+ * Mengevaluasi seluruh pinjaman terbuka secara paralel (fork-join) pada tanggal tertentu:
+ * aktif atau terlambat, serta denda yang sudah berjalan sampai tanggal tersebut.
+ */
+public class OverdueSweep {
+    // Jumlah transaksi minimum per sub-task; di atas itu dibagi rata sesuai jumlah worker
+    // (menggabungkan terlalu banyak map per member justru lebih mahal daripada evaluasinya)
+    private static final int MIN_SPLIT_SIZE = 16_384;
+    private static final int TASKS_PER_WORKER = 4;
+
+    private final ForkJoinPool pool;
+
+    public OverdueSweep() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public OverdueSweep(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    // Sweep dengan tanggal pengecekan "DD-MM-YYYY"
+    public OverdueReport sweep(List<Transaction> transactions, String asOfDate) {
+        int asOfDay = EpochDay.parse(asOfDate, 1900, Integer.MAX_VALUE);
+        if (asOfDay == EpochDay.NONE) {
+            throw new IllegalArgumentException("Error: Format tanggal tidak valid (DD-MM-YYYY)");
+        }
+        return sweep(transactions, asOfDay);
+    }
+
+    // Sweep dengan tanggal pengecekan dalam epoch day; list harus mendukung akses acak
+    public OverdueReport sweep(List<Transaction> transactions, int asOfDay) {
+        int size = transactions.size();
+        int threshold = Math.max(MIN_SPLIT_SIZE, size / (pool.getParallelism() * TASKS_PER_WORKER));
+        return pool.invoke(new SweepTask(transactions, asOfDay, threshold, 0, size));
+    }
+
+    // Evaluasi satu rentang transaksi secara berurutan
+    static void evaluate(List<Transaction> transactions, int from, int to, OverdueReport report) {
+        int asOfDay = report.getAsOfDay();
+        for (int i = from; i < to; i++) {
+            Transaction t = transactions.get(i);
+            if (t.isReturned()) {
+                continue;
+            }
+            if (t.isOverdue(asOfDay)) {
+                int daysOverdue = asOfDay - t.getDueDay();
+                report.addOverdue(t.getMember(), daysOverdue, Transaction.calculateFeeCents(daysOverdue, t.getMember()));
+            } else {
+                report.addActive();
+            }
+        }
+    }
+
+    // Sub-task yang membagi rentang menjadi dua sampai cukup kecil
+    private static class SweepTask extends RecursiveTask<OverdueReport> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<Transaction> transactions;
+        private final int asOfDay;
+        private final int threshold;
+        private final int from;
+        private final int to;
+
+        SweepTask(List<Transaction> transactions, int asOfDay, int threshold, int from, int to) {
+            this.transactions = transactions;
+            this.asOfDay = asOfDay;
+            this.threshold = threshold;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected OverdueReport compute() {
+            if (to - from <= threshold) {
+                OverdueReport report = new OverdueReport(asOfDay);
+                evaluate(transactions, from, to, report);
+                return report;
+            }
+            int mid = (from + to) >>> 1;
+            SweepTask left = new SweepTask(transactions, asOfDay, threshold, from, mid);
+            left.fork();
+            OverdueReport right = new SweepTask(transactions, asOfDay, threshold, mid, to).compute();
+            OverdueReport result = left.join();
+            result.merge(right);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package library;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * CLASS PAGE
+ * Satu halaman hasil daftar berbasis keyset: item sesuai urutan ID, dan cursor (ID item
+ * terakhir) untuk meminta halaman berikutnya. Halaman berikutnya dimulai tepat setelah
+ * cursor, sehingga halaman ke-500 tidak perlu melewati item halaman 1-499.
+ */
+public class Page<T> {
+    private final List<T> items;
+    private final String nextCursor;
+
+    Page(List<T> items, String nextCursor) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    // ID item terakhir jika masih ada item berikutnya; null pada halaman terakhir
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+
+    public int size() {
+        return items.size();
+    }
+}
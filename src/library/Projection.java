@@ -0,0 +1,18 @@
+package library;
+
+/**
+ * INTERFACE PROJECTION
+ * Read model yang dibangun dari DomainEvent. Setiap proyeksi punya thread konsumen sendiri
+ * di EventStream: apply dipanggil berurutan dari satu thread, sedangkan getter proyeksi boleh
+ * dibaca dari thread mana pun (pakai struktur concurrent/volatile). Proyeksi yang lambat
+ * hanya tertinggal, tidak pernah menahan penulis event.
+ */
+public interface Projection {
+    String getName();
+
+    // Menerapkan satu event (urutan sesuai nomor urut stream)
+    void apply(DomainEvent event);
+
+    // Mengosongkan state sebelum proyeksi dibangun ulang dari awal stream
+    void reset();
+}
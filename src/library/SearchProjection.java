@@ -0,0 +1,46 @@
+package library;
+
+import java.util.List;
+
+/**
+ * CLASS SEARCH PROJECTION
+ * Indeks pencarian katalog yang dibangun dari event BookAdded (buku diambil dari repository
+ * berdasarkan nomornya). Membangun ulang = indeks baru lalu memutar ulang stream, tanpa
+ * mengganggu indeks utama di repository.
+ */
+public class SearchProjection implements Projection {
+    private final LibraryRepository repository;
+    private volatile BookSearchIndex index = new BookSearchIndex();
+
+    public SearchProjection(LibraryRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public String getName() {
+        return "search";
+    }
+
+    @Override
+    public void apply(DomainEvent event) {
+        if (event instanceof DomainEvent.BookAdded added) {
+            Book book = repository.findBook(added.getBookNumber());
+            if (book != null) {
+                index.add(book);
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        index = new BookSearchIndex();
+    }
+
+    public List<Book> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    public int size() {
+        return index.size();
+    }
+}
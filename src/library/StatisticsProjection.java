@@ -0,0 +1,62 @@
+package library;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CLASS STATISTICS PROJECTION
+ * Statistik sirkulasi dari event (padanan LibraryStatistics yang dibangun ulang dari stream):
+ * total/aktif/terlambat, total denda, dan jumlah pinjaman per kategori.
+ */
+public class StatisticsProjection implements Projection {
+    private volatile long totalLoans;
+    private volatile long activeLoans;
+    private volatile long lateReturns;
+    private volatile long totalFeeCents;
+    private final Map<String, Long> categoryLoans = new ConcurrentHashMap<>();
+
+    @Override
+    public String getName() {
+        return "statistics";
+    }
+
+    @Override
+    public void apply(DomainEvent event) {
+        switch (event) {
+            case DomainEvent.Borrowed borrowed -> {
+                totalLoans++;
+                activeLoans++;
+                categoryLoans.merge(borrowed.getCategory(), 1L, Long::sum);
+            }
+            case DomainEvent.Returned returned -> {
+                activeLoans--;
+                if (returned.getDaysLate() > 0) {
+                    lateReturns++;
+                }
+            }
+            case DomainEvent.FeeAssessed fee -> totalFeeCents += fee.getCents();
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        totalLoans = 0;
+        activeLoans = 0;
+        lateReturns = 0;
+        totalFeeCents = 0;
+        categoryLoans.clear();
+    }
+
+    public long getTotalLoans() { return totalLoans; }
+    public long getActiveLoans() { return activeLoans; }
+    public long getLateReturns() { return lateReturns; }
+    public long getTotalFeeCents() { return totalFeeCents; }
+
+    // Jumlah pinjaman per kategori, terurut nama kategori
+    public Map<String, Long> getCategoryLoanCounts() {
+        return new TreeMap<>(categoryLoans);
+    }
+}
@@ -0,0 +1,184 @@
+package library;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * CLASS TOP-K COUNTER
+ * Menghitung frekuensi tiap kunci tanpa lock: satu counter atomik per kunci di ConcurrentHashMap
+ * (hitungan pasti tetap dibutuhkan snapshot untuk member/buku/kategori yang terdaftar).
+ * K kunci teratas dijaga di jalur tulis sebagai himpunan kandidat berukuran tetap: kunci di luar
+ * himpunan hanya mengambil lock saat hitungannya melewati batas bawah himpunan, sehingga
+ * peminjaman biasa tetap tanpa lock. Pembacaan top-K hanya mengurutkan himpunan itu (O(K)),
+ * tidak bergantung pada jumlah kunci.
+ */
+public class TopKCounter<T> {
+    private final int capacity;
+    private final Map<T, Entry<T>> counts = new ConcurrentHashMap<>();
+    // Urutan kemunculan pertama (pemecah seri); hanya bertambah saat kunci baru muncul
+    private final AtomicLong sequence = new AtomicLong();
+
+    // Himpunan kandidat teratas (maksimal capacity, tidak berurutan); diganti utuh di bawah lock
+    private volatile Entry<T>[] leaders;
+    // Hitungan kandidat terlemah saat himpunan penuh (0 jika belum penuh). Hitungan hanya naik,
+    // jadi nilai yang terlambat diperbarui selalu <= batas sebenarnya: aman dipakai sebagai saringan
+    private volatile long floor;
+
+    @SuppressWarnings("unchecked")
+    public TopKCounter(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Error: Kapasitas top-K harus >= 1");
+        }
+        this.capacity = capacity;
+        this.leaders = (Entry<T>[]) new Entry<?>[0];
+    }
+
+    // Menambah hitungan sebuah kunci sebanyak satu
+    public void increment(T key) {
+        increment(key, 1);
+    }
+
+    // Menambah hitungan sebuah kunci (lock hanya saat kunci baru muncul atau masuk peringkat)
+    public void increment(T key, long amount) {
+        if (amount <= 0) {
+            return;
+        }
+        Entry<T> entry = counts.get(key);
+        if (entry == null) {
+            entry = counts.computeIfAbsent(key, k -> new Entry<>(k, sequence.getAndIncrement()));
+        }
+        long count = Entry.COUNT.addAndGet(entry, amount);
+        if (!entry.leader && count >= floor) {
+            offer(entry);
+        }
+    }
+
+    // Hitungan sebuah kunci (0 jika belum pernah muncul)
+    public long count(T key) {
+        Entry<T> entry = counts.get(key);
+        return entry == null ? 0 : entry.count;
+    }
+
+    // Seluruh kunci beserta hitungannya (untuk snapshot)
+    public Map<T, Long> counts() {
+        Map<T, Long> result = new LinkedHashMap<>();
+        for (Entry<T> entry : counts.values()) {
+            result.put(entry.key, entry.count);
+        }
+        return result;
+    }
+
+    // Kunci teratas (maksimal kapasitas), urut dari hitungan terbesar (seri: yang lebih dulu muncul)
+    public List<T> top(int k) {
+        int limit = Math.min(k, capacity);
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        Entry<T>[] current = leaders;
+        List<Ranked<T>> ranked = new ArrayList<>(current.length);
+        for (Entry<T> entry : current) {
+            ranked.add(new Ranked<>(entry.key, entry.count, entry.firstSeen));
+        }
+        ranked.sort((a, b) -> weakerFirst(b, a));
+        List<T> result = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (int i = 0; i < limit && i < ranked.size(); i++) {
+            result.add(ranked.get(i).key);
+        }
+        return result;
+    }
+
+    // Kunci dengan hitungan terbesar, atau null jika belum ada data
+    public T first() {
+        List<T> result = top(1);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    // Memasukkan kunci ke himpunan kandidat jika lebih kuat dari kandidat terlemah. Kandidat yang
+    // tersingkir ditawarkan ulang: increment yang masih membaca leader = true sebelum bendera
+    // dihapus tidak memanggil offer sendiri, jadi hitungan terbarunya diperiksa di sini
+    private synchronized void offer(Entry<T> entry) {
+        while (entry != null && !entry.leader) {
+            Entry<T>[] current = leaders;
+            if (current.length < capacity) {
+                Entry<T>[] updated = Arrays.copyOf(current, current.length + 1);
+                updated[current.length] = entry;
+                entry.leader = true;
+                publish(updated);
+                return;
+            }
+            int weakest = weakest(current);
+            Entry<T> evicted = current[weakest];
+            if (!stronger(entry, evicted)) {
+                floor = evicted.count;
+                return;
+            }
+            Entry<T>[] updated = current.clone();
+            updated[weakest] = entry;
+            entry.leader = true;
+            evicted.leader = false;
+            publish(updated);
+            entry = evicted;
+        }
+    }
+
+    private void publish(Entry<T>[] updated) {
+        leaders = updated;
+        floor = updated.length < capacity ? 0 : updated[weakest(updated)].count;
+    }
+
+    private static int weakest(Entry<?>[] entries) {
+        int weakest = 0;
+        for (int i = 1; i < entries.length; i++) {
+            if (stronger(entries[weakest], entries[i])) {
+                weakest = i;
+            }
+        }
+        return weakest;
+    }
+
+    // Hitungan lebih besar, atau sama tetapi lebih dulu muncul
+    private static boolean stronger(Entry<?> a, Entry<?> b) {
+        long countA = a.count;
+        long countB = b.count;
+        return countA != countB ? countA > countB : a.firstSeen < b.firstSeen;
+    }
+
+    private static int weakerFirst(Ranked<?> a, Ranked<?> b) {
+        if (a.count != b.count) {
+            return Long.compare(a.count, b.count);
+        }
+        return Long.compare(b.firstSeen, a.firstSeen);
+    }
+
+    private static class Entry<T> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicLongFieldUpdater<Entry> COUNT =
+                AtomicLongFieldUpdater.newUpdater(Entry.class, "count");
+
+        private final T key;
+        private final long firstSeen;
+        private volatile long count;
+        // true selama entry ada di himpunan kandidat (ditulis di bawah lock offer)
+        private volatile boolean leader;
+
+        Entry(T key, long firstSeen) {
+            this.key = key;
+            this.firstSeen = firstSeen;
+        }
+    }
+
+    // Nilai hitungan yang dibaca sekali saat menyusun top-K
+    private static class Ranked<T> {
+        private final T key;
+        private final long count;
+        private final long firstSeen;
+
+        Ranked(T key, long count, long firstSeen) {
+            this.key = key;
+            this.count = count;
+            this.firstSeen = firstSeen;
+        }
+    }
+}
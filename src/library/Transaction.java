@@ -0,0 +1,269 @@
+package library;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+public class Transaction {
+    // Data khusus tiap transaksi peminjaman
+    // Nomor urut sebagai kunci internal; ID tampilan (TRX001) dirender saat pertama diminta
+    private final long number;
+    private String transactionId;
+    private Member member;
+    private Book book;
+    // Tanggal disimpan sebagai epoch day (lihat EpochDay), returnDay = NONE jika belum kembali
+    private int borrowDay;
+    private int dueDay;
+    // Ditulis terakhir saat pengembalian (volatile): pembaca yang melihatnya juga melihat denda
+    private volatile int returnDay;
+    // Klaim pengembalian (0 -> 1 dengan CAS): hanya satu pengembalian yang berhasil walau bersamaan
+    private volatile int returnClaimed;
+    private int daysLate;
+    // Denda dalam sen (lihat FeeSchedule)
+    private long lateFeeCents;
+
+    // Variabel yang berlaku untuk seluruh transaksi
+    private static final LongAdder totalTransactions = new LongAdder();
+    private static volatile IdGenerator ids = new BlockIdGenerator();
+    private static final String ID_PREFIX = "TRX";
+
+    private static final AtomicIntegerFieldUpdater<Transaction> RETURN_CLAIMED =
+            AtomicIntegerFieldUpdater.newUpdater(Transaction.class, "returnClaimed");
+
+    // Batas tahun yang diterima untuk tanggal input
+    private static final int MIN_YEAR = 1900;
+    private static final int MAX_YEAR = 2025;
+
+    // Membuat transaksi baru jika tanggal valid
+    public Transaction(Member member, Book book, String borrowDate, int borrowDurationDays) {
+        this(member, book, parseDate(borrowDate), borrowDurationDays);
+    }
+
+    // Membuat transaksi baru dari tanggal yang sudah di-parse (epoch day)
+    public Transaction(Member member, Book book, int borrowDay, int borrowDurationDays) {
+        long started = LibraryMetrics.start();
+        if (borrowDay == EpochDay.NONE) {
+            throw new IllegalArgumentException("Error: Format tanggal tidak valid (DD-MM-YYYY)");
+        }
+        this.number = ids.next();
+        this.member = member;
+        this.book = book;
+        this.borrowDay = borrowDay;
+        this.dueDay = borrowDay + borrowDurationDays;
+        this.returnDay = EpochDay.NONE;
+        this.daysLate = 0;
+        this.lateFeeCents = 0;
+        totalTransactions.increment();
+        LibraryMetrics.countBorrow(book.getBookCategory());
+        LibraryMetrics.stop(LibraryMetrics.Operation.NEW_TRANSACTION, started);
+    }
+
+    // Constructor pemulihan dari journal/snapshot (nomor dan tanggal jatuh tempo sudah tercatat)
+    Transaction(long number, Member member, Book book, int borrowDay, int dueDay) {
+        if (number < 0) {
+            throw new IllegalArgumentException("Error: Nomor transaksi tidak valid: " + number);
+        }
+        this.number = number;
+        this.member = member;
+        this.book = book;
+        this.borrowDay = borrowDay;
+        this.dueDay = dueDay;
+        this.returnDay = EpochDay.NONE;
+        // Counter dimajukan agar ID baru tidak bentrok dengan ID yang dipulihkan
+        ids.advanceTo(number);
+        totalTransactions.increment();
+    }
+
+    // Mengganti sumber nomor transaksi (misalnya generator bersama antar-node)
+    public static void setIdGenerator(IdGenerator generator) {
+        ids = generator;
+    }
+
+    static IdGenerator getIdGenerator() {
+        return ids;
+    }
+
+    // Format ID transaksi dari nomor urutnya
+    static String formatId(long number) {
+        return IdGenerator.format(ID_PREFIX, number);
+    }
+
+    // Nomor urut dari ID transaksi; -1 jika format tidak dikenali
+    static long idNumber(String transactionId) {
+        return IdGenerator.parse(ID_PREFIX, transactionId);
+    }
+
+    // Membaca tanggal input (DD-MM-YYYY); EpochDay.NONE jika tidak valid
+    public static int parseDate(String date) {
+        return EpochDay.parse(date, MIN_YEAR, MAX_YEAR);
+    }
+
+    // Mengecek apakah format dan tanggal kalender benar (DD-MM-YYYY)
+    public static boolean isValidDate(String date) {
+        return parseDate(date) != EpochDay.NONE;
+    }
+
+    // Hitung berapa hari telat
+    private void calculateDaysLate(int returnDay) {
+        this.daysLate = Math.max(0, returnDay - dueDay);
+    }
+
+    // Hitung denda berdasarkan telat dan diskon member
+    private void calculateLateFee() {
+        this.lateFeeCents = calculateFeeCents(daysLate, member);
+    }
+
+    // Besar denda (sen) untuk sejumlah hari telat setelah diskon level member
+    public static long calculateFeeCents(int daysLate, Member member) {
+        return FeeSchedule.current().feeCents(daysLate, member.getTier());
+    }
+
+    // Versi rupiah dari calculateFeeCents
+    public static double calculateFee(int daysLate, Member member) {
+        return calculateFeeCents(daysLate, member) / 100.0;
+    }
+
+    // Proses pengembalian buku; OK jika tercatat, selain itu alasan penolakan
+    public Outcome processReturn(String returnDate) {
+        int day = parseDate(returnDate);
+        if (day == EpochDay.NONE) {
+            return Outcome.INVALID_DATE;
+        }
+        return processReturn(day);
+    }
+
+    // Proses pengembalian buku dengan tanggal epoch day
+    public Outcome processReturn(int returnDay) {
+        long started = LibraryMetrics.start();
+        Outcome outcome = applyReturn(returnDay);
+        LibraryMetrics.stop(LibraryMetrics.Operation.PROCESS_RETURN, started);
+        return outcome;
+    }
+
+    // Pemanggil yang kalah CAS mendapat ALREADY_RETURNED tanpa mengubah stok, denda, atau tanggal
+    private Outcome applyReturn(int returnDay) {
+        if (isReturned()) {
+            return Outcome.ALREADY_RETURNED;
+        }
+        if (returnDay < borrowDay) {
+            return Outcome.RETURN_BEFORE_BORROW;
+        }
+        if (!RETURN_CLAIMED.compareAndSet(this, 0, 1)) {
+            return Outcome.ALREADY_RETURNED;
+        }
+
+        calculateDaysLate(returnDay);
+        calculateLateFee();
+        this.returnDay = returnDay;
+        book.returnBook();
+        return Outcome.OK;
+    }
+
+    // Pengembalian dari journal: denda yang tercatat dipakai apa adanya (tidak dihitung ulang
+    // dengan level member atau tarif yang berlaku saat replay)
+    Outcome restoreReturn(int returnDay, long lateFeeCents) {
+        Outcome outcome = applyReturn(returnDay);
+        if (outcome == Outcome.OK) {
+            this.lateFeeCents = lateFeeCents;
+        }
+        return outcome;
+    }
+
+    // Pinjaman yang sudah selesai dari snapshot: copy sudah kembali sehingga stok buku tidak diubah
+    void restoreClosed(int returnDay, long lateFeeCents) {
+        this.returnClaimed = 1;
+        calculateDaysLate(returnDay);
+        this.lateFeeCents = lateFeeCents;
+        this.returnDay = returnDay;
+    }
+
+    // Mengecek apakah buku masih belum dikembalikan dan sudah lewat jatuh tempo
+    public boolean isOverdue(String currentDate) {
+        int day = EpochDay.parse(currentDate, MIN_YEAR, Integer.MAX_VALUE);
+        if (day == EpochDay.NONE) {
+            throw new IllegalArgumentException("Error: Format tanggal tidak valid (DD-MM-YYYY)");
+        }
+        return isOverdue(day);
+    }
+
+    // Versi tanpa alokasi untuk pengecekan massal
+    public boolean isOverdue(int currentDay) {
+        return returnDay == EpochDay.NONE && currentDay > dueDay;
+    }
+
+    // Status transaksi per hari ini
+    public String getTransactionStatus() {
+        return getTransactionStatus(EpochDay.today());
+    }
+
+    // Status transaksi pada tanggal pengecekan tertentu (epoch day)
+    public String getTransactionStatus(int asOfDay) {
+        if (returnDay != EpochDay.NONE) {
+            if (daysLate > 0) return "Selesai (Terlambat)";
+            return "Selesai";
+        }
+
+        if (isOverdue(asOfDay)) return "Terlambat";
+
+        return "Aktif";
+    }
+
+    // Rincian transaksi sebagai teks multi-baris (lihat ViewCache untuk versi ter-cache)
+    public String renderInfo() {
+        StringBuilder view = new StringBuilder(320);
+        String status;
+        if (isReturned()) {
+            status = daysLate > 0 ? "SELESAI - TERLAMBAT ⚠" : "SELESAI - TEPAT WAKTU ✓";
+        } else {
+            status = "AKTIF";
+        }
+        view.append('[').append(getTransactionId()).append("] ").append(status).append('\n')
+                .append("Peminjam      : ").append(member.getName()).append(" (").append(member.getMemberId())
+                .append(") - ").append(member.getMembershipType()).append('\n')
+                .append("Buku          : ").append(book.getTitle()).append(" (").append(book.getBookId()).append(")\n")
+                .append("Tgl Pinjam    : ").append(getBorrowDate()).append('\n')
+                .append("Tgl Tempo     : ").append(getDueDate()).append('\n');
+        if (isReturned()) {
+            view.append("Tgl Kembali   : ").append(getReturnDate()).append('\n')
+                    .append("Terlambat     : ").append(daysLate).append(" hari\n");
+            if (lateFeeCents > 0) {
+                long originalFee = FeeSchedule.current().baseFeeCents(daysLate);
+                view.append("Denda         : Rp ").append(FeeSchedule.toRupiah(lateFeeCents))
+                        .append(" (Rp ").append(FeeSchedule.toRupiah(originalFee))
+                        .append(" - diskon ").append(member.getTier().getDiscountPercent()).append("%)");
+            } else {
+                view.append("Denda         : Rp 0");
+            }
+        } else {
+            view.append("Status        : Masih Dipinjam (").append(dueDay - borrowDay).append(" hari lagi)");
+        }
+        return view.toString();
+    }
+
+    // Mendapatkan total seluruh transaksi
+    public static int getTotalTransactions() {
+        return totalTransactions.intValue();
+    }
+
+    // Getter untuk atribut penting transaksi
+    // Render sekali lalu disimpan; balapan antar thread aman karena hasilnya selalu sama
+    public String getTransactionId() {
+        String id = transactionId;
+        if (id == null) {
+            transactionId = id = formatId(number);
+        }
+        return id;
+    }
+    public long getTransactionNumber() { return number; }
+    public Member getMember() { return member; }
+    public Book getBook() { return book; }
+    public String getBorrowDate() { return EpochDay.format(borrowDay); }
+    public String getDueDate() { return EpochDay.format(dueDay); }
+    public String getReturnDate() { return returnDay == EpochDay.NONE ? null : EpochDay.format(returnDay); }
+    public int getBorrowDay() { return borrowDay; }
+    public int getDueDay() { return dueDay; }
+    public int getReturnDay() { return returnDay; }
+    public boolean isReturned() { return returnDay != EpochDay.NONE; }
+    public int getDaysLate() { return daysLate; }
+    public long getLateFeeCents() { return lateFeeCents; }
+    public double getLateFee() { return lateFeeCents / 100.0; }
+}
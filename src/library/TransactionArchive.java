@@ -0,0 +1,265 @@
+package library;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * CLASS TRANSACTION ARCHIVE
+ * Penyimpanan kolom (columnar) untuk transaksi yang sudah selesai. Setiap kolom berupa
+ * array primitif sehingga riwayat bertahun-tahun tidak membebani heap dengan objek
+ * Transaction/String, dan query laporan cukup memindai array secara berurutan.
+ * Kategori buku dicatat per baris saat diarsipkan, sehingga perubahan kategori buku
+ * sesudahnya tidak mengubah laporan atas riwayat lama.
+ */
+public class TransactionArchive {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // Kolom data (baris ke-i dari tiap array membentuk satu transaksi)
+    private long[] transactionNumber = new long[INITIAL_CAPACITY];
+    private int[] memberIndex = new int[INITIAL_CAPACITY];
+    private int[] bookIndex = new int[INITIAL_CAPACITY];
+    private int[] borrowDay = new int[INITIAL_CAPACITY];
+    private int[] dueDay = new int[INITIAL_CAPACITY];
+    private int[] returnDay = new int[INITIAL_CAPACITY];
+    private short[] daysLate = new short[INITIAL_CAPACITY];
+    private long[] feeCents = new long[INITIAL_CAPACITY];
+    private int[] category = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    // Kamus: objek member/buku dan nama kategori disimpan sekali, baris hanya menyimpan indeksnya
+    private final List<Member> members = new ArrayList<>();
+    private final Map<Member, Integer> memberIds = new HashMap<>();
+    private final List<Book> books = new ArrayList<>();
+    private final Map<Book, Integer> bookIds = new HashMap<>();
+    private final List<String> categories = new ArrayList<>();
+    private final Map<String, Integer> categoryIds = new HashMap<>();
+
+    // Memindahkan transaksi yang sudah dikembalikan ke arsip
+    public void append(Transaction t) {
+        if (!t.isReturned()) {
+            throw new IllegalArgumentException("Error: Hanya transaksi yang sudah selesai yang dapat diarsipkan");
+        }
+        append(t.getTransactionNumber(), t.getMember(), t.getBook(), t.getBorrowDay(),
+                t.getDueDay(), t.getReturnDay(), t.getDaysLate(), t.getLateFeeCents());
+    }
+
+    public void appendAll(Collection<Transaction> transactions) {
+        for (Transaction t : transactions) {
+            append(t);
+        }
+    }
+
+    // Menambah satu baris dari nilai primitif (kategori diambil dari buku saat ini)
+    public void append(long number, Member member, Book book, int borrow, int due,
+                       int returned, int late, long fee) {
+        append(number, member, book, book.getCategory(), borrow, due, returned, late, fee);
+    }
+
+    synchronized void append(long number, Member member, Book book, String bookCategory, int borrow, int due,
+                             int returned, int late, long fee) {
+        if (size == memberIndex.length) {
+            grow();
+        }
+        transactionNumber[size] = number;
+        memberIndex[size] = memberId(member);
+        bookIndex[size] = bookId(book);
+        borrowDay[size] = borrow;
+        dueDay[size] = due;
+        returnDay[size] = returned;
+        daysLate[size] = (short) Math.min(late, Short.MAX_VALUE);
+        feeCents[size] = fee;
+        category[size] = categoryId(bookCategory);
+        size++;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    // Total denda per bulan pengembalian (kunci: tahun*100 + bulan, misal 202512)
+    public SortedMap<Integer, Long> feesPerMonth() {
+        Columns c = columns();
+        SortedMap<Integer, Long> result = new TreeMap<>();
+        // Data arsip umumnya berurutan menurut tanggal kembali: bulan yang sama dijumlah dulu
+        int currentMonth = Integer.MIN_VALUE;
+        int monthStart = 0;
+        int monthEnd = 0;
+        long sum = 0;
+        for (int i = 0; i < c.size; i++) {
+            int day = c.returnDay[i];
+            if (day < monthStart || day >= monthEnd) {
+                if (sum != 0) {
+                    result.merge(currentMonth, sum, Long::sum);
+                }
+                int year = EpochDay.yearOf(day);
+                int month = EpochDay.monthOf(day);
+                currentMonth = year * 100 + month;
+                monthStart = EpochDay.of(year, month, 1);
+                monthEnd = monthStart + EpochDay.daysInMonth(year, month);
+                sum = 0;
+            }
+            sum += c.feeCents[i];
+        }
+        if (sum != 0) {
+            result.merge(currentMonth, sum, Long::sum);
+        }
+        return result;
+    }
+
+    // Total denda (sen) untuk pengembalian dalam rentang tanggal [fromDay, toDay]
+    public long feesBetween(int fromDay, int toDay) {
+        Columns c = columns();
+        long sum = 0;
+        for (int i = 0; i < c.size; i++) {
+            int day = c.returnDay[i];
+            if (day >= fromDay && day <= toDay) {
+                sum += c.feeCents[i];
+            }
+        }
+        return sum;
+    }
+
+    // Persentase pengembalian terlambat per kategori buku (0.0 - 1.0)
+    public Map<String, Double> lateReturnRateByCategory() {
+        Columns c = columns();
+        long[] total = new long[c.categories.size()];
+        long[] late = new long[c.categories.size()];
+        for (int i = 0; i < c.size; i++) {
+            int row = c.category[i];
+            total[row]++;
+            if (c.daysLate[i] > 0) {
+                late[row]++;
+            }
+        }
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (int i = 0; i < total.length; i++) {
+            result.put(c.categories.get(i), total[i] == 0 ? 0.0 : (double) late[i] / total[i]);
+        }
+        return result;
+    }
+
+    // Total denda (sen) yang pernah dibayar seorang member
+    public long feesOf(Member member) {
+        Columns c;
+        int target;
+        synchronized (this) {
+            Integer id = memberIds.get(member);
+            if (id == null) {
+                return 0;
+            }
+            target = id;
+            c = new Columns(this);
+        }
+        long sum = 0;
+        for (int i = 0; i < c.size; i++) {
+            if (c.memberIndex[i] == target) {
+                sum += c.feeCents[i];
+            }
+        }
+        return sum;
+    }
+
+    // Perkiraan memori kolom data (byte per baris: 6 int + 1 short + 2 long)
+    public synchronized long getColumnBytes() {
+        return (long) size * (6 * 4 + 2 + 2 * 8);
+    }
+
+    /**
+     * Penerima baris arsip (penulisan snapshot)
+     */
+    interface RowSink {
+        void row(long number, Member member, Book book, String category, int borrow, int due,
+                 int returned, int late, long fee) throws IOException;
+    }
+
+    // Mengirim seluruh baris sesuai urutan arsip
+    void forEach(RowSink sink) throws IOException {
+        Columns c;
+        List<Member> memberList;
+        List<Book> bookList;
+        synchronized (this) {
+            c = new Columns(this);
+            memberList = new ArrayList<>(members);
+            bookList = new ArrayList<>(books);
+        }
+        for (int i = 0; i < c.size; i++) {
+            sink.row(c.transactionNumber[i], memberList.get(c.memberIndex[i]), bookList.get(c.bookIndex[i]),
+                    c.categories.get(c.category[i]), c.borrowDay[i], c.dueDay[i], c.returnDay[i], c.daysLate[i],
+                    c.feeCents[i]);
+        }
+    }
+
+    // Salinan referensi kolom + ukuran saat ini; baris di bawah size tidak pernah diubah lagi
+    private synchronized Columns columns() {
+        return new Columns(this);
+    }
+
+    private int memberId(Member member) {
+        Integer id = memberIds.get(member);
+        if (id == null) {
+            id = members.size();
+            members.add(member);
+            memberIds.put(member, id);
+        }
+        return id;
+    }
+
+    private int bookId(Book book) {
+        Integer id = bookIds.get(book);
+        if (id == null) {
+            id = books.size();
+            books.add(book);
+            bookIds.put(book, id);
+        }
+        return id;
+    }
+
+    private int categoryId(String name) {
+        return categoryIds.computeIfAbsent(name, n -> {
+            categories.add(n);
+            return categories.size() - 1;
+        });
+    }
+
+    private void grow() {
+        int capacity = memberIndex.length * 2;
+        transactionNumber = Arrays.copyOf(transactionNumber, capacity);
+        memberIndex = Arrays.copyOf(memberIndex, capacity);
+        bookIndex = Arrays.copyOf(bookIndex, capacity);
+        borrowDay = Arrays.copyOf(borrowDay, capacity);
+        dueDay = Arrays.copyOf(dueDay, capacity);
+        returnDay = Arrays.copyOf(returnDay, capacity);
+        daysLate = Arrays.copyOf(daysLate, capacity);
+        feeCents = Arrays.copyOf(feeCents, capacity);
+        category = Arrays.copyOf(category, capacity);
+    }
+
+    // Pandangan baca-saja atas kolom untuk satu query (dipindai di luar lock)
+    private static class Columns {
+        final int size;
+        final long[] transactionNumber;
+        final int[] memberIndex;
+        final int[] bookIndex;
+        final int[] borrowDay;
+        final int[] dueDay;
+        final int[] returnDay;
+        final short[] daysLate;
+        final long[] feeCents;
+        final int[] category;
+        final List<String> categories;
+
+        Columns(TransactionArchive a) {
+            size = a.size;
+            transactionNumber = a.transactionNumber;
+            memberIndex = a.memberIndex;
+            bookIndex = a.bookIndex;
+            borrowDay = a.borrowDay;
+            dueDay = a.dueDay;
+            returnDay = a.returnDay;
+            daysLate = a.daysLate;
+            feeCents = a.feeCents;
+            category = a.category;
+            categories = new ArrayList<>(a.categories);
+        }
+    }
+}
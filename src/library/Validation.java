@@ -0,0 +1,178 @@
+package library;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * CLASS VALIDATION
+ * Mesin validasi input member/buku tanpa regex dan tanpa exception: setiap field diperiksa
+ * dengan pemindai karakter sekali jalan, dan seluruh kesalahan satu record dikumpulkan sebagai
+ * bitmask Outcome (bit ke-n = Outcome dengan ordinal n). Mask 0 berarti valid; tidak ada objek
+ * yang dibuat kecuali pemanggil meminta daftar kesalahannya (errors).
+ * Dipakai constructor/setter Member dan Book, serta impor massal sebelum objek dibuat.
+ */
+public final class Validation {
+    public static final long VALID = 0L;
+
+    // Batas tahun registrasi member dan tahun terbit buku
+    static final int MIN_REGISTRATION_YEAR = 2015;
+    static final int MAX_REGISTRATION_YEAR = 2025;
+    static final int MIN_PUBLICATION_YEAR = 1900;
+    static final int MAX_PUBLICATION_YEAR = 2025;
+    static final int MIN_PHONE_DIGITS = 10;
+    static final int MAX_PHONE_DIGITS = 13;
+
+    private static final Outcome[] OUTCOMES = Outcome.values();
+
+    static {
+        // Bitmask long hanya cukup untuk 64 kode
+        if (OUTCOMES.length > Long.SIZE) {
+            throw new ExceptionInInitializerError("Error: Outcome melebihi 64 kode");
+        }
+    }
+
+    private Validation() {
+    }
+
+    // Seluruh kesalahan data member baru (0 jika valid)
+    public static long member(String name, String email, String phoneNumber, int registrationYear,
+                              String membershipType) {
+        long errors = VALID;
+        if (!isValidName(name)) errors |= bit(Outcome.INVALID_NAME);
+        if (!isValidEmail(email)) errors |= bit(Outcome.INVALID_EMAIL);
+        if (!isValidPhoneNumber(phoneNumber)) errors |= bit(Outcome.INVALID_PHONE);
+        if (!isValidRegistrationYear(registrationYear)) errors |= bit(Outcome.INVALID_REGISTRATION_YEAR);
+        if (MembershipTier.of(membershipType) == null) errors |= bit(Outcome.INVALID_MEMBERSHIP_TYPE);
+        return errors;
+    }
+
+    // Seluruh kesalahan data buku baru (0 jika valid)
+    public static long book(String title, String author, String category, int publicationYear, int totalCopies) {
+        long errors = VALID;
+        if (!isValidTitle(title)) errors |= bit(Outcome.INVALID_TITLE);
+        if (!isValidAuthor(author)) errors |= bit(Outcome.INVALID_AUTHOR);
+        if (BookCategory.of(category) == null) errors |= bit(Outcome.INVALID_CATEGORY);
+        if (!isValidPublicationYear(publicationYear)) errors |= bit(Outcome.INVALID_PUBLICATION_YEAR);
+        if (!isValidTotalCopies(totalCopies)) errors |= bit(Outcome.INVALID_TOTAL_COPIES);
+        return errors;
+    }
+
+    // ---------------------------------------------------------------- hasil
+
+    public static long bit(Outcome outcome) {
+        return 1L << outcome.ordinal();
+    }
+
+    public static boolean isValid(long errors) {
+        return errors == VALID;
+    }
+
+    public static boolean has(long errors, Outcome outcome) {
+        return (errors & bit(outcome)) != 0;
+    }
+
+    // Kesalahan pertama sesuai urutan field; OK jika valid
+    public static Outcome first(long errors) {
+        return errors == VALID ? Outcome.OK : OUTCOMES[Long.numberOfTrailingZeros(errors)];
+    }
+
+    public static int count(long errors) {
+        return Long.bitCount(errors);
+    }
+
+    // Daftar kesalahan (hanya dibuat saat diminta, misalnya untuk laporan impor)
+    public static Set<Outcome> errors(long errors) {
+        Set<Outcome> result = EnumSet.noneOf(Outcome.class);
+        for (long rest = errors; rest != 0; rest &= rest - 1) {
+            result.add(OUTCOMES[Long.numberOfTrailingZeros(rest)]);
+        }
+        return result;
+    }
+
+    // Pesan gabungan seluruh kesalahan, dipisah "; "
+    public static String describe(long errors) {
+        StringBuilder message = new StringBuilder();
+        for (long rest = errors; rest != 0; rest &= rest - 1) {
+            if (message.length() > 0) {
+                message.append("; ");
+            }
+            message.append(OUTCOMES[Long.numberOfTrailingZeros(rest)].getMessage());
+        }
+        return message.toString();
+    }
+
+    // ---------------------------------------------------------------- pemindai field
+
+    // Tidak null dan memuat minimal satu karakter selain spasi (setara !trim().isEmpty())
+    public static boolean isNotBlank(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0, n = value.length(); i < n; i++) {
+            if (value.charAt(i) > ' ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean isValidName(String name) {
+        return isNotBlank(name);
+    }
+
+    public static boolean isValidTitle(String title) {
+        return isNotBlank(title);
+    }
+
+    public static boolean isValidAuthor(String author) {
+        return isNotBlank(author);
+    }
+
+    // Memuat '@' dan '.' (satu kali pemindaian)
+    public static boolean isValidEmail(String email) {
+        if (email == null) {
+            return false;
+        }
+        boolean at = false;
+        boolean dot = false;
+        for (int i = 0, n = email.length(); i < n; i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                at = true;
+            } else if (c == '.') {
+                dot = true;
+            }
+            if (at && dot) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 10-13 digit; karakter lain (spasi, '-', '+') diabaikan
+    public static boolean isValidPhoneNumber(String phone) {
+        if (phone == null) {
+            return false;
+        }
+        int digits = 0;
+        for (int i = 0, n = phone.length(); i < n; i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9' && ++digits > MAX_PHONE_DIGITS) {
+                return false;
+            }
+        }
+        return digits >= MIN_PHONE_DIGITS;
+    }
+
+    public static boolean isValidRegistrationYear(int year) {
+        return year >= MIN_REGISTRATION_YEAR && year <= MAX_REGISTRATION_YEAR;
+    }
+
+    public static boolean isValidPublicationYear(int year) {
+        return year >= MIN_PUBLICATION_YEAR && year <= MAX_PUBLICATION_YEAR;
+    }
+
+    public static boolean isValidTotalCopies(int copies) {
+        return copies >= 1;
+    }
+}
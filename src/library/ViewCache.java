@@ -0,0 +1,176 @@
+package library;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * CLASS VIEW CACHE
+ * Cache read-through untuk teks tampilan yang sudah dirender, dengan batas jumlah entri
+ * dan umur maksimum (TTL). Pembacaan bebas lock (ConcurrentHashMap); penggantian entri
+ * memakai algoritma CLOCK (pendekatan LRU): entri yang dibaca sejak putaran terakhir
+ * mendapat kesempatan kedua, sehingga hit tidak perlu menyusun ulang daftar LRU.
+ * Setiap entri menyimpan "stamp" (misalnya versi data dan jumlah copy tersedia): jika stamp
+ * saat ini berbeda, tampilan dianggap basi dan dirender ulang walau event invalidasi terlewat.
+ * Stamp dibaca sebelum dan sesudah render; jika berubah di tengah render, hasilnya dikembalikan
+ * tetapi tidak disimpan, sehingga render yang kalah balapan dengan setter tidak tertinggal di cache.
+ */
+public class ViewCache<K> {
+    private final ConcurrentHashMap<K, Entry<K>> entries;
+    // Cincin CLOCK berisi entri yang pernah dimasukkan (dijaga oleh lock pada ring)
+    private final Entry<K>[] ring;
+    private int used = 0;
+    private int hand = 0;
+    private final long ttlNanos;
+
+    // Metrik (LongAdder: tidak ada kontensi antar pembaca)
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private static final class Entry<K> {
+        final K key;
+        final String view;
+        final long stamp;
+        final long expiresAt;
+        // Bit "baru dibaca" untuk CLOCK; hanya ditulis jika masih false agar hit tetap read-mostly
+        volatile boolean referenced;
+        int slot;
+
+        Entry(K key, String view, long stamp, long expiresAt) {
+            this.key = key;
+            this.view = view;
+            this.stamp = stamp;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ViewCache(int maxEntries, long ttlMillis) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Error: Kapasitas cache harus >= 1");
+        }
+        if (ttlMillis <= 0) {
+            throw new IllegalArgumentException("Error: TTL cache harus > 0");
+        }
+        this.entries = new ConcurrentHashMap<>(Math.min(maxEntries, 1 << 16));
+        this.ring = new Entry[maxEntries];
+        this.ttlNanos = ttlMillis * 1_000_000L;
+    }
+
+    // Tampilan ter-cache untuk key dengan stamp tetap
+    public String get(K key, long stamp, Function<? super K, String> renderer) {
+        return get(key, k -> stamp, renderer);
+    }
+
+    // Tampilan ter-cache untuk key; dirender (di luar lock) jika belum ada, kedaluwarsa, atau basi
+    public String get(K key, ToLongFunction<? super K> stamps, Function<? super K, String> renderer) {
+        long now = System.nanoTime();
+        long stamp = stamps.applyAsLong(key);
+        Entry<K> entry = entries.get(key);
+        if (entry != null && entry.stamp == stamp && now - entry.expiresAt < 0) {
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            hits.increment();
+            return entry.view;
+        }
+        if (entry == null) {
+            misses.increment();
+        } else {
+            stale.increment();
+        }
+        String view = renderer.apply(key);
+        if (stamps.applyAsLong(key) != stamp) {
+            return view;
+        }
+        Entry<K> fresh = new Entry<>(key, view, stamp, now + ttlNanos);
+        synchronized (ring) {
+            admit(fresh, now);
+        }
+        return view;
+    }
+
+    // Memasukkan entri baru ke map dan cincin; jika penuh, jarum CLOCK mencari korban
+    private void admit(Entry<K> fresh, long now) {
+        Entry<K> old = entries.put(fresh.key, fresh);
+        if (old != null && ring[old.slot] == old) {
+            place(fresh, old.slot);
+            return;
+        }
+        if (used < ring.length) {
+            place(fresh, used++);
+            return;
+        }
+        while (true) {
+            Entry<K> victim = ring[hand];
+            if (entries.get(victim.key) != victim) {
+                break; // slot mati (sudah diinvalidasi atau diganti)
+            }
+            if (now - victim.expiresAt >= 0 || !victim.referenced) {
+                entries.remove(victim.key, victim);
+                evictions.increment();
+                break;
+            }
+            victim.referenced = false;
+            hand = (hand + 1) % ring.length;
+        }
+        place(fresh, hand);
+        hand = (hand + 1) % ring.length;
+    }
+
+    private void place(Entry<K> entry, int slot) {
+        ring[slot] = entry;
+        entry.slot = slot;
+    }
+
+    // Membuang tampilan satu key (dipanggil saat data sumbernya berubah)
+    public void invalidate(K key) {
+        if (entries.remove(key) != null) {
+            invalidations.increment();
+        }
+    }
+
+    // Membuang tampilan yang key-nya memenuhi syarat (pindai entri cache, bukan seluruh data)
+    public void invalidateIf(Predicate<? super K> affected) {
+        for (Entry<K> entry : entries.values()) {
+            if (affected.test(entry.key) && entries.remove(entry.key, entry)) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    // Membuang seluruh tampilan (perubahan yang memengaruhi banyak record)
+    public void invalidateAll() {
+        int removed = entries.size();
+        entries.clear();
+        invalidations.add(removed);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+    public long getStaleRenders() { return stale.sum(); }
+    public long getEvictions() { return evictions.sum(); }
+    public long getInvalidations() { return invalidations.sum(); }
+
+    // Rasio hit terhadap seluruh permintaan (0 jika belum ada permintaan)
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum() + stale.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hit %d | miss %d | basi %d | evict %d | invalidasi %d | hit rate %.1f%%",
+                getHits(), getMisses(), getStaleRenders(), getEvictions(), getInvalidations(), getHitRate() * 100);
+    }
+}
@@ -0,0 +1,57 @@
+package library;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TEST BOOK
+ * Perubahan totalCopies harus menjaga copy yang sedang dipinjam, dan setiap setter
+ * yang berhasil mengirim event update.
+ */
+class BookTest {
+
+    @Test
+    void totalBelowCopiesOnLoanIsRejected() {
+        LibraryService service = new LibraryService();
+        Member member = new Member("Budi Santoso", "budi@mail.com", "081234567890", 2020, "Platinum");
+        service.registerMember(member);
+        Book book = new Book("Laskar Pelangi", "Andrea Hirata", "Fiction", 2005, 4);
+        service.registerBook(book);
+        assertNotNull(service.borrow(member, book, "01-01-2025", 7));
+        assertNotNull(service.borrow(member, book, "01-01-2025", 7));
+
+        assertEquals(Outcome.TOTAL_BELOW_ON_LOAN, book.setTotalCopies(1));
+        assertEquals(4, book.getTotalCopies());
+        assertEquals(2, book.getAvailableCopies());
+
+        // Turun ke jumlah yang dipinjam: stok tersedia ikut turun, bukan tertinggal di atas total
+        assertEquals(Outcome.OK, book.setTotalCopies(2));
+        assertEquals(2, book.getTotalCopies());
+        assertEquals(0, book.getAvailableCopies());
+        assertFalse(book.getIsAvailable());
+
+        // Naik: copy baru langsung tersedia
+        assertEquals(Outcome.OK, book.setTotalCopies(5));
+        assertEquals(3, book.getAvailableCopies());
+    }
+
+    @Test
+    void setIsAvailablePublishesUpdate() {
+        LibraryService service = new LibraryService();
+        Book book = new Book("Laskar Pelangi", "Andrea Hirata", "Fiction", 2005, 2);
+        service.registerBook(book);
+        List<LibraryEvent> events = new ArrayList<>();
+        service.getEvents().addListener(events::add);
+        long version = book.getVersion();
+
+        assertEquals(Outcome.OK, book.setIsAvailable(true));
+        assertEquals(1, events.size());
+        assertEquals(Outcome.OK, events.get(0).getOutcome());
+        assertSame(book, events.get(0).getSubject());
+        assertTrue(book.getVersion() > version);
+    }
+}
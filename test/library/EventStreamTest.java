@@ -0,0 +1,104 @@
+package library;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TEST EVENT STREAM
+ * Proyeksi yang terus tertinggal diisi ulang dari titik kompaksi yang dipakai bersama,
+ * tanpa memanggil Seeder (menahan penulis) setiap kali overrun.
+ */
+class EventStreamTest {
+    private static final int CAPACITY = 256;
+    private static final int EVENTS = 20_000;
+
+    @Test
+    void slowProjectionReseedsAtBoundedRate() throws Exception {
+        EventStream[] holder = new EventStream[1];
+        long[] total = new long[1];
+        AtomicLong seedCalls = new AtomicLong();
+        // State penulis: jumlah copy yang sudah dipindahkan, diubah di bawah lock stream
+        EventStream stream = new EventStream(CAPACITY, sink -> {
+            seedCalls.incrementAndGet();
+            synchronized (holder[0]) {
+                sink.accept(new DomainEvent.CopyTransferred(0, (int) total[0]));
+                return holder[0].getLastSequence();
+            }
+        });
+        holder[0] = stream;
+        SumProjection slow = new SumProjection();
+        try (stream) {
+            EventStream.Subscription subscription = stream.subscribe(slow);
+            long started = System.nanoTime();
+            for (int i = 0; i < EVENTS; i++) {
+                synchronized (stream) {
+                    total[0]++;
+                    stream.publish(new DomainEvent.CopyTransferred(0, 1));
+                }
+                if ((i & 63) == 0) {
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200));
+                }
+            }
+            long seconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started);
+            slow.slow = false;
+            assertTrue(stream.awaitProjections(30, TimeUnit.SECONDS));
+
+            assertEquals(EVENTS, slow.sum);
+            assertTrue(subscription.getOverrunCount() > 0, "proyeksi seharusnya tertinggal");
+            // Satu seed awal, lalu paling banyak satu per detik (ditambah satu untuk batas detik)
+            assertTrue(seedCalls.get() <= seconds + 3, "seed " + seedCalls.get() + " dalam " + seconds + " detik");
+            assertEquals(seedCalls.get(), stream.getSeedCount());
+        }
+    }
+
+    @Test
+    void newSubscriptionsShareFreshSeed() throws Exception {
+        AtomicLong seedCalls = new AtomicLong();
+        EventStream stream = new EventStream(CAPACITY, sink -> {
+            seedCalls.incrementAndGet();
+            return -1;
+        });
+        try (stream) {
+            SumProjection first = new SumProjection();
+            SumProjection second = new SumProjection();
+            first.slow = false;
+            second.slow = false;
+            stream.subscribe(first);
+            stream.publish(new DomainEvent.CopyTransferred(0, 5));
+            stream.subscribe(second);
+            assertTrue(stream.awaitProjections(5, TimeUnit.SECONDS));
+            assertEquals(5, first.sum);
+            assertEquals(5, second.sum);
+            assertEquals(1, seedCalls.get());
+        }
+    }
+
+    // Menjumlahkan delta; lambat sampai penulis selesai agar overrun terjadi
+    private static final class SumProjection implements Projection {
+        volatile boolean slow = true;
+        volatile long sum;
+
+        @Override
+        public String getName() {
+            return "sum";
+        }
+
+        @Override
+        public void apply(DomainEvent event) {
+            if (slow) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+            }
+            sum += ((DomainEvent.CopyTransferred) event).getDelta();
+        }
+
+        @Override
+        public void reset() {
+            sum = 0;
+        }
+    }
+}
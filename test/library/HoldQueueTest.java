@@ -0,0 +1,97 @@
+package library;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TEST HOLD QUEUE
+ * Copy yang kembali selagi ada reservasi menunggu harus jatuh ke pemesan terdepan,
+ * walaupun peminjam langsung datang di antara pengembalian dan promosi.
+ */
+class HoldQueueTest {
+
+    // Copy sudah di rak (Transaction.processReturn) tetapi promosi belum berjalan
+    @Test
+    void walkUpBorrowBetweenReturnAndPromoteYieldsToHold() {
+        LibraryService service = new LibraryService();
+        Member borrower = member(service, "Budi Santoso", "budi@mail.com");
+        Member holder = member(service, "Siti Rahma", "siti@mail.com");
+        Member walkUp = member(service, "Andi Wijaya", "andi@mail.com");
+        Book book = new Book("Laskar Pelangi", "Andrea Hirata", "Fiction", 2005, 1);
+        service.registerBook(book);
+
+        Transaction loan = service.borrow(borrower, book, "01-01-2025", 7);
+        HoldQueue.Hold hold = service.placeHold(holder, book);
+        assertNotNull(hold);
+        assertEquals(Outcome.OK, loan.processReturn("05-01-2025"));
+        assertEquals(1, book.getAvailableCopies());
+
+        assertNull(service.borrow(walkUp, book, "05-01-2025", 7));
+        assertEquals(HoldQueue.Status.READY, hold.getStatus());
+        assertEquals(0, book.getAvailableCopies());
+        assertEquals(0, service.getLedger().getOpenLoans(walkUp));
+        assertNotNull(service.checkoutHold(hold, "06-01-2025", 7));
+    }
+
+    // Pengembalian lewat layanan dan peminjam langsung berjalan bersamaan
+    @Test
+    void concurrentReturnAndWalkUpKeepHoldOrder() throws Exception {
+        LibraryService service = new LibraryService();
+        Member borrower = member(service, "Budi Santoso", "budi@mail.com");
+        Member holder = member(service, "Siti Rahma", "siti@mail.com");
+        Member walkUp = member(service, "Andi Wijaya", "andi@mail.com");
+        Book book = new Book("Laskar Pelangi", "Andrea Hirata", "Fiction", 2005, 1);
+        service.registerBook(book);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 500; round++) {
+                Transaction loan = service.borrow(borrower, book, "01-01-2025", 7);
+                assertNotNull(loan);
+                HoldQueue.Hold hold = service.placeHold(holder, book);
+                assertNotNull(hold);
+                CountDownLatch start = new CountDownLatch(1);
+                Future<Outcome> returned = pool.submit(() -> {
+                    start.await();
+                    return service.processReturn(loan, "02-01-2025");
+                });
+                List<Transaction> taken = new ArrayList<>();
+                Future<?> walkUps = pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 50; i++) {
+                        Transaction t = service.borrow(walkUp, book, "02-01-2025", 7);
+                        if (t != null) {
+                            taken.add(t);
+                        }
+                    }
+                    return null;
+                });
+                start.countDown();
+                assertEquals(Outcome.OK, returned.get());
+                walkUps.get();
+
+                assertTrue(taken.isEmpty(), "peminjam langsung mendahului reservasi");
+                assertEquals(HoldQueue.Status.READY, hold.getStatus());
+                Transaction fulfilled = service.checkoutHold(hold, "02-01-2025", 7);
+                assertNotNull(fulfilled);
+                assertEquals(Outcome.OK, service.processReturn(fulfilled, "03-01-2025"));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static Member member(LibraryService service, String name, String email) {
+        Member member = new Member(name, email, "081234567890", 2020, "Platinum");
+        service.registerMember(member);
+        return member;
+    }
+}
@@ -0,0 +1,77 @@
+package library;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TEST LIBRARY SNAPSHOT
+ * Snapshot versi lama harus tetap bisa dibuka oleh versi terbaru.
+ */
+class LibrarySnapshotTest {
+    @TempDir
+    Path dir;
+
+    // Fixture ditulis oleh format versi 4 (panjang string int, pinjaman 20 byte, tanpa arsip):
+    // MBR001 (Gold) meminjam BK001; MBR002 (Silver) mengembalikan BK002 terlambat 3 hari
+    // lalu meminjam BK001; checkpoint diambil setelahnya
+    @Test
+    void restoresVersion4Snapshot() throws IOException {
+        Path journal = copyFixture("snapshot-v4/journal.log");
+        Path snapshot = copyFixture("snapshot-v4/snapshot.bin");
+        assertEquals(4, version(snapshot));
+
+        try (LibraryService service = LibraryService.open(journal, snapshot)) {
+            LibraryRepository repository = service.getRepository();
+            assertEquals(2, repository.getMemberCount());
+            assertEquals(2, repository.getBookCount());
+
+            Member budi = repository.findMember("MBR001");
+            Member siti = repository.findMember("MBR002");
+            assertEquals("Budi Santoso", budi.getName());
+            assertEquals("siti@mail.com", siti.getEmail());
+            assertEquals("Silver", siti.getMembershipType());
+
+            Book laskar = repository.findBook("BK001");
+            Book bumi = repository.findBook("BK002");
+            assertEquals("Laskar Pelangi", laskar.getTitle());
+            assertEquals("Bumi Manusia – Edisi Khusus", bumi.getTitle());
+            assertEquals(1, laskar.getAvailableCopies());
+            assertEquals(2, bumi.getAvailableCopies());
+
+            assertEquals(2, repository.getTransactions().size());
+            for (Transaction t : repository.getTransactions()) {
+                assertFalse(t.isReturned());
+                assertSame(laskar, t.getBook());
+            }
+
+            LibraryStatistics statistics = service.getStatistics();
+            assertEquals(3, statistics.getTotalLoans());
+            assertEquals(2, statistics.getActiveLoans());
+            assertEquals(1, statistics.getLateReturns());
+            assertEquals(540000, statistics.getTotalFeeCents());
+            assertEquals(540000, service.getFees().getOwedCents(siti));
+            assertEquals(0, service.getFees().getOwedCents(budi));
+        }
+    }
+
+    private Path copyFixture(String name) throws IOException {
+        Path target = dir.resolve(name.substring(name.lastIndexOf('/') + 1));
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(name)) {
+            assertNotNull(in, "fixture tidak ditemukan: " + name);
+            Files.copy(in, target);
+        }
+        return target;
+    }
+
+    private static int version(Path snapshot) throws IOException {
+        return ByteBuffer.wrap(Files.readAllBytes(snapshot)).getInt(4);
+    }
+}
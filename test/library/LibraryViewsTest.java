@@ -0,0 +1,83 @@
+package library;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TEST LIBRARY VIEWS
+ * Tampilan ter-cache tidak boleh basi setelah setter, dan perubahan satu entitas hanya
+ * membuang tampilan transaksi yang memuatnya.
+ */
+class LibraryViewsTest {
+
+    // Render yang berjalan saat versi berubah tidak disimpan
+    @Test
+    void renderRacingAnUpdateIsNotCached() {
+        ViewCache<String> cache = new ViewCache<>(16, 60_000);
+        AtomicLong version = new AtomicLong();
+        AtomicInteger renders = new AtomicInteger();
+        String first = cache.get("MBR001", k -> version.get(), k -> {
+            renders.incrementAndGet();
+            // Setter selesai di tengah render: teks ini sudah basi
+            version.incrementAndGet();
+            return "lama";
+        });
+        assertEquals("lama", first);
+        assertEquals(0, cache.size());
+
+        assertEquals("baru", cache.get("MBR001", k -> version.get(), k -> {
+            renders.incrementAndGet();
+            return "baru";
+        }));
+        assertEquals("baru", cache.get("MBR001", k -> version.get(), k -> "tidak dipanggil"));
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    void memberViewFollowsSetter() {
+        LibraryService service = new LibraryService();
+        Member member = new Member("Budi Santoso", "budi@mail.com", "081234567890", 2020, "Gold");
+        service.registerMember(member);
+        LibraryViews views = service.getViews();
+
+        assertTrue(views.member(member).contains("Budi Santoso"));
+        assertEquals(Outcome.OK, member.setName("Budi Hartono"));
+        assertTrue(views.member(member).contains("Budi Hartono"));
+    }
+
+    @Test
+    void editInvalidatesOnlyAffectedTransactions() {
+        LibraryService service = new LibraryService();
+        Member budi = new Member("Budi Santoso", "budi@mail.com", "081234567890", 2020, "Gold");
+        Member siti = new Member("Siti Rahma", "siti@mail.com", "081298765432", 2023, "Silver");
+        Book laskar = new Book("Laskar Pelangi", "Andrea Hirata", "Fiction", 2005, 3);
+        Book bumi = new Book("Bumi Manusia", "Pramoedya Ananta Toer", "History", 1980, 3);
+        service.registerMember(budi);
+        service.registerMember(siti);
+        service.registerBook(laskar);
+        service.registerBook(bumi);
+        Transaction first = service.borrow(budi, laskar, "01-01-2025", 7);
+        Transaction second = service.borrow(siti, bumi, "01-01-2025", 7);
+
+        LibraryViews views = service.getViews();
+        ViewCache<Transaction> cache = views.getTransactionCache();
+        views.transaction(first);
+        views.transaction(second);
+        assertEquals(2, cache.size());
+
+        assertEquals(Outcome.OK, laskar.setTitle("Laskar Pelangi (Cetakan Ulang)"));
+        assertEquals(1, cache.size());
+        assertTrue(views.transaction(first).contains("Cetakan Ulang"));
+
+        long hits = cache.getHits();
+        views.transaction(second);
+        assertEquals(hits + 1, cache.getHits());
+
+        assertEquals(Outcome.OK, siti.setName("Siti Rahmawati"));
+        assertTrue(views.transaction(second).contains("Siti Rahmawati"));
+    }
+}
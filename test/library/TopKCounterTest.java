@@ -0,0 +1,90 @@
+package library;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TEST TOP-K COUNTER
+ * Himpunan kandidat di jalur tulis harus memberi hasil yang sama dengan pengurutan seluruh kunci.
+ */
+class TopKCounterTest {
+    private static final int CAPACITY = 10;
+
+    @Test
+    void topMatchesFullSort() {
+        Random random = new Random(1);
+        for (int round = 0; round < 200; round++) {
+            TopKCounter<Integer> counter = new TopKCounter<>(CAPACITY);
+            Map<Integer, Long> expected = new LinkedHashMap<>();
+            for (int i = 0; i < 2000; i++) {
+                int key = random.nextInt(40);
+                long amount = 1 + random.nextInt(3);
+                counter.increment(key, amount);
+                expected.merge(key, amount, Long::sum);
+            }
+            assertEquals(fullSort(expected, CAPACITY), counter.top(20));
+            assertEquals(fullSort(expected, 3), counter.top(3));
+            assertEquals(fullSort(expected, 1).get(0), counter.first());
+        }
+    }
+
+    @Test
+    void fewerKeysThanCapacity() {
+        TopKCounter<String> counter = new TopKCounter<>(CAPACITY);
+        assertNull(counter.first());
+        counter.increment("Fiction");
+        counter.increment("Science", 2);
+        counter.increment("History");
+        assertEquals(List.of("Science", "Fiction", "History"), counter.top(5));
+        assertEquals(0, counter.count("Poetry"));
+    }
+
+    // Peringkat akhir setelah increment paralel sama dengan hasil urut penuh
+    @Test
+    void concurrentIncrementsKeepExactTop() throws Exception {
+        TopKCounter<Integer> counter = new TopKCounter<>(CAPACITY);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> done = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int seed = t;
+                done.add(pool.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 50_000; i++) {
+                        // Distribusi miring: kunci kecil lebih sering muncul dan saling menyalip
+                        counter.increment(Math.min(random.nextInt(200), random.nextInt(200)));
+                    }
+                }));
+            }
+            for (Future<?> f : done) {
+                f.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        Map<Integer, Long> counts = counter.counts();
+        List<Integer> expected = new ArrayList<>(counts.keySet());
+        expected.sort((a, b) -> Long.compare(counts.get(b), counts.get(a)));
+        List<Integer> top = counter.top(CAPACITY);
+        assertEquals(CAPACITY, top.size());
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals(counts.get(expected.get(i)), counts.get(top.get(i)), "peringkat " + i);
+        }
+    }
+
+    // Urutan acuan: hitungan terbesar, seri dimenangkan kunci yang lebih dulu muncul
+    private static <T> List<T> fullSort(Map<T, Long> counts, int k) {
+        List<T> keys = new ArrayList<>(counts.keySet());
+        List<T> order = new ArrayList<>(keys);
+        order.sort((a, b) -> counts.get(a).equals(counts.get(b))
+                ? Integer.compare(keys.indexOf(a), keys.indexOf(b))
+                : Long.compare(counts.get(b), counts.get(a)));
+        return order.subList(0, Math.min(k, order.size()));
+    }
+}
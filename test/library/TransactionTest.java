@@ -0,0 +1,65 @@
+package library;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TEST TRANSACTION
+ * Pengembalian yang dipanggil bersamaan hanya boleh tercatat sekali.
+ */
+class TransactionTest {
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 1000;
+
+    @Test
+    void concurrentReturnsOfSameLoanSucceedOnce() throws Exception {
+        LibraryService service = new LibraryService();
+        Member member = new Member("Budi Santoso", "budi@mail.com", "081234567890", 2020, "Gold");
+        Book book = new Book("Laskar Pelangi", "Andrea Hirata", "Fiction", 2005, 1);
+        service.registerMember(member);
+        service.registerBook(book);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                Transaction loan = service.borrow(member, book, "01-01-2025", 7);
+                assertNotNull(loan);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Outcome>> returns = new ArrayList<>();
+                for (int t = 0; t < THREADS; t++) {
+                    returns.add(pool.submit(() -> {
+                        start.await();
+                        return service.processReturn(loan, "15-01-2025");
+                    }));
+                }
+                start.countDown();
+                int succeeded = 0;
+                for (Future<Outcome> f : returns) {
+                    Outcome outcome = f.get();
+                    if (outcome == Outcome.OK) {
+                        succeeded++;
+                    } else {
+                        assertEquals(Outcome.ALREADY_RETURNED, outcome);
+                    }
+                }
+                assertEquals(1, succeeded);
+                assertEquals(1, book.getAvailableCopies());
+                assertEquals(0, service.getLedger().getOpenLoans(member));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        LibraryStatistics statistics = service.getStatistics();
+        assertEquals(ROUNDS, statistics.getTotalLoans());
+        assertEquals(0, statistics.getActiveLoans());
+        assertEquals(ROUNDS * Transaction.calculateFeeCents(7, member), service.getFees().getOwedCents(member));
+    }
+}